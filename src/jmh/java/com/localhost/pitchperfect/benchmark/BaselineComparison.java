@@ -0,0 +1,108 @@
+package com.localhost.pitchperfect.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compare a JMH JSON result file with a stored baseline.
+ * Exits with status 1 when any benchmark is slower than the baseline by more than the allowed
+ * percentage. Benchmarks missing from either side are reported but never fail the run, and a
+ * missing baseline file only prints how to create one.
+ * <p>
+ * Usage: {@code BaselineComparison <result.json> <baseline.json> <allowed regression %>}
+ */
+public final class BaselineComparison {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: BaselineComparison <result.json> <baseline.json> <allowed regression %>");
+        }
+        Path resultFile = Path.of(args[0]);
+        Path baselineFile = Path.of(args[1]);
+        double allowedRegression = Double.parseDouble(args[2]) / 100;
+
+        if (!Files.exists(baselineFile)) {
+            System.out.printf("No baseline at %s; copy %s there to record one%n", baselineFile, resultFile);
+            return;
+        }
+
+        List<String> regressions = compare(read(resultFile), read(baselineFile), allowedRegression);
+        if (!regressions.isEmpty()) {
+            System.out.printf("%d benchmark(s) regressed by more than %s%%:%n", regressions.size(), args[2]);
+            regressions.forEach(regression -> System.out.println("  " + regression));
+            System.exit(1);
+        }
+        System.out.println("No benchmark regressed by more than " + args[2] + "%");
+    }
+
+    /**
+     * Compare results with a baseline and print one line per benchmark.
+     *
+     * @param results the current results by benchmark key
+     * @param baseline the baseline results by benchmark key
+     * @param allowedRegression the allowed slowdown as a fraction
+     * @return a description of each benchmark that regressed beyond the allowed slowdown
+     */
+    static List<String> compare(Map<String, Score> results, Map<String, Score> baseline, double allowedRegression) {
+        List<String> regressions = new ArrayList<>();
+        results.forEach((key, score) -> {
+            Score expected = baseline.get(key);
+            if (expected == null) {
+                System.out.printf("%-90s %12.3f %-8s (new)%n", key, score.value(), score.unit());
+                return;
+            }
+            if (!expected.unit().equals(score.unit())) {
+                System.out.printf("%-90s unit changed from %s to %s, skipped%n", key, expected.unit(), score.unit());
+                return;
+            }
+            // Throughput is better when higher, every other mode reports time per operation
+            double slowdown = score.higherIsBetter()
+                    ? (expected.value() - score.value()) / expected.value()
+                    : (score.value() - expected.value()) / expected.value();
+            System.out.printf("%-90s %12.3f %-8s baseline %12.3f %+7.1f%%%n",
+                    key, score.value(), score.unit(), expected.value(), -slowdown * 100);
+            if (slowdown > allowedRegression) {
+                regressions.add(String.format("%s: %.3f %s against %.3f %s", key,
+                        score.value(), score.unit(), expected.value(), expected.unit()));
+            }
+        });
+        baseline.keySet().stream()
+                .filter(key -> !results.containsKey(key))
+                .forEach(key -> System.out.printf("%-90s not run%n", key));
+        return regressions;
+    }
+
+    /**
+     * Read a JMH JSON result file, keyed by benchmark name, parameters and mode.
+     */
+    static Map<String, Score> read(Path file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : OBJECT_MAPPER.readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+            run.path("params").fields()
+                    .forEachRemaining(param -> key.append(':').append(param.getKey()).append('=').append(param.getValue().asText()));
+            String mode = run.path("mode").asText();
+            key.append(" [").append(mode).append(']');
+            JsonNode metric = run.path("primaryMetric");
+            scores.put(key.toString(), new Score(metric.path("score").asDouble(),
+                    metric.path("scoreUnit").asText(), "thrpt".equals(mode)));
+        }
+        return scores;
+    }
+
+    record Score(double value, String unit, boolean higherIsBetter) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.localhost.pitchperfect.benchmark;
+
+import com.localhost.pitchperfect.infrastructure.config.ThreadMode;
+import com.localhost.pitchperfect.infrastructure.websocket.channel.SessionOrderedTaskExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inbound STOMP frames whose handlers block, as chat saves, Redis presence writes and match
+ * writes do, dispatched through the session-ordered channel executor on the default platform
+ * pool and on virtual threads. Each invocation spreads a burst of frames over the sessions and
+ * waits until all of them have been handled. VIRTUAL needs a Java 21 runtime:
+ * mvn -Pbenchmark,java21 verify -Djmh.include=ChannelExecutorBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChannelExecutorBenchmark {
+
+    private static final int FRAMES = 4096;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public ThreadMode threadMode;
+
+    @Param({"1000"})
+    public int sessions;
+
+    @Param({"0", "2"})
+    public long blockingMillis;
+
+    private SessionOrderedTaskExecutor executor;
+    private Message<?>[] messages;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = new SessionOrderedTaskExecutor(threadMode, "benchmark-virtual-");
+        executor.setThreadNamePrefix("benchmark-");
+        executor.initialize();
+        messages = new Message<?>[sessions];
+        for (int i = 0; i < sessions; i++) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setSessionId("session-" + i);
+            accessor.setDestination("/app/chat/room-" + (i % 10));
+            messages[i] = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public void dispatchBlockingFrames() throws InterruptedException {
+        CountDownLatch handled = new CountDownLatch(FRAMES);
+        for (int i = 0; i < FRAMES; i++) {
+            executor.execute(new BlockingFrame(messages[i % sessions], blockingMillis, handled));
+        }
+        handled.await();
+    }
+
+    /**
+     * A channel task whose handler waits as long as a database or Redis call.
+     */
+    private record BlockingFrame(Message<?> message, long blockingMillis, CountDownLatch handled)
+            implements MessageHandlingRunnable {
+
+        @Override
+        public Message<?> getMessage() {
+            return message;
+        }
+
+        @Override
+        public MessageHandler getMessageHandler() {
+            return handledMessage -> { };
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (blockingMillis > 0) {
+                    Thread.sleep(blockingMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                handled.countDown();
+            }
+        }
+    }
+}
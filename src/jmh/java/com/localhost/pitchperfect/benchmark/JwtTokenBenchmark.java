@@ -0,0 +1,86 @@
+package com.localhost.pitchperfect.benchmark;
+
+import com.localhost.pitchperfect.infrastructure.security.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token checks made on every authenticated request and STOMP frame.
+ * The cached benchmarks reuse one token, as a connected client does; the verify benchmarks
+ * cycle through far more tokens than the cache holds, so nearly every call parses and checks
+ * the signature.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenBenchmark {
+
+    private static final String SECRET_KEY = "pitchperfectbenchmarksecretkey12345678901234567890";
+    private static final int TOKEN_COUNT = 4096;
+    private static final int CACHE_SIZE = 16;
+
+    private JwtTokenProvider cachingProvider;
+    private JwtTokenProvider verifyingProvider;
+    private String token;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        cachingProvider = new JwtTokenProvider(new SimpleMeterRegistry(), SECRET_KEY, 3_600_000, 50_000);
+        verifyingProvider = new JwtTokenProvider(new SimpleMeterRegistry(), SECRET_KEY, 3_600_000, CACHE_SIZE);
+        token = cachingProvider.createToken(user("alice"));
+        tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = verifyingProvider.createToken(user("user-" + i));
+        }
+    }
+
+    @Benchmark
+    public boolean validateTokenCached() {
+        return cachingProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUserIdCached() {
+        return cachingProvider.getUserId(token);
+    }
+
+    @Benchmark
+    public boolean validateTokenVerified() {
+        return verifyingProvider.validateToken(nextToken());
+    }
+
+    @Benchmark
+    public String getUserIdVerified() {
+        return verifyingProvider.getUserId(nextToken());
+    }
+
+    private String nextToken() {
+        next = (next + 1) % TOKEN_COUNT;
+        return tokens[next];
+    }
+
+    private static Authentication user(String username) {
+        return new UsernamePasswordAuthenticationToken(username, null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+}
@@ -0,0 +1,84 @@
+package com.localhost.pitchperfect.benchmark;
+
+import com.localhost.pitchperfect.domain.model.Match;
+import com.localhost.pitchperfect.domain.model.MatchEvent;
+import com.localhost.pitchperfect.domain.model.Team;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain operations on the match and team aggregates that run on every live update.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchDomainBenchmark {
+
+    private Team homeTeam;
+    private Team awayTeam;
+    private MatchEvent[] events;
+    private Match match;
+    private UUID firstPlayerId;
+    private UUID lastPlayerId;
+    private UUID unknownPlayerId;
+
+    @Setup
+    public void setUp() {
+        homeTeam = MatchFixtures.team("Home United", "HOM");
+        awayTeam = MatchFixtures.team("Away City", "AWY");
+        events = new MatchEvent[MatchFixtures.EVENT_COUNT];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = MatchFixtures.event(homeTeam, awayTeam, i);
+        }
+        firstPlayerId = homeTeam.getPlayers().get(0).getId();
+        lastPlayerId = homeTeam.getPlayers().get(MatchFixtures.SQUAD_SIZE - 1).getId();
+        unknownPlayerId = UUID.randomUUID();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetMatch() {
+        // Invocation-level setup is only sound for a batch this long; each call adds a full match of events
+        match = MatchFixtures.liveMatch(homeTeam, awayTeam, 0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MatchFixtures.EVENT_COUNT)
+    public Match addEvent() {
+        for (MatchEvent event : events) {
+            event.setMatchId(null);
+            match.addEvent(event);
+        }
+        return match;
+    }
+
+    @Benchmark
+    public boolean hasPlayerWithIdFirst() {
+        return homeTeam.hasPlayerWithId(firstPlayerId);
+    }
+
+    @Benchmark
+    public boolean hasPlayerWithIdLast() {
+        return homeTeam.hasPlayerWithId(lastPlayerId);
+    }
+
+    @Benchmark
+    public boolean hasPlayerWithIdMissing() {
+        return homeTeam.hasPlayerWithId(unknownPlayerId);
+    }
+}
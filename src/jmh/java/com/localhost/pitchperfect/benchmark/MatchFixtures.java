@@ -0,0 +1,93 @@
+package com.localhost.pitchperfect.benchmark;
+
+import com.localhost.pitchperfect.domain.model.Match;
+import com.localhost.pitchperfect.domain.model.MatchEvent;
+import com.localhost.pitchperfect.domain.model.MatchEventType;
+import com.localhost.pitchperfect.domain.model.MatchStatus;
+import com.localhost.pitchperfect.domain.model.Player;
+import com.localhost.pitchperfect.domain.model.Position;
+import com.localhost.pitchperfect.domain.model.Team;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Builders for match aggregates of the size seen in production:
+ * two 22-player squads and a full match worth of events.
+ */
+final class MatchFixtures {
+
+    static final int SQUAD_SIZE = 22;
+    static final int EVENT_COUNT = 100;
+
+    private static final MatchEventType[] IN_PLAY_EVENTS = {
+            MatchEventType.GOAL, MatchEventType.YELLOW_CARD, MatchEventType.SUBSTITUTION, MatchEventType.CORNER
+    };
+
+    private MatchFixtures() {
+    }
+
+    static Team team(String name, String shortName) {
+        List<Player> players = new ArrayList<>(SQUAD_SIZE);
+        for (int i = 0; i < SQUAD_SIZE; i++) {
+            players.add(player(name + " Player " + (i + 1), i));
+        }
+        return Team.restore()
+                .id(UUID.randomUUID())
+                .name(name)
+                .shortName(shortName)
+                .country("England")
+                .logoUrl("https://cdn.pitchperfect.example/logos/" + shortName + ".png")
+                .players(players)
+                .createdAt(LocalDateTime.now().minusYears(1))
+                .updatedAt(LocalDateTime.now().minusDays(1))
+                .build();
+    }
+
+    static Match liveMatch(Team homeTeam, Team awayTeam, int eventCount) {
+        Match match = Match.restore()
+                .id(UUID.randomUUID())
+                .homeTeam(homeTeam)
+                .awayTeam(awayTeam)
+                .venue("Wembley Stadium")
+                .startTime(LocalDateTime.now().minusMinutes(80))
+                .status(MatchStatus.LIVE)
+                .events(List.of())
+                .createdAt(LocalDateTime.now().minusDays(7))
+                .updatedAt(LocalDateTime.now())
+                .build();
+        for (int i = 0; i < eventCount; i++) {
+            match.addEvent(event(homeTeam, awayTeam, i));
+        }
+        return match;
+    }
+
+    static MatchEvent event(Team homeTeam, Team awayTeam, int index) {
+        Team team = index % 2 == 0 ? homeTeam : awayTeam;
+        List<Player> players = team.getPlayers();
+        MatchEvent event = new MatchEvent(IN_PLAY_EVENTS[index % IN_PLAY_EVENTS.length], "Event " + index,
+                players.get(index % players.size()), players.get((index + 1) % players.size()));
+        event.setMatchMinute(index * 90 / EVENT_COUNT + 1);
+        event.setUserId("reporter-" + (index % 3));
+        event.getData().put("team", team.getShortName());
+        return event;
+    }
+
+    private static Player player(String name, int index) {
+        Position[] positions = Position.values();
+        return Player.restore()
+                .id(UUID.randomUUID())
+                .name(name)
+                .dateOfBirth(LocalDate.of(1990 + index % 12, 1 + index % 12, 1 + index % 28))
+                .nationality("England")
+                .position(positions[index % positions.length])
+                .jerseyNumber(String.valueOf(index + 1))
+                .photoUrl("https://cdn.pitchperfect.example/players/" + index + ".png")
+                .createdAt(LocalDateTime.now().minusYears(1))
+                .updatedAt(LocalDateTime.now().minusDays(1))
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.localhost.pitchperfect.benchmark;
+
+import com.localhost.pitchperfect.application.dto.MatchDto;
+import com.localhost.pitchperfect.application.service.MatchMapper;
+import com.localhost.pitchperfect.application.service.MatchMapperImpl;
+import com.localhost.pitchperfect.domain.model.Match;
+import com.localhost.pitchperfect.infrastructure.persistence.MatchEntity;
+import com.localhost.pitchperfect.infrastructure.persistence.MatchPersistenceMapper;
+import com.localhost.pitchperfect.infrastructure.persistence.MatchPersistenceMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of a full match aggregate between the domain, the API and the JPA model.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchMappingBenchmark {
+
+    private final MatchMapper matchMapper = new MatchMapperImpl();
+    private final MatchPersistenceMapper persistenceMapper = new MatchPersistenceMapperImpl();
+    private Match match;
+    private MatchEntity entity;
+
+    @Setup
+    public void setUp() {
+        match = MatchFixtures.liveMatch(MatchFixtures.team("Home United", "HOM"),
+                MatchFixtures.team("Away City", "AWY"), MatchFixtures.EVENT_COUNT);
+        entity = persistenceMapper.toEntity(match);
+    }
+
+    @Benchmark
+    public MatchDto toDto() {
+        return matchMapper.toDto(match);
+    }
+
+    @Benchmark
+    public Match toDomain() {
+        return persistenceMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public MatchEntity toEntity() {
+        return persistenceMapper.toEntity(match);
+    }
+}
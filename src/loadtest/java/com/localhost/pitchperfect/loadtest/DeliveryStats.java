@@ -0,0 +1,80 @@
+package com.localhost.pitchperfect.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Send and delivery counts and delivery latency for one kind of message.
+ * Each message carries a unique key; the time it was due to be sent is kept under that key and
+ * every subscriber that receives it records one latency sample. Timing from the due time rather
+ * than the actual send time keeps a stalled sender from hiding the delay it caused.
+ */
+final class DeliveryStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final String name;
+    private final Map<String, Long> dueAt = new ConcurrentHashMap<>();
+    private final Recorder latency = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder unknown = new LongAdder();
+
+    DeliveryStats(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    void sent(String key, long dueAtNanos) {
+        dueAt.put(key, dueAtNanos);
+        sent.increment();
+    }
+
+    void delivered(String key, long receivedAtNanos) {
+        Long due = key != null ? dueAt.get(key) : null;
+        if (due == null) {
+            unknown.increment();
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(receivedAtNanos - due);
+        latency.recordValue(Math.min(Math.max(micros, 0), HIGHEST_TRACKABLE_MICROS));
+        delivered.increment();
+    }
+
+    /**
+     * Start a new measurement interval, discarding everything recorded so far.
+     */
+    void reset() {
+        latency.getIntervalHistogram();
+        sent.reset();
+        delivered.reset();
+        unknown.reset();
+    }
+
+    /**
+     * Get the latencies, in microseconds, recorded since the last reset.
+     */
+    Histogram latencies() {
+        return latency.getIntervalHistogram();
+    }
+
+    long sentCount() {
+        return sent.sum();
+    }
+
+    long deliveredCount() {
+        return delivered.sum();
+    }
+
+    long unknownCount() {
+        return unknown.sum();
+    }
+}
@@ -0,0 +1,69 @@
+package com.localhost.pitchperfect.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Summary of a load test run, printed to the console and written as JSON.
+ */
+final class LoadTestReport {
+
+    private final Map<String, Object> report = new LinkedHashMap<>();
+
+    LoadTestReport(LoadTestSettings settings, double measuredSeconds) {
+        report.put("settings", settings);
+        report.put("measuredSeconds", round(measuredSeconds));
+    }
+
+    void addDeliveries(DeliveryStats stats, double measuredSeconds) {
+        Histogram latencies = stats.latencies();
+        Map<String, Object> section = new LinkedHashMap<>();
+        section.put("sent", stats.sentCount());
+        section.put("delivered", stats.deliveredCount());
+        section.put("unknownDeliveries", stats.unknownCount());
+        section.put("sentPerSecond", round(stats.sentCount() / measuredSeconds));
+        section.put("deliveredPerSecond", round(stats.deliveredCount() / measuredSeconds));
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("p50", millis(latencies.getValueAtPercentile(50)));
+        latency.put("p99", millis(latencies.getValueAtPercentile(99)));
+        latency.put("p999", millis(latencies.getValueAtPercentile(99.9)));
+        latency.put("max", millis(latencies.getMaxValue()));
+        section.put("latencyMillis", latency);
+        report.put(stats.name(), section);
+    }
+
+    void add(String name, Object value) {
+        report.put(name, value);
+    }
+
+    void print() {
+        System.out.println();
+        System.out.println("Load test results");
+        report.forEach((name, value) -> System.out.printf("  %-20s %s%n", name, value));
+    }
+
+    void write(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), report);
+        System.out.println("Report written to " + file.toAbsolutePath());
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,242 @@
+package com.localhost.pitchperfect.loadtest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.localhost.pitchperfect.PitchPerfectApplication;
+import com.localhost.pitchperfect.application.dto.MatchDto;
+import com.localhost.pitchperfect.application.dto.TeamDto;
+import com.localhost.pitchperfect.application.port.in.MatchUseCase;
+import com.localhost.pitchperfect.application.port.in.TeamUseCase;
+import com.localhost.pitchperfect.infrastructure.security.JwtTokenProvider;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end latency test for the STOMP endpoint.
+ * Starts an embedded Redis and the application with its default H2 database, opens the
+ * configured number of authenticated STOMP sessions spread over live matches and chat rooms,
+ * sends match events and chat messages at fixed rates, and reports delivery latency
+ * percentiles, throughput and heap used per session. Client and server share one JVM, so
+ * latencies are measured on a single clock and the heap figure covers both ends of a session.
+ */
+public final class LoadTestRunner {
+
+    private static final long CONNECT_TIMEOUT_SECONDS = 60;
+
+    private final LoadTestSettings settings;
+    private final ConfigurableApplicationContext application;
+    private final DeliveryStats matchEvents = new DeliveryStats("matchEvents");
+    private final DeliveryStats chatMessages = new DeliveryStats("chatMessages");
+    private final LongAdder presenceUpdates = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicLong keys = new AtomicLong();
+    private volatile boolean sending = true;
+
+    private LoadTestRunner(LoadTestSettings settings, ConfigurableApplicationContext application) {
+        this.settings = settings;
+        this.application = application;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+        // Passed as arguments so they take precedence over application.properties
+        String[] arguments = {
+                "--server.port=0",
+                "--spring.data.redis.host=localhost",
+                "--spring.data.redis.port=" + redisPort,
+                "--spring.jpa.show-sql=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN"
+        };
+        try (ConfigurableApplicationContext application = new SpringApplicationBuilder(PitchPerfectApplication.class)
+                .run(arguments)) {
+            new LoadTestRunner(settings, application).run();
+        } finally {
+            redis.stop();
+        }
+        // Executors of the stopped application may still hold non-daemon threads
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        List<String> matchIds = createLiveMatches();
+        List<String> roomIds = new ArrayList<>();
+        for (int i = 0; i < settings.rooms(); i++) {
+            roomIds.add("loadtest-room-" + i);
+        }
+
+        long heapBefore = usedHeapAfterGc();
+        List<LoadTestSession> sessions = connect(matchIds, roomIds);
+        // Presence updates for the new sessions are flushed within the broadcast window
+        TimeUnit.SECONDS.sleep(1);
+        long heapPerSession = (usedHeapAfterGc() - heapBefore) / sessions.size();
+        System.out.printf("Connected %d sessions, %d bytes of heap per session%n", sessions.size(), heapPerSession);
+
+        List<Thread> senders = List.of(
+                sender("match-event-sender", settings.eventRate(),
+                        (index, dueAt) -> sendMatchEvent(sessions.get(index % sessions.size()), dueAt)),
+                sender("chat-sender", settings.chatRate(),
+                        (index, dueAt) -> sendChatMessage(sessions.get(index % sessions.size()), dueAt)));
+
+        TimeUnit.SECONDS.sleep(settings.warmupSeconds());
+        matchEvents.reset();
+        chatMessages.reset();
+        errors.reset();
+        long start = System.nanoTime();
+        TimeUnit.SECONDS.sleep(settings.durationSeconds());
+        sending = false;
+        double measuredSeconds = (System.nanoTime() - start) / 1e9;
+        for (Thread sender : senders) {
+            sender.join();
+        }
+        // Let in-flight deliveries arrive before reading the totals
+        TimeUnit.SECONDS.sleep(2);
+
+        LoadTestReport report = new LoadTestReport(settings, measuredSeconds);
+        report.addDeliveries(matchEvents, measuredSeconds);
+        report.addDeliveries(chatMessages, measuredSeconds);
+        // Presence changes when sessions connect and subscribe, so this counts the whole run
+        report.add("presenceUpdates", presenceUpdates.sum());
+        report.add("heapBytesPerSession", heapPerSession);
+        report.add("errors", errors.sum());
+        report.print();
+        report.write(settings.result());
+
+        // Close the sessions while the application is still up, so it can clean them up
+        sessions.forEach(LoadTestSession::disconnect);
+        TimeUnit.SECONDS.sleep(1);
+    }
+
+    private List<String> createLiveMatches() {
+        TeamUseCase teamUseCase = application.getBean(TeamUseCase.class);
+        MatchUseCase matchUseCase = application.getBean(MatchUseCase.class);
+        List<String> matchIds = new ArrayList<>();
+        for (int i = 0; i < settings.matches(); i++) {
+            String suffix = Integer.toString(i, 36).toUpperCase();
+            TeamDto home = teamUseCase.createTeam("Home " + suffix, "H" + suffix, "England", null);
+            TeamDto away = teamUseCase.createTeam("Away " + suffix, "A" + suffix, "England", null);
+            MatchDto match = matchUseCase.createMatch(home.getId(), away.getId(), "Stadium " + suffix,
+                    LocalDateTime.now().plusMinutes(1));
+            matchUseCase.startMatch(match.getId());
+            matchIds.add(match.getId().toString());
+        }
+        return matchIds;
+    }
+
+    private List<LoadTestSession> connect(List<String> matchIds, List<String> roomIds) throws Exception {
+        JwtTokenProvider jwtTokenProvider = application.getBean(JwtTokenProvider.class);
+        int port = ((WebServerApplicationContext) application).getWebServer().getPort();
+        String url = "ws://localhost:" + port + "/ws/websocket";
+
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+        client.setMessageConverter(converter);
+        client.setDefaultHeartbeat(new long[] {0, 0});
+
+        List<LoadTestSession> sessions = new ArrayList<>();
+        List<CompletableFuture<?>> connected = new ArrayList<>();
+        for (int i = 0; i < settings.sessions(); i++) {
+            LoadTestSession session = new LoadTestSession(matchIds.get(i % matchIds.size()),
+                    roomIds.get(i % roomIds.size()), matchEvents, chatMessages, presenceUpdates, errors);
+            String token = jwtTokenProvider.createToken(new UsernamePasswordAuthenticationToken(
+                    "loadtest-user-" + i, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add("Authorization", "Bearer " + token);
+            connected.add(client.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders, session));
+            sessions.add(session);
+        }
+        CompletableFuture.allOf(connected.toArray(CompletableFuture[]::new))
+                .get(CONNECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        return sessions;
+    }
+
+    private void sendMatchEvent(LoadTestSession session, long dueAt) {
+        String key = "loadtest-" + keys.incrementAndGet();
+        matchEvents.sent(key, dueAt);
+        session.send("/app/matches/" + session.matchId() + "/events",
+                Map.of("type", "CORNER", "description", "Load test corner", "idempotencyKey", key));
+    }
+
+    private void sendChatMessage(LoadTestSession session, long dueAt) {
+        String key = "loadtest-" + keys.incrementAndGet();
+        chatMessages.sent(key, dueAt);
+        session.send("/app/chat/" + session.roomId(), Map.of("id", key, "content", "Load test message " + key));
+    }
+
+    /**
+     * Start a thread that sends at a fixed rate, rotating through the sessions.
+     * Sends are scheduled ahead of time; when the thread falls behind it catches up without
+     * pausing, and each message keeps the time it was due.
+     */
+    private Thread sender(String name, int rate, Send send) {
+        Thread thread = new Thread(() -> {
+            if (rate == 0) {
+                return;
+            }
+            long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+            long dueAt = System.nanoTime();
+            for (int index = 0; sending; index++) {
+                long wait = dueAt - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                send.send(index, dueAt);
+                dueAt += interval;
+            }
+        }, name);
+        thread.start();
+        return thread;
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            TimeUnit.MILLISECONDS.sleep(200);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Send {
+        void send(int index, long dueAt);
+    }
+}
@@ -0,0 +1,125 @@
+package com.localhost.pitchperfect.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * One simulated client: a STOMP session subscribed to a match, a chat room and the room's presence.
+ */
+@Slf4j
+final class LoadTestSession extends StompSessionHandlerAdapter {
+
+    private final String matchId;
+    private final String roomId;
+    private final DeliveryStats matchEvents;
+    private final DeliveryStats chatMessages;
+    private final LongAdder presenceUpdates;
+    private final LongAdder errors;
+    private volatile StompSession session;
+
+    LoadTestSession(String matchId, String roomId, DeliveryStats matchEvents, DeliveryStats chatMessages,
+                    LongAdder presenceUpdates, LongAdder errors) {
+        this.matchId = matchId;
+        this.roomId = roomId;
+        this.matchEvents = matchEvents;
+        this.chatMessages = chatMessages;
+        this.presenceUpdates = presenceUpdates;
+        this.errors = errors;
+    }
+
+    @Override
+    public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+        this.session = session;
+        session.subscribe("/topic/matches/" + matchId, new DeliveryHandler(matchEvents, payload -> payload.path("idempotencyKey").asText(null)));
+        session.subscribe("/topic/chat/" + roomId, new DeliveryHandler(chatMessages, payload -> payload.path("id").asText(null)));
+        session.subscribe("/topic/presence/" + roomId, new PresenceHandler());
+    }
+
+    @Override
+    public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                byte[] payload, Throwable exception) {
+        errors.increment();
+        log.debug("Error handling {} frame", command, exception);
+    }
+
+    @Override
+    public void handleTransportError(StompSession session, Throwable exception) {
+        errors.increment();
+        log.debug("Transport error in session {}", session.getSessionId(), exception);
+    }
+
+    /**
+     * Send a frame; the underlying WebSocket session accepts one writer at a time.
+     */
+    void send(String destination, Object payload) {
+        StompSession current = session;
+        if (current == null || !current.isConnected()) {
+            errors.increment();
+            return;
+        }
+        synchronized (this) {
+            current.send(destination, payload);
+        }
+    }
+
+    String matchId() {
+        return matchId;
+    }
+
+    String roomId() {
+        return roomId;
+    }
+
+    void disconnect() {
+        StompSession current = session;
+        if (current != null && current.isConnected()) {
+            synchronized (this) {
+                current.disconnect();
+            }
+        }
+    }
+
+    private final class DeliveryHandler implements StompFrameHandler {
+
+        private final DeliveryStats stats;
+        private final Function<JsonNode, String> key;
+
+        private DeliveryHandler(DeliveryStats stats, Function<JsonNode, String> key) {
+            this.stats = stats;
+            this.key = key;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return JsonNode.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            long receivedAt = System.nanoTime();
+            stats.delivered(key.apply((JsonNode) payload), receivedAt);
+        }
+    }
+
+    private final class PresenceHandler implements StompFrameHandler {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return JsonNode.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            presenceUpdates.increment();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.localhost.pitchperfect.loadtest;
+
+import java.nio.file.Path;
+
+/**
+ * Settings for a load test run, read from {@code loadtest.*} system properties.
+ *
+ * @param sessions number of STOMP sessions to open
+ * @param matches number of live matches the sessions are spread over
+ * @param rooms number of chat rooms the sessions are spread over
+ * @param eventRate match events sent per second, across all matches
+ * @param chatRate chat messages sent per second, across all rooms
+ * @param warmupSeconds seconds of load before measuring starts
+ * @param durationSeconds seconds of measured load
+ * @param result file the JSON report is written to
+ */
+record LoadTestSettings(int sessions, int matches, int rooms, int eventRate, int chatRate,
+                        int warmupSeconds, int durationSeconds, Path result) {
+
+    LoadTestSettings {
+        if (sessions < 1 || matches < 1 || rooms < 1) {
+            throw new IllegalArgumentException("Sessions, matches and rooms must be at least 1");
+        }
+        if (eventRate < 0 || chatRate < 0 || warmupSeconds < 0 || durationSeconds < 1) {
+            throw new IllegalArgumentException("Rates and warmup must not be negative and the duration must be at least 1 second");
+        }
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.sessions", 500),
+                Integer.getInteger("loadtest.matches", 10),
+                Integer.getInteger("loadtest.rooms", 10),
+                Integer.getInteger("loadtest.event-rate", 200),
+                Integer.getInteger("loadtest.chat-rate", 200),
+                Integer.getInteger("loadtest.warmup-seconds", 10),
+                Integer.getInteger("loadtest.duration-seconds", 30),
+                Path.of(System.getProperty("loadtest.result", "target/loadtest-result.json")));
+    }
+}
@@ -0,0 +1,36 @@
+package com.localhost.pitchperfect.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Compact live state of a match as kept by the scoreboard.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiveScoreDto {
+    private UUID matchId;
+    private String status;
+    private int homeScore;
+    private int awayScore;
+    private long lastEventSequence;
+    
+    /**
+     * The match minute when the entry last changed.
+     */
+    private int minute;
+    
+    /**
+     * Scoreboard version at which the entry last changed.
+     */
+    private long version;
+    
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,29 @@
+package com.localhost.pitchperfect.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the live scoreboard or the changes to it since a version.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiveScoreboardDto {
+    
+    /**
+     * The scoreboard version this response is current to; pass it as sinceVersion next time.
+     */
+    private long version;
+    
+    /**
+     * True if scores holds every entry and replaces the client's state, false if it only
+     * holds the entries that changed since the requested version.
+     */
+    private boolean full;
+    
+    private List<LiveScoreDto> scores;
+}
@@ -0,0 +1,29 @@
+package com.localhost.pitchperfect.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for a match clock tick, published when the minute of play changes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchClockDto {
+    private UUID matchId;
+    private String period;
+    private int minute;
+    
+    /**
+     * Minute of stoppage time, so 90+3 is minute 90 with addedMinute 3.
+     */
+    private int addedMinute;
+    
+    private LocalDateTime timestamp;
+}
@@ -26,6 +26,7 @@ public class MatchDto {
     private int homeScore;
     private int awayScore;
     private List<MatchEventDto> events;
+    private long lastEventSequence;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
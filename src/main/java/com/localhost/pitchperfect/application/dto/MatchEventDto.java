@@ -25,5 +25,13 @@ public class MatchEventDto {
     private PlayerDto secondaryPlayer;
     private LocalDateTime timestamp;
     private int matchMinute;
+    private int addedMinute;
+    private long sequence;
+    
+    /**
+     * Optional client-supplied key; resubmitting an event with the same key for the same match
+     * does not record it again.
+     */
+    private String idempotencyKey;
     private Map<String, String> data = new HashMap<>();
 }
@@ -0,0 +1,26 @@
+package com.localhost.pitchperfect.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Optional criteria for match listings. Unset criteria match everything.
+ */
+@Getter
+@Builder
+public class MatchFilter {
+    private final String status;
+    private final LocalDateTime startTimeFrom;
+    private final LocalDateTime startTimeTo;
+    private final UUID teamId;
+
+    /**
+     * Get a filter that matches every match.
+     */
+    public static MatchFilter all() {
+        return MatchFilter.builder().build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.localhost.pitchperfect.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of matches ordered by start time and ID.
+ * Pass nextCursor back to get the following page; it is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchPageDto {
+    private List<MatchDto> items;
+    private String nextCursor;
+}
@@ -0,0 +1,31 @@
+package com.localhost.pitchperfect.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lightweight view of a match for listings: teams, score and status, without events or players.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchSummaryDto {
+    private UUID id;
+    private UUID homeTeamId;
+    private String homeTeamName;
+    private String homeTeamShortName;
+    private UUID awayTeamId;
+    private String awayTeamName;
+    private String awayTeamShortName;
+    private int homeScore;
+    private int awayScore;
+    private String status;
+    private String venue;
+    private LocalDateTime startTime;
+}
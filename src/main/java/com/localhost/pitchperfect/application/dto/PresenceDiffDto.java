@@ -0,0 +1,43 @@
+package com.localhost.pitchperfect.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Data Transfer Object for a batch of presence changes on one destination.
+ * Each user appears at most once, with the last transition seen in the window.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresenceDiffDto {
+    
+    /**
+     * IDs of users who came online or joined since the previous frame.
+     */
+    private List<String> joined;
+    
+    /**
+     * IDs of users who went offline or left since the previous frame.
+     */
+    private List<String> left;
+    
+    /**
+     * Number of joined users in this frame.
+     */
+    private int joinedCount;
+    
+    /**
+     * Number of left users in this frame.
+     */
+    private int leftCount;
+    
+    /**
+     * The timestamp when the frame was published.
+     */
+    private Instant timestamp;
+}
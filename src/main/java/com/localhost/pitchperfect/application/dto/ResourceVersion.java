@@ -0,0 +1,42 @@
+package com.localhost.pitchperfect.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Validator for a resource or listing, read without loading the data itself.
+ * Any insert, update or delete among the underlying rows changes either the count or the
+ * latest modification time, so two equal versions describe the same content.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceVersion {
+
+    /**
+     * Number of rows (and events) the representation is built from.
+     */
+    private long count;
+
+    /**
+     * Latest modification time among those rows, or null if there are none.
+     */
+    private LocalDateTime lastModified;
+
+    /**
+     * Combine with the version of other data that is part of the same representation.
+     *
+     * @param other the version of the other data
+     * @return a version that changes whenever either of the two changes
+     */
+    public ResourceVersion and(ResourceVersion other) {
+        LocalDateTime latest = lastModified;
+        if (latest == null || (other.lastModified != null && other.lastModified.isAfter(latest))) {
+            latest = other.lastModified;
+        }
+        return new ResourceVersion(count + other.count, latest);
+    }
+}
@@ -1,11 +1,18 @@
 package com.localhost.pitchperfect.application.port.in;
 
+import com.localhost.pitchperfect.application.dto.LiveScoreboardDto;
 import com.localhost.pitchperfect.application.dto.MatchDto;
 import com.localhost.pitchperfect.application.dto.MatchEventDto;
+import com.localhost.pitchperfect.application.dto.MatchFilter;
+import com.localhost.pitchperfect.application.dto.MatchPageDto;
+import com.localhost.pitchperfect.application.dto.MatchSummaryDto;
+import com.localhost.pitchperfect.application.dto.MatchSummaryPageDto;
+import com.localhost.pitchperfect.application.dto.ResourceVersion;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Input port for match-related use cases.
@@ -53,6 +60,50 @@ public interface MatchUseCase {
      */
     List<MatchDto> getMatchesByTeam(UUID teamId);
     
+    /**
+     * Get one page of matches ordered by start time and ID.
+     *
+     * @param filter the criteria to match
+     * @param cursor the nextCursor of the previous page, or null for the first page
+     * @param limit the maximum number of matches in the page
+     * @return the page of matches
+     */
+    MatchPageDto getMatchesPage(MatchFilter filter, String cursor, int limit);
+    
+    /**
+     * Stream all matches ordered by start time and ID, handing each to the consumer as it is read.
+     *
+     * @param filter the criteria to match
+     * @param consumer receives each match
+     */
+    void streamMatches(MatchFilter filter, Consumer<MatchDto> consumer);
+    
+    /**
+     * Get summaries of all matches ordered by start time and ID, without events or players.
+     *
+     * @param filter the criteria to match
+     * @return the match summaries
+     */
+    List<MatchSummaryDto> getMatchSummaries(MatchFilter filter);
+    
+    /**
+     * Get one page of match summaries ordered by start time and ID.
+     *
+     * @param filter the criteria to match
+     * @param cursor the nextCursor of the previous page, or null for the first page
+     * @param limit the maximum number of summaries in the page
+     * @return the page of summaries
+     */
+    MatchSummaryPageDto getMatchSummariesPage(MatchFilter filter, String cursor, int limit);
+    
+    /**
+     * Stream match summaries ordered by start time and ID, handing each to the consumer as it is read.
+     *
+     * @param filter the criteria to match
+     * @param consumer receives each summary
+     */
+    void streamMatchSummaries(MatchFilter filter, Consumer<MatchSummaryDto> consumer);
+    
     /**
      * Create a new match.
      *
@@ -106,9 +157,11 @@ public interface MatchUseCase {
      * @param scorerId the scorer ID
      * @param assistantId the assistant ID (can be null)
      * @param isHomeTeam whether the goal is for the home team
-     * @return the updated match DTO
+     * @param idempotencyKey client-supplied key; a goal already recorded with this key is not
+     *        added again (can be null)
+     * @return the updated match DTO, or the current one if the goal was a duplicate
      */
-    MatchDto addGoal(UUID matchId, UUID scorerId, UUID assistantId, boolean isHomeTeam);
+    MatchDto addGoal(UUID matchId, UUID scorerId, UUID assistantId, boolean isHomeTeam, String idempotencyKey);
     
     /**
      * Get events for a match.
@@ -118,13 +171,51 @@ public interface MatchUseCase {
      */
     List<MatchEventDto> getMatchEvents(UUID matchId);
     
+    /**
+     * Get events for a match starting at a sequence number, so clients can resume.
+     *
+     * @param matchId the match ID
+     * @param fromSequence the first sequence number to return (inclusive)
+     * @param limit the maximum number of events to return
+     * @return a list of match event DTOs in sequence order
+     */
+    List<MatchEventDto> getMatchEvents(UUID matchId, long fromSequence, int limit);
+    
     /**
      * Process a match event.
+     * An event whose idempotency key was already recorded for the match is ignored, so a
+     * retried submission changes nothing and is not broadcast again.
      *
      * @param matchId the match ID
      * @param eventDto the match event DTO
      * @param userId the user ID
-     * @return the processed match event DTO
+     * @return the processed match event DTO, or null if the event is a duplicate
      */
     MatchEventDto processMatchEvent(String matchId, MatchEventDto eventDto, String userId);
+    
+    /**
+     * Get the version of a match and its events without loading or serializing the match.
+     * Live matches held by the engine are versioned from memory.
+     *
+     * @param matchId the match ID
+     * @return the version
+     */
+    ResourceVersion getMatchVersion(UUID matchId);
+    
+    /**
+     * Get the combined version of the matches a filter selects, without loading them.
+     *
+     * @param filter the criteria to match
+     * @return the version
+     */
+    ResourceVersion getMatchesVersion(MatchFilter filter);
+    
+    /**
+     * Get the live scoreboard, or only the entries that changed since a scoreboard version.
+     * Served from memory without loading matches.
+     *
+     * @param sinceVersion the version returned by the previous call, or null for the whole board
+     * @return the board or the changes to it
+     */
+    LiveScoreboardDto getLiveScores(Long sinceVersion);
 }
@@ -1,6 +1,7 @@
 package com.localhost.pitchperfect.application.port.in;
 
 import com.localhost.pitchperfect.application.dto.PlayerDto;
+import com.localhost.pitchperfect.application.dto.ResourceVersion;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -84,4 +85,27 @@ public interface PlayerUseCase {
      * @return the updated player DTO
      */
     PlayerDto setPlayerPhoto(UUID playerId, String photoUrl);
+    
+    /**
+     * Get the version of a player without loading it.
+     *
+     * @param playerId the player ID
+     * @return the version
+     */
+    ResourceVersion getPlayerVersion(UUID playerId);
+    
+    /**
+     * Get the version of the players of a team without loading them.
+     *
+     * @param teamId the team ID
+     * @return the version
+     */
+    ResourceVersion getPlayersByTeamVersion(UUID teamId);
+    
+    /**
+     * Get the version of all players without loading them.
+     *
+     * @return the version
+     */
+    ResourceVersion getPlayersVersion();
 }
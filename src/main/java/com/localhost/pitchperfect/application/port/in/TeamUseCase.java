@@ -2,6 +2,7 @@ package com.localhost.pitchperfect.application.port.in;
 
 import com.localhost.pitchperfect.application.dto.TeamDto;
 import com.localhost.pitchperfect.application.dto.PlayerDto;
+import com.localhost.pitchperfect.application.dto.ResourceVersion;
 
 import java.util.List;
 import java.util.UUID;
@@ -83,4 +84,19 @@ public interface TeamUseCase {
      * @return a list of player DTOs
      */
     List<PlayerDto> getTeamPlayers(UUID teamId);
+    
+    /**
+     * Get the version of a team and its squad without loading them.
+     *
+     * @param teamId the team ID
+     * @return the version
+     */
+    ResourceVersion getTeamVersion(UUID teamId);
+    
+    /**
+     * Get the version of all teams and squads without loading them.
+     *
+     * @return the version
+     */
+    ResourceVersion getTeamsVersion();
 }
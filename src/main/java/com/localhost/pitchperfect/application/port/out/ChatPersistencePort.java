@@ -2,6 +2,8 @@ package com.localhost.pitchperfect.application.port.out;
 
 import com.localhost.pitchperfect.application.dto.ChatMessageDto;
 
+import java.util.Optional;
+
 /**
  * Port for chat persistence operations.
  * This interface defines operations for storing and retrieving chat messages.
@@ -17,6 +19,14 @@ public interface ChatPersistencePort {
      */
     ChatMessageDto saveMessage(String roomId, ChatMessageDto message);
     
+    /**
+     * Retrieves the username and avatar of a message sender in a single lookup.
+     *
+     * @param userId the ID of the user
+     * @return an Optional containing the sender profile, or empty if the user does not exist
+     */
+    Optional<ChatMessageDto.SenderDto> findSenderProfile(String userId);
+    
     /**
      * Retrieves a username by user ID.
      *
@@ -0,0 +1,42 @@
+package com.localhost.pitchperfect.application.port.out;
+
+import com.localhost.pitchperfect.domain.model.MatchEvent;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Output port for the append-only match event log.
+ * Events are only ever inserted, each carrying a per-match sequence number assigned by the
+ * match when the event was added, so readers can resume from the last sequence they saw.
+ */
+public interface MatchEventStorePort {
+    
+    /**
+     * Append events to the log of a match.
+     * The events must already carry their sequence numbers; a sequence that was already
+     * written for the match is rejected.
+     *
+     * @param matchId the match ID
+     * @param events the events to append, in sequence order
+     */
+    void append(UUID matchId, List<MatchEvent> events);
+    
+    /**
+     * Read events of a match starting at the given sequence number.
+     *
+     * @param matchId the match ID
+     * @param fromSequence the first sequence number to return (inclusive)
+     * @param limit the maximum number of events to return
+     * @return the events in sequence order
+     */
+    List<MatchEvent> readFrom(UUID matchId, long fromSequence, int limit);
+    
+    /**
+     * Get the highest sequence number written for a match.
+     *
+     * @param matchId the match ID
+     * @return the last sequence number, or 0 if the match has no events
+     */
+    long getLastSequence(UUID matchId);
+}
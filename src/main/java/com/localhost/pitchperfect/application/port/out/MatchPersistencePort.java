@@ -1,11 +1,16 @@
 package com.localhost.pitchperfect.application.port.out;
 
+import com.localhost.pitchperfect.application.dto.MatchFilter;
+import com.localhost.pitchperfect.application.dto.MatchSummaryDto;
+import com.localhost.pitchperfect.application.dto.ResourceVersion;
 import com.localhost.pitchperfect.domain.model.Match;
+import com.localhost.pitchperfect.domain.model.MatchDelta;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Output port for match persistence operations.
@@ -53,6 +58,62 @@ public interface MatchPersistencePort {
      */
     List<Match> findByTeamId(UUID teamId);
     
+    /**
+     * Find a page of matches ordered by start time and ID, starting after the given position.
+     *
+     * @param filter the criteria to match
+     * @param afterStartTime the start time of the last match of the previous page, or null for the first page
+     * @param afterId the ID of the last match of the previous page, or null for the first page
+     * @param limit the maximum number of matches to return
+     * @return the matches, in start time and ID order
+     */
+    List<Match> findPage(MatchFilter filter, LocalDateTime afterStartTime, UUID afterId, int limit);
+    
+    /**
+     * Stream all matches ordered by start time and ID without loading them all into memory.
+     * Must be consumed and closed inside a transaction.
+     *
+     * @param filter the criteria to match
+     * @return a stream of matches that holds a database cursor until closed
+     */
+    Stream<Match> streamAll(MatchFilter filter);
+    
+    /**
+     * Find a page of match summaries ordered by start time and ID, reading only match and team columns.
+     *
+     * @param filter the criteria to match
+     * @param afterStartTime the start time of the last match of the previous page, or null for the first page
+     * @param afterId the ID of the last match of the previous page, or null for the first page
+     * @param limit the maximum number of summaries to return
+     * @return the summaries, in start time and ID order
+     */
+    List<MatchSummaryDto> findSummaryPage(MatchFilter filter, LocalDateTime afterStartTime, UUID afterId, int limit);
+    
+    /**
+     * Stream match summaries ordered by start time and ID, reading only match and team columns.
+     * Must be consumed and closed inside a transaction.
+     *
+     * @param filter the criteria to match
+     * @return a stream of summaries that holds a database cursor until closed
+     */
+    Stream<MatchSummaryDto> streamSummaries(MatchFilter filter);
+    
+    /**
+     * Read the version of a match and its event log without loading them.
+     *
+     * @param id the match ID
+     * @return an Optional containing the version if the match exists, or empty if not found
+     */
+    Optional<ResourceVersion> findVersion(UUID id);
+    
+    /**
+     * Read the combined version of the matches a filter selects, without loading them.
+     *
+     * @param filter the criteria to match
+     * @return the version of the selected matches
+     */
+    ResourceVersion findVersion(MatchFilter filter);
+    
     /**
      * Save a match.
      *
@@ -61,6 +122,17 @@ public interface MatchPersistencePort {
      */
     Match save(Match match);
     
+    /**
+     * Persist the incremental changes of a match.
+     * Updates the scalar match state and inserts only the newly appended events,
+     * without loading or rewriting the rest of the aggregate.
+     *
+     * @param delta the changes to persist
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the stored match no
+     *         longer has the version the delta applies to
+     */
+    void saveDelta(MatchDelta delta);
+    
     /**
      * Delete a match.
      *
@@ -1,5 +1,6 @@
 package com.localhost.pitchperfect.application.port.out;
 
+import com.localhost.pitchperfect.application.dto.ResourceVersion;
 import com.localhost.pitchperfect.domain.model.Player;
 import com.localhost.pitchperfect.domain.model.Position;
 
@@ -52,6 +53,29 @@ public interface PlayerPersistencePort {
      */
     List<Player> findByNationality(String nationality);
     
+    /**
+     * Read the version of a player without loading it.
+     *
+     * @param id the player ID
+     * @return an Optional containing the version if the player exists, or empty if not found
+     */
+    Optional<ResourceVersion> findVersion(UUID id);
+    
+    /**
+     * Read the version of the players of a team without loading them.
+     *
+     * @param teamId the team ID
+     * @return the version of the team's players
+     */
+    ResourceVersion findVersionByTeamId(UUID teamId);
+    
+    /**
+     * Read the version of all players without loading them.
+     *
+     * @return the version of the player table
+     */
+    ResourceVersion findVersion();
+    
     /**
      * Save a player.
      *
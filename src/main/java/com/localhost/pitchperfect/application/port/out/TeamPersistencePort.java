@@ -1,5 +1,6 @@
 package com.localhost.pitchperfect.application.port.out;
 
+import com.localhost.pitchperfect.application.dto.ResourceVersion;
 import com.localhost.pitchperfect.domain.model.Team;
 
 import java.util.List;
@@ -43,6 +44,21 @@ public interface TeamPersistencePort {
      */
     Optional<Team> findByName(String name);
     
+    /**
+     * Read the version of a team and its squad without loading them.
+     *
+     * @param id the team ID
+     * @return an Optional containing the version if the team exists, or empty if not found
+     */
+    Optional<ResourceVersion> findVersion(UUID id);
+    
+    /**
+     * Read the version of all teams and squads without loading them.
+     *
+     * @return the version of the team and player tables
+     */
+    ResourceVersion findVersion();
+    
     /**
      * Save a team.
      *
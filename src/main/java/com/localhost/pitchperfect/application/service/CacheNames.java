@@ -0,0 +1,32 @@
+package com.localhost.pitchperfect.application.service;
+
+import java.util.List;
+
+/**
+ * Names of the read-through caches used by the application services.
+ */
+public final class CacheNames {
+
+    /** Single teams by ID, including their squads. */
+    public static final String TEAMS = "teams";
+
+    /** Team listings, keyed by the query that produced them. */
+    public static final String TEAM_LISTS = "teamLists";
+
+    /** Squads by team ID. */
+    public static final String TEAM_PLAYERS = "teamPlayers";
+
+    /** Single players by ID. */
+    public static final String PLAYERS = "players";
+
+    /** Player listings, keyed by the query that produced them. */
+    public static final String PLAYER_LISTS = "playerLists";
+
+    /** Versions of the team and player tables, used to answer conditional requests. */
+    public static final String VERSIONS = "versions";
+
+    public static final List<String> ALL = List.of(TEAMS, TEAM_LISTS, TEAM_PLAYERS, PLAYERS, PLAYER_LISTS, VERSIONS);
+
+    private CacheNames() {
+    }
+}
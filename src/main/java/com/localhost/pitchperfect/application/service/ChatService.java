@@ -3,7 +3,6 @@ package com.localhost.pitchperfect.application.service;
 import com.localhost.pitchperfect.application.dto.ChatMessageDto;
 import com.localhost.pitchperfect.application.port.in.ChatUseCase;
 import com.localhost.pitchperfect.application.port.out.ChatPersistencePort;
-import com.localhost.pitchperfect.domain.event.DomainEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,7 +20,7 @@ import java.util.UUID;
 public class ChatService implements ChatUseCase {
 
     private final ChatPersistencePort chatPersistencePort;
-    private final DomainEventPublisher eventPublisher;
+    private final SenderProfileCache senderProfileCache;
 
     @Override
     public ChatMessageDto processAndSaveMessage(String roomId, ChatMessageDto message, String userId) {
@@ -35,17 +34,11 @@ public class ChatService implements ChatUseCase {
         }
         
         // Set sender information
-        String username = getUsernameById(userId);
-        String avatar = chatPersistencePort.getUserAvatarById(userId);
+        message.setSender(senderProfileCache.get(userId));
         
-        message.setSender(new ChatMessageDto.SenderDto(userId, username, avatar));
-        
-        // Save the message
+        // Save the message; the persistence adapter records chat.message.created in the outbox
         ChatMessageDto savedMessage = chatPersistencePort.saveMessage(roomId, message);
         
-        // Publish domain event for the new message
-        eventPublisher.publish("chat.message.created", savedMessage);
-        
         log.debug("Processed and saved chat message: {} in room: {}", message.getId(), roomId);
         
         return savedMessage;
@@ -53,6 +46,6 @@ public class ChatService implements ChatUseCase {
 
     @Override
     public String getUsernameById(String userId) {
-        return chatPersistencePort.getUsernameById(userId);
+        return senderProfileCache.get(userId).getUsername();
     }
 }
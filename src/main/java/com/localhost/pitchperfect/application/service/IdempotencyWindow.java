@@ -0,0 +1,81 @@
+package com.localhost.pitchperfect.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.localhost.pitchperfect.domain.model.Match;
+import com.localhost.pitchperfect.domain.model.MatchDelta;
+import com.localhost.pitchperfect.domain.model.MatchEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bounded window of the idempotency keys recently stored per match.
+ * A retried event is recognized with a single lookup; keys that have left the window, or whose
+ * event is not written yet, are still found on the events of the match, and the unique index on
+ * (match_id, idempotency_key) rejects anything that slips past both. Keys only enter the window
+ * once their event has been written, so the retry of an event whose write was dropped is
+ * applied again.
+ */
+@Component
+public class IdempotencyWindow {
+
+    static final int MAX_KEY_LENGTH = 64;
+
+    private final Cache<String, Boolean> recorded;
+
+    public IdempotencyWindow(
+            @Value("${match.idempotency.window-size:100000}") long maxSize,
+            @Value("${match.idempotency.window-seconds:3600}") long windowSeconds) {
+        this.recorded = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(windowSeconds))
+                .build();
+    }
+
+    /**
+     * Check whether an event with the given key has already been recorded for a match.
+     *
+     * @param match the match, held by the caller
+     * @param idempotencyKey the client-supplied key
+     * @return true if the event is a duplicate
+     */
+    public boolean isRecorded(Match match, String idempotencyKey) {
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency key must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+        String key = key(match.getId(), idempotencyKey);
+        if (recorded.getIfPresent(key) != null) {
+            return true;
+        }
+        // Newest first: retries arrive shortly after the original. Not cached, as the event may
+        // still be waiting to be written
+        List<MatchEvent> events = match.getEvents();
+        for (int i = events.size() - 1; i >= 0; i--) {
+            if (idempotencyKey.equals(events.get(i).getIdempotencyKey())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remember the keys of the events in a delta that has been written.
+     *
+     * @param delta the written delta
+     */
+    public void recordPersisted(MatchDelta delta) {
+        for (MatchEvent event : delta.getNewEvents()) {
+            if (event.getIdempotencyKey() != null) {
+                recorded.put(key(delta.getMatchId(), event.getIdempotencyKey()), Boolean.TRUE);
+            }
+        }
+    }
+
+    private static String key(UUID matchId, String idempotencyKey) {
+        return matchId + "/" + idempotencyKey;
+    }
+}
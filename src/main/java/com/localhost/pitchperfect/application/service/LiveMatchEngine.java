@@ -0,0 +1,478 @@
+package com.localhost.pitchperfect.application.service;
+
+import com.localhost.pitchperfect.application.port.out.MatchPersistencePort;
+import com.localhost.pitchperfect.domain.model.Match;
+import com.localhost.pitchperfect.domain.model.MatchDelta;
+import com.localhost.pitchperfect.domain.model.MatchEvent;
+import com.localhost.pitchperfect.domain.model.MatchStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Single-writer engine for match state.
+ * Every match is owned by one mailbox: commands for the same match are applied one at a time
+ * in arrival order without locking, while different matches progress in parallel on a shared
+ * worker pool. LIVE matches stay resident in memory and their in-play changes are persisted
+ * asynchronously as deltas. Status transitions, and changes to matches that are not LIVE,
+ * are written before the command completes. Every write is conditional on the stored version;
+ * if another writer got there first, the local changes are dropped and the match is reloaded
+ * before the next command. Asynchronous writes that fail on a transient error are retried with
+ * backoff, ahead of any later delta; any other failure, or running out of retries, drops the
+ * unsaved changes in the same way, and the match is reloaded straight away. LIVE matches that
+ * receive no commands for a while are evicted, and reloaded when the next command arrives.
+ */
+@Component
+@Slf4j
+public class LiveMatchEngine {
+
+    private final MatchPersistencePort matchPersistencePort;
+    private final ExecutorService workerPool;
+    private final ExecutorService writerPool;
+    private final int throughput;
+    private final long commandTimeoutMillis;
+    private final int writeRetries;
+    private final long writeRetryMillis;
+    private final long idleEvictNanos;
+    private final Map<UUID, MatchMailbox> mailboxes = new ConcurrentHashMap<>();
+    private volatile Consumer<MatchDelta> persistedHandler = delta -> { };
+    private volatile Consumer<Match> changeHandler = match -> { };
+
+    public LiveMatchEngine(
+            MatchPersistencePort matchPersistencePort,
+            @Value("${match.live-engine.workers:4}") int workers,
+            @Value("${match.live-engine.writers:2}") int writers,
+            @Value("${match.live-engine.throughput:64}") int throughput,
+            @Value("${match.live-engine.command-timeout-ms:5000}") long commandTimeoutMillis,
+            @Value("${match.live-engine.write-retries:3}") int writeRetries,
+            @Value("${match.live-engine.write-retry-ms:200}") long writeRetryMillis,
+            @Value("${match.live-engine.idle-evict-ms:600000}") long idleEvictMillis) {
+        this.matchPersistencePort = matchPersistencePort;
+        this.workerPool = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("live-match-"));
+        this.writerPool = Executors.newFixedThreadPool(writers, new CustomizableThreadFactory("live-match-writer-"));
+        this.throughput = throughput;
+        this.commandTimeoutMillis = commandTimeoutMillis;
+        this.writeRetries = writeRetries;
+        this.writeRetryMillis = writeRetryMillis;
+        this.idleEvictNanos = TimeUnit.MILLISECONDS.toNanos(idleEvictMillis);
+    }
+
+    /**
+     * Apply a command to a match on the worker that owns it and wait for the result.
+     * The command runs with exclusive access to the match, so it must not block and must
+     * not keep references to the match after returning.
+     *
+     * @param matchId the match ID
+     * @param command the command to apply
+     * @param <T> the result type
+     * @return the result of the command
+     */
+    public <T> T execute(UUID matchId, Function<Match, T> command) {
+        return await(matchId, submit(matchId, command));
+    }
+
+    /**
+     * Queue a command for a match on the worker that owns it without waiting for it.
+     * The same rules apply to the command as for {@link #execute(UUID, Function)}.
+     *
+     * @param matchId the match ID
+     * @param command the command to apply
+     * @param <T> the result type
+     * @return a future completed with the result of the command
+     */
+    public <T> CompletableFuture<T> submit(UUID matchId, Function<Match, T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        mailboxes.compute(matchId, (id, mailbox) -> {
+            MatchMailbox target = mailbox != null ? mailbox : new MatchMailbox(id);
+            target.enqueue(new Command<>(command, result));
+            return target;
+        });
+        return result;
+    }
+
+    /**
+     * Check whether a match is currently held in memory by the engine.
+     * A match whose stored state was changed by another writer does not count until reloaded.
+     *
+     * @param matchId the match ID
+     * @return true if the match is resident
+     */
+    public boolean isResident(UUID matchId) {
+        MatchMailbox mailbox = mailboxes.get(matchId);
+        return mailbox != null && mailbox.match != null && !mailbox.stale;
+    }
+
+    /**
+     * Get the number of matches currently held in memory.
+     */
+    public int getResidentCount() {
+        return (int) mailboxes.values().stream()
+                .filter(mailbox -> mailbox.match != null)
+                .count();
+    }
+
+    /**
+     * Set the handler told about each delta once it has been written.
+     * Deltas of LIVE matches are written in the background, so the handler may run on a writer
+     * thread after later commands for the match; it is never told about a delta that was dropped.
+     *
+     * @param handler receives the written delta
+     */
+    public void onPersisted(Consumer<MatchDelta> handler) {
+        this.persistedHandler = handler;
+    }
+
+    /**
+     * Set the handler told about the state of a match whenever it changes.
+     * It runs on the match's worker once a command's changes have been written, or queued for
+     * writing, and again with the stored state when unsaved changes are dropped and the match
+     * is reloaded. It is not called for a command whose changes failed to write.
+     *
+     * @param handler receives the match; the same rules apply as for a command
+     */
+    public void onChange(Consumer<Match> handler) {
+        this.changeHandler = handler;
+    }
+
+    /**
+     * Evict resident matches that have not received a command for the idle period.
+     * The eviction runs on the match's own worker, once its pending deltas are written.
+     */
+    @Scheduled(fixedDelayString = "${match.live-engine.idle-sweep-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        mailboxes.forEach((matchId, mailbox) -> {
+            if (mailbox.match != null && now - mailbox.lastActive >= idleEvictNanos) {
+                mailboxes.computeIfPresent(matchId, (id, current) -> {
+                    current.enqueue(EVICT_IF_IDLE);
+                    return current;
+                });
+            }
+        });
+    }
+
+    /**
+     * Stop accepting commands and wait for all pending deltas to be written.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workerPool.shutdown();
+        workerPool.awaitTermination(commandTimeoutMillis, TimeUnit.MILLISECONDS);
+        mailboxes.values().forEach(mailbox -> mailbox.pendingWrite.join());
+        writerPool.shutdown();
+        writerPool.awaitTermination(commandTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private <T> T await(UUID matchId, CompletableFuture<T> result) {
+        try {
+            return result.get(commandTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Command failed for match " + matchId, e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Timed out waiting for match " + matchId, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for match " + matchId, e);
+        }
+    }
+
+    /**
+     * Check whether a write failed for a reason that may go away by itself, such as a lost
+     * connection or a lock timeout. Constraint violations and the like fail again on retry.
+     */
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    /**
+     * Marker queued by {@link #evictIdle()}; handled by the mailbox instead of being applied.
+     */
+    private static final Command<Void> EVICT_IF_IDLE = new Command<>(match -> null, new CompletableFuture<>());
+
+    /**
+     * Marker queued when a background write drops unsaved changes; handled by the mailbox.
+     */
+    private static final Command<Void> RELOAD_IF_STALE = new Command<>(match -> null, new CompletableFuture<>());
+
+    /**
+     * A command waiting in a match mailbox.
+     */
+    private static final class Command<T> {
+        private final Function<Match, T> action;
+        private final CompletableFuture<T> result;
+
+        private Command(Function<Match, T> action, CompletableFuture<T> result) {
+            this.action = action;
+            this.result = result;
+        }
+    }
+
+    /**
+     * Mailbox owning a single match.
+     * At most one worker drains a mailbox at a time, so the fields below are only
+     * touched by the current owner; the write chain keeps deltas in order.
+     */
+    private final class MatchMailbox implements Runnable {
+        private final UUID matchId;
+        private final Queue<Command<?>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile Match match;
+        private int persistedEventCount;
+        private MatchStatus persistedStatus;
+        private LocalDateTime persistedUpdatedAt;
+        private long persistedVersion;
+        private volatile boolean stale;
+        private volatile long lastActive = System.nanoTime();
+        private CompletableFuture<Void> pendingWrite = CompletableFuture.completedFuture(null);
+
+        private MatchMailbox(UUID matchId) {
+            this.matchId = matchId;
+        }
+
+        private void enqueue(Command<?> command) {
+            queue.add(command);
+            if (scheduled.compareAndSet(false, true)) {
+                workerPool.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int i = 0; i < throughput; i++) {
+                    Command<?> command = queue.poll();
+                    if (command == null) {
+                        break;
+                    }
+                    if (command == EVICT_IF_IDLE) {
+                        evictIfIdle();
+                    } else if (command == RELOAD_IF_STALE) {
+                        reloadIfStale();
+                    } else {
+                        apply(command);
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+                if (!queue.isEmpty()) {
+                    if (scheduled.compareAndSet(false, true)) {
+                        workerPool.execute(this);
+                    }
+                } else if (match == null) {
+                    // Nothing resident and nothing queued: drop the mailbox unless a producer raced in
+                    mailboxes.computeIfPresent(matchId, (id, current) ->
+                            current == this && queue.isEmpty() && !scheduled.get() ? null : current);
+                }
+            }
+        }
+
+        private <T> void apply(Command<T> command) {
+            lastActive = System.nanoTime();
+            Match current = null;
+            try {
+                current = resident();
+                T value = command.action.apply(current);
+                if (persistChanges(current)) {
+                    changed(current);
+                }
+                command.result.complete(value);
+            } catch (RuntimeException e) {
+                if (current != null && match != null && !stale) {
+                    // Keep memory and storage aligned with whatever the command changed before failing
+                    try {
+                        if (persistChanges(current)) {
+                            changed(current);
+                        }
+                    } catch (RuntimeException writeFailure) {
+                        e.addSuppressed(writeFailure);
+                    }
+                }
+                command.result.completeExceptionally(e);
+            }
+        }
+
+        private void evictIfIdle() {
+            // A command may have arrived since the sweep, and unwritten deltas keep the match
+            if (match != null && System.nanoTime() - lastActive >= idleEvictNanos && pendingWrite.isDone()) {
+                log.debug("Evicting idle match {}", matchId);
+                match = null;
+            }
+        }
+
+        private void reloadIfStale() {
+            if (!stale) {
+                return;
+            }
+            try {
+                resident();
+            } catch (RuntimeException e) {
+                // Retried by the next command for the match
+                log.error("Failed to reload match {} after dropping its unsaved changes", matchId, e);
+            }
+        }
+
+        private void changed(Match current) {
+            try {
+                changeHandler.accept(current);
+            } catch (RuntimeException e) {
+                log.error("Change handler failed for match {}", matchId, e);
+            }
+        }
+
+        private Match resident() {
+            if (match == null || stale) {
+                // Earlier deltas must land before the match is read back
+                pendingWrite.join();
+                boolean dropped = stale;
+                stale = false;
+                Match loaded = matchPersistencePort.findById(matchId)
+                        .orElseThrow(() -> new IllegalArgumentException("Match not found with ID: " + matchId));
+                persistedEventCount = loaded.getEvents().size();
+                persistedStatus = loaded.getStatus();
+                persistedUpdatedAt = loaded.getUpdatedAt();
+                persistedVersion = loaded.getVersion();
+                match = loaded;
+                if (dropped) {
+                    // Changes already reported may be gone; report what is stored instead
+                    changed(loaded);
+                }
+            }
+            return match;
+        }
+
+        /**
+         * Write, or queue for writing, what changed since the last delta.
+         *
+         * @return true if there were changes
+         */
+        private boolean persistChanges(Match current) {
+            List<MatchEvent> events = current.getEvents();
+            boolean statusChanged = current.getStatus() != persistedStatus;
+            if (events.size() == persistedEventCount && !statusChanged
+                    && Objects.equals(current.getUpdatedAt(), persistedUpdatedAt)) {
+                return false;
+            }
+
+            MatchDelta delta = MatchDelta.of(current, events.subList(persistedEventCount, events.size()));
+
+            if (current.getStatus() == MatchStatus.LIVE && !statusChanged) {
+                markPersisted(current);
+                pendingWrite = pendingWrite.thenComposeAsync(ignored -> writeInBackground(delta, 0), writerPool);
+                return true;
+            }
+
+            // The caller is told whether this write succeeded, so a failed one is dropped rather than retried
+            pendingWrite.join();
+            try {
+                write(delta);
+            } catch (RuntimeException e) {
+                match = null;
+                throw e;
+            }
+            markPersisted(current);
+            if (current.getStatus() != MatchStatus.LIVE) {
+                match = null;
+            }
+            return true;
+        }
+
+        private void markPersisted(Match current) {
+            persistedEventCount = current.getEvents().size();
+            persistedStatus = current.getStatus();
+            persistedUpdatedAt = current.getUpdatedAt();
+        }
+
+        private CompletableFuture<Void> writeInBackground(MatchDelta delta, int attempt) {
+            if (stale) {
+                // An earlier delta was dropped; this one is reloaded from storage instead
+                return CompletableFuture.completedFuture(null);
+            }
+            try {
+                write(delta);
+                return CompletableFuture.completedFuture(null);
+            } catch (OptimisticLockingFailureException e) {
+                log.warn("Match {} was changed by another writer, reloading it", matchId);
+                requestReload();
+            } catch (RuntimeException e) {
+                if (isTransient(e) && attempt < writeRetries) {
+                    long delayMillis = writeRetryMillis << attempt;
+                    log.warn("Failed to persist changes for match {}, retrying in {} ms", matchId, delayMillis, e);
+                    // Later deltas are chained behind the retry, so they still land in order
+                    Executor delayed = CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, writerPool);
+                    return CompletableFuture.supplyAsync(() -> writeInBackground(delta, attempt + 1), delayed)
+                            .thenCompose(Function.identity());
+                }
+                log.error("Failed to persist changes for match {}, dropping unsaved changes and reloading it",
+                        matchId, e);
+                stale = true;
+                requestReload();
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        private void requestReload() {
+            try {
+                mailboxes.computeIfPresent(matchId, (id, current) -> {
+                    current.enqueue(RELOAD_IF_STALE);
+                    return current;
+                });
+            } catch (RejectedExecutionException e) {
+                log.debug("Not reloading match {}, the engine is shutting down", matchId);
+            }
+        }
+
+        private void write(MatchDelta delta) {
+            if (stale) {
+                throw new OptimisticLockingFailureException("Match " + matchId + " must be reloaded before it is written");
+            }
+            try {
+                matchPersistencePort.saveDelta(delta.atVersion(persistedVersion));
+            } catch (OptimisticLockingFailureException e) {
+                // Retrying cannot succeed; later deltas are skipped until the match is reloaded
+                stale = true;
+                throw e;
+            }
+            persistedVersion++;
+            try {
+                persistedHandler.accept(delta);
+            } catch (RuntimeException e) {
+                // The delta is stored; a failing handler must not make it look like a failed write
+                log.error("Persisted handler failed for match {}", matchId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.localhost.pitchperfect.application.service;
+
+import com.localhost.pitchperfect.application.dto.LiveScoreDto;
+import com.localhost.pitchperfect.application.dto.LiveScoreboardDto;
+import com.localhost.pitchperfect.application.port.out.MatchPersistencePort;
+import com.localhost.pitchperfect.domain.model.Match;
+import com.localhost.pitchperfect.domain.model.MatchStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory scoreboard of live matches.
+ * Holds one compact entry per match that has been LIVE, stamped with the scoreboard version at
+ * which it last changed, so clients can fetch only the entries that changed since the version
+ * they hold. Reads never lock or touch storage. Every change is also published to
+ * /topic/matches/{matchId}/score. Finished matches stay on the board for the retention period.
+ */
+@Component
+@Slf4j
+public class LiveScoreboard {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final MatchPersistencePort matchPersistencePort;
+    private final Duration retention;
+    private final Map<UUID, LiveScoreDto> scores = new ConcurrentHashMap<>();
+    private volatile long version;
+    private volatile long prunedVersion;
+
+    public LiveScoreboard(
+            SimpMessagingTemplate messagingTemplate,
+            MatchPersistencePort matchPersistencePort,
+            @Value("${match.scoreboard.retention-seconds:1800}") long retentionSeconds) {
+        this.messagingTemplate = messagingTemplate;
+        this.matchPersistencePort = matchPersistencePort;
+        this.retention = Duration.ofSeconds(retentionSeconds);
+        // Start from the clock so versions handed out before a restart are never reused after it
+        this.version = ChronoUnit.MICROS.between(LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.now());
+        this.prunedVersion = version;
+    }
+
+    /**
+     * Load the matches that are LIVE in storage, so the board is complete after a restart.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        matchPersistencePort.findByStatus(MatchStatus.LIVE.name()).forEach(this::update);
+    }
+
+    /**
+     * Record the current state of a match.
+     * Matches that are not on the board are only added once they are LIVE. Updates for the
+     * same match must not race, which holds when they are made by the match's owner.
+     *
+     * @param match the match
+     */
+    public void update(Match match) {
+        LiveScoreDto current = scores.get(match.getId());
+        if (current == null && match.getStatus() != MatchStatus.LIVE) {
+            return;
+        }
+        int minute = match.getStatus() == MatchStatus.LIVE ? match.getCurrentMinute()
+                : current != null ? current.getMinute() : 0;
+        if (current != null && current.getStatus().equals(match.getStatus().name())
+                && current.getHomeScore() == match.getHomeScore()
+                && current.getAwayScore() == match.getAwayScore()
+                && current.getLastEventSequence() == match.getLastEventSequence()
+                && current.getMinute() == minute) {
+            return;
+        }
+
+        LiveScoreDto entry;
+        synchronized (this) {
+            // Readers see the new version only once the entry carrying it is in the map
+            long next = version + 1;
+            entry = LiveScoreDto.builder()
+                    .matchId(match.getId())
+                    .status(match.getStatus().name())
+                    .homeScore(match.getHomeScore())
+                    .awayScore(match.getAwayScore())
+                    .lastEventSequence(match.getLastEventSequence())
+                    .minute(minute)
+                    .version(next)
+                    .updatedAt(match.getUpdatedAt())
+                    .build();
+            scores.put(match.getId(), entry);
+            version = next;
+        }
+        messagingTemplate.convertAndSend("/topic/matches/" + match.getId() + "/score", entry);
+    }
+
+    /**
+     * Get the entries that changed after a version.
+     * Returns the whole board, flagged as full, if no version is given, if entries were removed
+     * after the client's version, or if the client's version is newer than this board.
+     *
+     * @param sinceVersion the version the client holds, or null
+     * @return the board or the changes to it
+     */
+    public LiveScoreboardDto getScores(Long sinceVersion) {
+        long current = version;
+        boolean full = sinceVersion == null || sinceVersion < prunedVersion || sinceVersion > current;
+        List<LiveScoreDto> changed = new ArrayList<>();
+        for (LiveScoreDto entry : scores.values()) {
+            // Entries newer than the snapshot version are picked up by the next request
+            if (entry.getVersion() <= current && (full || entry.getVersion() > sinceVersion)) {
+                changed.add(entry);
+            }
+        }
+        return new LiveScoreboardDto(current, full, changed);
+    }
+
+    /**
+     * Get the entry for one match.
+     *
+     * @param matchId the match ID
+     * @return the entry, or null if the match is not on the board
+     */
+    public LiveScoreDto getScore(UUID matchId) {
+        return scores.get(matchId);
+    }
+
+    /**
+     * Remove matches that finished longer ago than the retention period.
+     */
+    @Scheduled(fixedDelayString = "${match.scoreboard.prune-interval-ms:60000}")
+    public void prune() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int removed = 0;
+        for (LiveScoreDto entry : scores.values()) {
+            if (!MatchStatus.LIVE.name().equals(entry.getStatus())
+                    && entry.getUpdatedAt() != null && entry.getUpdatedAt().isBefore(cutoff)
+                    && scores.remove(entry.getMatchId(), entry)) {
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            synchronized (this) {
+                // A delta cannot express a removal, so every client gets the whole board once
+                version = version + 1;
+                prunedVersion = version;
+            }
+            log.debug("Removed {} finished matches from the live scoreboard", removed);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.localhost.pitchperfect.application.service;
+
+import com.localhost.pitchperfect.application.dto.MatchClockDto;
+import com.localhost.pitchperfect.application.dto.MatchFilter;
+import com.localhost.pitchperfect.application.dto.MatchSummaryDto;
+import com.localhost.pitchperfect.application.port.out.MatchPersistencePort;
+import com.localhost.pitchperfect.domain.model.Match;
+import com.localhost.pitchperfect.domain.model.MatchStatus;
+import com.localhost.pitchperfect.domain.model.MatchTimeline;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Clock for scheduled and live matches.
+ * Every SCHEDULED match has a timeout on a hashed timing wheel at its start time, and every LIVE
+ * match one at the start of its next minute of play, so a tick costs the same however many
+ * matches are waiting. When a start time is reached the kick-off handler is asked to start the
+ * match; when a minute starts the new match minute is published to /topic/matches/{matchId}.
+ * Both are done in one pass after the wheel has been advanced.
+ * Match owners report changes through {@link #track(Match)}; the wheel itself is only touched
+ * by the clock thread.
+ */
+@Component
+@Slf4j
+public class MatchClock {
+
+    private static final String DESTINATION_PREFIX = "/topic/matches/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final MatchPersistencePort matchPersistencePort;
+    private final long tickMillis;
+    private final long kickoffRetryMillis;
+    private final TimingWheel<TrackedMatch> wheel;
+    private final ScheduledExecutorService ticker;
+    private final Queue<TrackedMatch> updates = new ConcurrentLinkedQueue<>();
+    private final Map<UUID, TrackedMatch> tracked = new HashMap<>();
+    private volatile Consumer<UUID> kickoffHandler = matchId -> { };
+
+    public MatchClock(
+            SimpMessagingTemplate messagingTemplate,
+            MatchPersistencePort matchPersistencePort,
+            @Value("${match.clock.tick-ms:1000}") long tickMillis,
+            @Value("${match.clock.wheel-size:4096}") int wheelSize,
+            @Value("${match.clock.kickoff-retry-ms:60000}") long kickoffRetryMillis) {
+        this.messagingTemplate = messagingTemplate;
+        this.matchPersistencePort = matchPersistencePort;
+        this.tickMillis = tickMillis;
+        this.kickoffRetryMillis = kickoffRetryMillis;
+        this.wheel = new TimingWheel<>(tickMillis, wheelSize, toMillis(LocalDateTime.now()));
+        this.ticker = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("match-clock-"));
+    }
+
+    /**
+     * Load the matches that are SCHEDULED or LIVE in storage and start ticking.
+     * SCHEDULED matches only need their start time, so they are read as summaries; only LIVE
+     * matches are loaded in full for their timeline. A match whose start time passed while the
+     * application was down is started on the first tick.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void start() {
+        MatchFilter scheduled = MatchFilter.builder().status(MatchStatus.SCHEDULED.name()).build();
+        try (Stream<MatchSummaryDto> summaries = matchPersistencePort.streamSummaries(scheduled)) {
+            summaries.forEach(summary -> updates.add(
+                    new TrackedMatch(summary.getId(), MatchStatus.SCHEDULED, summary.getStartTime(), null)));
+        }
+        matchPersistencePort.findByStatus(MatchStatus.LIVE.name()).forEach(this::track);
+        ticker.scheduleAtFixedRate(this::tickQuietly, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Set the handler asked to start a match once its start time is reached.
+     * The handler is retried every retry interval until the match is reported LIVE, so it
+     * should hand the work off rather than block the clock.
+     *
+     * @param handler receives the ID of the match to start
+     */
+    public void onKickoff(Consumer<UUID> handler) {
+        this.kickoffHandler = handler;
+    }
+
+    /**
+     * Record the current state of a match.
+     * Matches that are neither SCHEDULED nor LIVE are dropped from the clock. The change is
+     * applied on the next tick; updates for the same match must be made in order, which holds
+     * when they are made by the match's owner.
+     *
+     * @param match the match
+     */
+    public void track(Match match) {
+        updates.add(new TrackedMatch(match.getId(), match.getStatus(), match.getStartTime(), match.getTimeline()));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        ticker.shutdown();
+        ticker.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Apply pending updates, advance the wheel to a time and publish what fell due.
+     *
+     * @param now the current time
+     */
+    synchronized void tick(LocalDateTime now) {
+        TrackedMatch update;
+        while ((update = updates.poll()) != null) {
+            apply(update, now);
+        }
+
+        List<MatchClockDto> minutes = new ArrayList<>();
+        List<UUID> kickoffs = new ArrayList<>();
+        wheel.advance(toMillis(now), match -> {
+            match.timeout = null;
+            if (match.status == MatchStatus.SCHEDULED) {
+                kickoffs.add(match.matchId);
+                // Tried again until the match reports that it is LIVE
+                schedule(match, now.plus(Duration.ofMillis(kickoffRetryMillis)));
+            } else {
+                minutes.add(toDto(match, now));
+                schedule(match, match.timeline.nextMinuteAfter(now));
+            }
+        });
+
+        for (MatchClockDto minute : minutes) {
+            messagingTemplate.convertAndSend(DESTINATION_PREFIX + minute.getMatchId(), minute);
+        }
+        Consumer<UUID> handler = kickoffHandler;
+        for (UUID matchId : kickoffs) {
+            handler.accept(matchId);
+        }
+        if (!minutes.isEmpty() || !kickoffs.isEmpty()) {
+            log.debug("Match clock tick: {} minute updates, {} kick-offs, {} timeouts pending",
+                    minutes.size(), kickoffs.size(), wheel.size());
+        }
+    }
+
+    private void tickQuietly() {
+        try {
+            tick(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("Match clock tick failed", e);
+        }
+    }
+
+    private void apply(TrackedMatch update, LocalDateTime now) {
+        TrackedMatch previous = tracked.get(update.matchId);
+        if (previous != null) {
+            if (previous.status == update.status && previous.timeline == update.timeline
+                    && Objects.equals(previous.startTime, update.startTime)) {
+                // Nothing the clock depends on changed, such as for a goal
+                return;
+            }
+            if (previous.timeout != null) {
+                wheel.cancel(previous.timeout);
+            }
+        }
+
+        if (update.status == MatchStatus.SCHEDULED) {
+            schedule(update, update.startTime);
+        } else if (update.status == MatchStatus.LIVE) {
+            // Stays tracked without a timeout while the clock is stopped at half time
+            schedule(update, update.timeline.nextMinuteAfter(now));
+        } else {
+            tracked.remove(update.matchId);
+            return;
+        }
+        tracked.put(update.matchId, update);
+    }
+
+    private void schedule(TrackedMatch match, LocalDateTime deadline) {
+        if (deadline != null) {
+            match.timeout = wheel.schedule(match, toMillis(deadline));
+        }
+    }
+
+    private static MatchClockDto toDto(TrackedMatch match, LocalDateTime now) {
+        return MatchClockDto.builder()
+                .matchId(match.matchId)
+                .period(match.timeline.periodAt(now).name())
+                .minute(match.timeline.minuteAt(now))
+                .addedMinute(match.timeline.addedMinuteAt(now))
+                .timestamp(now)
+                .build();
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * The state of a match as last reported, with its pending timeout.
+     * The timeout is only touched by the clock thread.
+     */
+    private static final class TrackedMatch {
+        private final UUID matchId;
+        private final MatchStatus status;
+        private final LocalDateTime startTime;
+        private final MatchTimeline timeline;
+        private TimingWheel.Timeout<TrackedMatch> timeout;
+
+        private TrackedMatch(UUID matchId, MatchStatus status, LocalDateTime startTime, MatchTimeline timeline) {
+            this.matchId = matchId;
+            this.status = status;
+            this.startTime = startTime;
+            this.timeline = timeline;
+        }
+    }
+}
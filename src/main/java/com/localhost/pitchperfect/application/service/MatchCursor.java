@@ -0,0 +1,56 @@
+package com.localhost.pitchperfect.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last match of a page in (startTime, id) order, encoded as an opaque string.
+ */
+final class MatchCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime startTime;
+    private final UUID id;
+
+    private MatchCursor(LocalDateTime startTime, UUID id) {
+        this.startTime = startTime;
+        this.id = id;
+    }
+
+    /**
+     * Decode a cursor.
+     *
+     * @param cursor the encoded cursor, or null for the first page
+     * @return the position, or null for the first page
+     */
+    static MatchCursor parse(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.indexOf(SEPARATOR);
+            return new MatchCursor(LocalDateTime.parse(position.substring(0, separator)),
+                    UUID.fromString(position.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + cursor, e);
+        }
+    }
+
+    static String encode(LocalDateTime startTime, UUID id) {
+        String position = startTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    UUID getId() {
+        return id;
+    }
+}
@@ -1,25 +1,38 @@
 package com.localhost.pitchperfect.application.service;
 
+import com.localhost.pitchperfect.application.dto.LiveScoreboardDto;
 import com.localhost.pitchperfect.application.dto.MatchDto;
 import com.localhost.pitchperfect.application.dto.MatchEventDto;
+import com.localhost.pitchperfect.application.dto.MatchFilter;
+import com.localhost.pitchperfect.application.dto.MatchPageDto;
+import com.localhost.pitchperfect.application.dto.MatchSummaryDto;
+import com.localhost.pitchperfect.application.dto.MatchSummaryPageDto;
+import com.localhost.pitchperfect.application.dto.ResourceVersion;
 import com.localhost.pitchperfect.application.port.in.MatchUseCase;
+import com.localhost.pitchperfect.application.port.out.MatchEventStorePort;
 import com.localhost.pitchperfect.application.port.out.MatchPersistencePort;
 import com.localhost.pitchperfect.application.port.out.PlayerPersistencePort;
 import com.localhost.pitchperfect.application.port.out.TeamPersistencePort;
 import com.localhost.pitchperfect.domain.model.Match;
 import com.localhost.pitchperfect.domain.model.MatchEvent;
 import com.localhost.pitchperfect.domain.model.MatchEventType;
+import com.localhost.pitchperfect.domain.model.MatchStatus;
 import com.localhost.pitchperfect.domain.model.Player;
 import com.localhost.pitchperfect.domain.model.Team;
 import com.localhost.pitchperfect.domain.service.MatchDomainService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the MatchUseCase interface.
@@ -27,17 +40,41 @@ import java.util.stream.Collectors;
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class MatchService implements MatchUseCase {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final MatchPersistencePort matchPersistencePort;
+    private final MatchEventStorePort matchEventStorePort;
     private final TeamPersistencePort teamPersistencePort;
     private final PlayerPersistencePort playerPersistencePort;
     private final MatchDomainService matchDomainService;
     private final MatchMapper matchMapper;
+    private final LiveMatchEngine liveMatchEngine;
+    private final LiveScoreboard liveScoreboard;
+    private final IdempotencyWindow idempotencyWindow;
+    private final MatchClock matchClock;
+
+    /**
+     * Let the match clock start scheduled matches at their start time, keep the live scoreboard
+     * and the match clock in step with the engine, and remember idempotency keys once their
+     * events are stored.
+     */
+    @PostConstruct
+    void registerHandlers() {
+        matchClock.onKickoff(this::kickOff);
+        liveMatchEngine.onChange(this::recordState);
+        liveMatchEngine.onPersisted(idempotencyWindow::recordPersisted);
+    }
 
     @Override
     @Transactional(readOnly = true)
     public MatchDto getMatchById(UUID matchId) {
+        if (liveMatchEngine.isResident(matchId)) {
+            return liveMatchEngine.execute(matchId, matchMapper::toDto);
+        }
+        
         return matchPersistencePort.findById(matchId)
                 .map(matchMapper::toDto)
                 .orElseThrow(() -> new IllegalArgumentException("Match not found with ID: " + matchId));
@@ -75,6 +112,63 @@ public class MatchService implements MatchUseCase {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public MatchPageDto getMatchesPage(MatchFilter filter, String cursor, int limit) {
+        checkPageSize(limit);
+        MatchCursor after = MatchCursor.parse(cursor);
+        
+        // Fetch one extra row to know whether another page follows
+        List<Match> matches = matchPersistencePort.findPage(filter,
+                after != null ? after.getStartTime() : null, after != null ? after.getId() : null, limit + 1);
+        boolean hasMore = matches.size() > limit;
+        List<Match> page = hasMore ? matches.subList(0, limit) : matches;
+        Match last = hasMore ? page.get(page.size() - 1) : null;
+        
+        return new MatchPageDto(page.stream().map(matchMapper::toDto).collect(Collectors.toList()),
+                last != null ? MatchCursor.encode(last.getStartTime(), last.getId()) : null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamMatches(MatchFilter filter, Consumer<MatchDto> consumer) {
+        try (Stream<Match> matches = matchPersistencePort.streamAll(filter)) {
+            matches.map(matchMapper::toDto).forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MatchSummaryDto> getMatchSummaries(MatchFilter filter) {
+        try (Stream<MatchSummaryDto> summaries = matchPersistencePort.streamSummaries(filter)) {
+            return summaries.collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MatchSummaryPageDto getMatchSummariesPage(MatchFilter filter, String cursor, int limit) {
+        checkPageSize(limit);
+        MatchCursor after = MatchCursor.parse(cursor);
+        
+        List<MatchSummaryDto> summaries = matchPersistencePort.findSummaryPage(filter,
+                after != null ? after.getStartTime() : null, after != null ? after.getId() : null, limit + 1);
+        boolean hasMore = summaries.size() > limit;
+        List<MatchSummaryDto> page = hasMore ? summaries.subList(0, limit) : summaries;
+        MatchSummaryDto last = hasMore ? page.get(page.size() - 1) : null;
+        
+        return new MatchSummaryPageDto(page,
+                last != null ? MatchCursor.encode(last.getStartTime(), last.getId()) : null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamMatchSummaries(MatchFilter filter, Consumer<MatchSummaryDto> consumer) {
+        try (Stream<MatchSummaryDto> summaries = matchPersistencePort.streamSummaries(filter)) {
+            summaries.forEach(consumer);
+        }
+    }
+
     @Override
     @Transactional
     public MatchDto createMatch(UUID homeTeamId, UUID awayTeamId, String venue, LocalDateTime startTime) {
@@ -86,82 +180,67 @@ public class MatchService implements MatchUseCase {
         
         Match match = new Match(homeTeam, awayTeam, venue, startTime);
         Match savedMatch = matchPersistencePort.save(match);
+        matchClock.track(savedMatch);
         
         return matchMapper.toDto(savedMatch);
     }
 
     @Override
-    @Transactional
     public MatchDto startMatch(UUID matchId) {
-        Match match = matchPersistencePort.findById(matchId)
-                .orElseThrow(() -> new IllegalArgumentException("Match not found with ID: " + matchId));
-        
-        Match updatedMatch = matchDomainService.startMatch(match);
-        Match savedMatch = matchPersistencePort.save(updatedMatch);
-        
-        return matchMapper.toDto(savedMatch);
+        return mutate(matchId, match ->
+                matchMapper.toDto(matchDomainService.startMatch(match)));
     }
 
     @Override
-    @Transactional
     public MatchDto completeMatch(UUID matchId) {
-        Match match = matchPersistencePort.findById(matchId)
-                .orElseThrow(() -> new IllegalArgumentException("Match not found with ID: " + matchId));
-        
-        Match updatedMatch = matchDomainService.completeMatch(match);
-        Match savedMatch = matchPersistencePort.save(updatedMatch);
-        
-        return matchMapper.toDto(savedMatch);
+        return mutate(matchId, match ->
+                matchMapper.toDto(matchDomainService.completeMatch(match)));
     }
 
     @Override
-    @Transactional
     public MatchDto cancelMatch(UUID matchId, String reason) {
-        Match match = matchPersistencePort.findById(matchId)
-                .orElseThrow(() -> new IllegalArgumentException("Match not found with ID: " + matchId));
-        
-        Match updatedMatch = matchDomainService.cancelMatch(match, reason);
-        Match savedMatch = matchPersistencePort.save(updatedMatch);
-        
-        return matchMapper.toDto(savedMatch);
+        return mutate(matchId, match ->
+                matchMapper.toDto(matchDomainService.cancelMatch(match, reason)));
     }
 
     @Override
-    @Transactional
     public MatchDto updateScore(UUID matchId, int homeScore, int awayScore) {
-        Match match = matchPersistencePort.findById(matchId)
-                .orElseThrow(() -> new IllegalArgumentException("Match not found with ID: " + matchId));
-        
-        Match updatedMatch = matchDomainService.updateScore(match, homeScore, awayScore);
-        Match savedMatch = matchPersistencePort.save(updatedMatch);
-        
-        return matchMapper.toDto(savedMatch);
+        return mutate(matchId, match ->
+                matchMapper.toDto(matchDomainService.updateScore(match, homeScore, awayScore)));
     }
 
     @Override
-    @Transactional
-    public MatchDto addGoal(UUID matchId, UUID scorerId, UUID assistantId, boolean isHomeTeam) {
-        Match match = matchPersistencePort.findById(matchId)
-                .orElseThrow(() -> new IllegalArgumentException("Match not found with ID: " + matchId));
-        
+    public MatchDto addGoal(UUID matchId, UUID scorerId, UUID assistantId, boolean isHomeTeam,
+                            String idempotencyKey) {
         Player scorer = playerPersistencePort.findById(scorerId)
                 .orElseThrow(() -> new IllegalArgumentException("Scorer not found with ID: " + scorerId));
         
-        Player assistant = null;
-        if (assistantId != null) {
-            assistant = playerPersistencePort.findById(assistantId)
-                    .orElseThrow(() -> new IllegalArgumentException("Assistant not found with ID: " + assistantId));
-        }
-        
-        Match updatedMatch = matchDomainService.addGoal(match, scorer, assistant, isHomeTeam);
-        Match savedMatch = matchPersistencePort.save(updatedMatch);
+        Player assistant = assistantId == null ? null : playerPersistencePort.findById(assistantId)
+                .orElseThrow(() -> new IllegalArgumentException("Assistant not found with ID: " + assistantId));
         
-        return matchMapper.toDto(savedMatch);
+        return mutate(matchId, match -> {
+            if (idempotencyKey != null && idempotencyWindow.isRecorded(match, idempotencyKey)) {
+                return matchMapper.toDto(match);
+            }
+            matchDomainService.addGoal(match, scorer, assistant, isHomeTeam);
+            if (idempotencyKey != null) {
+                // The goal event is the one the domain service just appended
+                List<MatchEvent> events = match.getEvents();
+                events.get(events.size() - 1).setIdempotencyKey(idempotencyKey);
+            }
+            return matchMapper.toDto(match);
+        });
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<MatchEventDto> getMatchEvents(UUID matchId) {
+        if (liveMatchEngine.isResident(matchId)) {
+            return liveMatchEngine.execute(matchId, match -> match.getEvents().stream()
+                    .map(matchMapper::toEventDto)
+                    .collect(Collectors.toList()));
+        }
+        
         Match match = matchPersistencePort.findById(matchId)
                 .orElseThrow(() -> new IllegalArgumentException("Match not found with ID: " + matchId));
         
@@ -171,24 +250,107 @@ public class MatchService implements MatchUseCase {
     }
     
     @Override
-    @Transactional
+    public List<MatchEventDto> getMatchEvents(UUID matchId, long fromSequence, int limit) {
+        checkPageSize(limit);
+        if (liveMatchEngine.isResident(matchId)) {
+            // The resident match is ahead of storage while its deltas are being written
+            return liveMatchEngine.execute(matchId, match -> match.getEvents().stream()
+                    .filter(event -> event.getSequence() >= fromSequence)
+                    .limit(limit)
+                    .map(matchMapper::toEventDto)
+                    .collect(Collectors.toList()));
+        }
+        
+        return matchEventStorePort.readFrom(matchId, fromSequence, limit).stream()
+                .map(matchMapper::toEventDto)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
     public MatchEventDto processMatchEvent(String matchId, MatchEventDto eventDto, String userId) {
         // Convert String matchId to UUID
         UUID matchUuid = UUID.fromString(matchId);
         
-        // Find the match
-        Match match = matchPersistencePort.findById(matchUuid)
-                .orElseThrow(() -> new IllegalArgumentException("Match not found with ID: " + matchId));
-        
         // Create a domain event from the DTO
         MatchEvent event = new MatchEvent();
         event.setId(UUID.randomUUID());
         event.setMatchId(matchUuid);
         event.setType(MatchEventType.valueOf(eventDto.getType()));
+        event.setDescription(eventDto.getDescription() != null ? eventDto.getDescription() : eventDto.getType());
         event.setTimestamp(LocalDateTime.now());
         event.setData(eventDto.getData());
         event.setUserId(userId);
+        event.setIdempotencyKey(eventDto.getIdempotencyKey());
         
+        // Apply the event on the worker that owns the match; persistence happens as a delta
+        return mutate(matchUuid, match -> {
+            String idempotencyKey = event.getIdempotencyKey();
+            if (idempotencyKey != null && idempotencyWindow.isRecorded(match, idempotencyKey)) {
+                return null;
+            }
+            return applyMatchEvent(match, event, eventDto);
+        });
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getMatchVersion(UUID matchId) {
+        if (liveMatchEngine.isResident(matchId)) {
+            return liveMatchEngine.execute(matchId,
+                    match -> new ResourceVersion(1 + match.getLastEventSequence(), match.getUpdatedAt()));
+        }
+        
+        return matchPersistencePort.findVersion(matchId)
+                .orElseThrow(() -> new IllegalArgumentException("Match not found with ID: " + matchId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getMatchesVersion(MatchFilter filter) {
+        return matchPersistencePort.findVersion(filter);
+    }
+    
+    @Override
+    public LiveScoreboardDto getLiveScores(Long sinceVersion) {
+        return liveScoreboard.getScores(sinceVersion);
+    }
+    
+    /**
+     * Apply a command on the engine; the resulting state reaches the live scoreboard through
+     * {@link #recordState(Match)}.
+     */
+    private <T> T mutate(UUID matchId, Function<Match, T> command) {
+        return liveMatchEngine.execute(matchId, command);
+    }
+    
+    /**
+     * Start a match that the match clock found at its start time, without waiting for it.
+     * The match may have been started by hand in the meantime, which is not an error.
+     */
+    private void kickOff(UUID matchId) {
+        liveMatchEngine.submit(matchId, match -> {
+            if (match.getStatus() == MatchStatus.SCHEDULED && !match.getStartTime().isAfter(LocalDateTime.now())) {
+                matchDomainService.startMatch(match);
+            }
+            return match.getStatus();
+        }).whenComplete((status, e) -> {
+            if (e != null) {
+                log.warn("Failed to start match {} at its start time", matchId, e);
+            }
+        });
+    }
+    
+    /**
+     * Record the state of a match on the live scoreboard and the match clock.
+     * The engine calls this on the match's worker once a change is stored or queued, and after
+     * reloading a match whose unsaved changes it dropped, so updates for a match stay in order.
+     */
+    private void recordState(Match match) {
+        liveScoreboard.update(match);
+        matchClock.track(match);
+    }
+    
+    private MatchEventDto applyMatchEvent(Match match, MatchEvent event, MatchEventDto eventDto) {
         // Process the event based on its type
         switch (event.getType()) {
             case GOAL:
@@ -215,8 +377,10 @@ public class MatchService implements MatchUseCase {
                 // No score update needed
                 break;
             case MATCH_START:
+            case HALF_TIME:
+            case SECOND_HALF_START:
             case MATCH_END:
-                // Process match status events
+                // Process match status events; the match timeline picks up clock changes
                 // No score update needed
                 break;
             default:
@@ -225,12 +389,15 @@ public class MatchService implements MatchUseCase {
         }
         
         // Add the event to the match
-        match.getEvents().add(event);
-        
-        // Save the updated match
-        Match savedMatch = matchPersistencePort.save(match);
+        matchDomainService.addEvent(match, event);
         
         // Return the processed event as DTO
         return matchMapper.toEventDto(event);
     }
+
+    private static void checkPageSize(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
 }
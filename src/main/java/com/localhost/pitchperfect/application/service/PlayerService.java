@@ -1,11 +1,15 @@
 package com.localhost.pitchperfect.application.service;
 
 import com.localhost.pitchperfect.application.dto.PlayerDto;
+import com.localhost.pitchperfect.application.dto.ResourceVersion;
 import com.localhost.pitchperfect.application.port.in.PlayerUseCase;
 import com.localhost.pitchperfect.application.port.out.PlayerPersistencePort;
 import com.localhost.pitchperfect.domain.model.Player;
 import com.localhost.pitchperfect.domain.model.Position;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +21,8 @@ import java.util.stream.Collectors;
 /**
  * Implementation of the PlayerUseCase interface.
  * This service implements the application logic for player-related use cases.
+ * Reads are served from the player caches. Teams embed their squads, so changing a player
+ * also evicts the team caches.
  */
 @Service
 @RequiredArgsConstructor
@@ -27,6 +33,7 @@ public class PlayerService implements PlayerUseCase {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.PLAYERS, key = "#playerId", sync = true)
     public PlayerDto getPlayerById(UUID playerId) {
         return playerPersistencePort.findById(playerId)
                 .map(mapper::toDto)
@@ -35,6 +42,7 @@ public class PlayerService implements PlayerUseCase {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.PLAYER_LISTS, key = "'all'", sync = true)
     public List<PlayerDto> getAllPlayers() {
         return playerPersistencePort.findAll().stream()
                 .map(mapper::toDto)
@@ -43,6 +51,7 @@ public class PlayerService implements PlayerUseCase {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.PLAYER_LISTS, key = "'team:' + #teamId", sync = true)
     public List<PlayerDto> getPlayersByTeam(UUID teamId) {
         return playerPersistencePort.findByTeamId(teamId).stream()
                 .map(mapper::toDto)
@@ -51,6 +60,7 @@ public class PlayerService implements PlayerUseCase {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.PLAYER_LISTS, key = "'position:' + #position", sync = true)
     public List<PlayerDto> getPlayersByPosition(String position) {
         Position positionEnum = Position.valueOf(position);
         return playerPersistencePort.findByPosition(positionEnum).stream()
@@ -60,6 +70,7 @@ public class PlayerService implements PlayerUseCase {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.PLAYER_LISTS, key = "'nationality:' + #nationality", sync = true)
     public List<PlayerDto> getPlayersByNationality(String nationality) {
         return playerPersistencePort.findByNationality(nationality).stream()
                 .map(mapper::toDto)
@@ -68,6 +79,10 @@ public class PlayerService implements PlayerUseCase {
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.PLAYER_LISTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.VERSIONS, allEntries = true)
+    })
     public PlayerDto createPlayer(String name, LocalDate dateOfBirth, String nationality, String position, String jerseyNumber) {
         Position positionEnum = Position.valueOf(position);
         Player player = new Player(name, dateOfBirth, nationality, positionEnum, jerseyNumber);
@@ -77,6 +92,14 @@ public class PlayerService implements PlayerUseCase {
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.PLAYERS, key = "#playerId"),
+            @CacheEvict(cacheNames = CacheNames.PLAYER_LISTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.TEAMS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.TEAM_LISTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.TEAM_PLAYERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.VERSIONS, allEntries = true)
+    })
     public PlayerDto updatePlayer(UUID playerId, String name, LocalDate dateOfBirth, String nationality, String position, String jerseyNumber) {
         Player player = playerPersistencePort.findById(playerId)
                 .orElseThrow(() -> new IllegalArgumentException("Player not found with ID: " + playerId));
@@ -90,6 +113,14 @@ public class PlayerService implements PlayerUseCase {
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.PLAYERS, key = "#playerId"),
+            @CacheEvict(cacheNames = CacheNames.PLAYER_LISTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.TEAMS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.TEAM_LISTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.TEAM_PLAYERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.VERSIONS, allEntries = true)
+    })
     public PlayerDto setPlayerPhoto(UUID playerId, String photoUrl) {
         Player player = playerPersistencePort.findById(playerId)
                 .orElseThrow(() -> new IllegalArgumentException("Player not found with ID: " + playerId));
@@ -99,4 +130,24 @@ public class PlayerService implements PlayerUseCase {
         
         return mapper.toDto(savedPlayer);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getPlayerVersion(UUID playerId) {
+        return playerPersistencePort.findVersion(playerId)
+                .orElseThrow(() -> new IllegalArgumentException("Player not found with ID: " + playerId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getPlayersByTeamVersion(UUID teamId) {
+        return playerPersistencePort.findVersionByTeamId(teamId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.VERSIONS, key = "'players'", sync = true)
+    public ResourceVersion getPlayersVersion() {
+        return playerPersistencePort.findVersion();
+    }
 }
@@ -0,0 +1,117 @@
+package com.localhost.pitchperfect.application.service;
+
+import com.localhost.pitchperfect.application.dto.PresenceDiffDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects presence transitions per destination and publishes them as one diff frame per window.
+ * A destination that reaches the maximum batch size is published immediately, so frames stay
+ * bounded during connect storms.
+ */
+@Component
+@Slf4j
+public class PresenceBroadcastAggregator {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService flusher;
+    private final Map<String, PendingDiff> pending = new ConcurrentHashMap<>();
+
+    public PresenceBroadcastAggregator(
+            SimpMessagingTemplate messagingTemplate,
+            @Value("${presence.broadcast.window-ms:250}") long windowMillis,
+            @Value("${presence.broadcast.max-batch-size:1000}") int maxBatchSize) {
+        this.messagingTemplate = messagingTemplate;
+        this.maxBatchSize = maxBatchSize;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("presence-broadcast-"));
+        this.flusher.scheduleWithFixedDelay(this::flushQuietly, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Record a presence transition for a destination.
+     *
+     * @param destination the topic the diff is published to
+     * @param userId the ID of the user
+     * @param present true if the user joined or came online, false if they left or went offline
+     */
+    public void record(String destination, String userId, boolean present) {
+        PresenceDiffDto[] full = new PresenceDiffDto[1];
+        pending.compute(destination, (key, diff) -> {
+            PendingDiff target = diff != null ? diff : new PendingDiff();
+            target.transitions.put(userId, present);
+            if (target.transitions.size() >= maxBatchSize) {
+                full[0] = target.toDto();
+                return null;
+            }
+            return target;
+        });
+        if (full[0] != null) {
+            send(destination, full[0]);
+        }
+    }
+
+    /**
+     * Publish every pending diff.
+     */
+    public void flush() {
+        for (String destination : pending.keySet()) {
+            PresenceDiffDto[] drained = new PresenceDiffDto[1];
+            pending.computeIfPresent(destination, (key, diff) -> {
+                drained[0] = diff.toDto();
+                return null;
+            });
+            if (drained[0] != null) {
+                send(destination, drained[0]);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Failed to publish presence diffs", e);
+        }
+    }
+
+    private void send(String destination, PresenceDiffDto diff) {
+        messagingTemplate.convertAndSend(destination, diff);
+        log.debug("Presence diff broadcast to {}: +{} -{}", destination, diff.getJoinedCount(), diff.getLeftCount());
+    }
+
+    /**
+     * Transitions collected for one destination, keyed by user with the latest state winning.
+     * Only touched inside map compute calls, which serialize access per destination.
+     */
+    private static final class PendingDiff {
+        private final Map<String, Boolean> transitions = new LinkedHashMap<>();
+
+        private PresenceDiffDto toDto() {
+            List<String> joined = new ArrayList<>();
+            List<String> left = new ArrayList<>();
+            transitions.forEach((userId, present) -> (present ? joined : left).add(userId));
+            return new PresenceDiffDto(joined, left, joined.size(), left.size(), Instant.now());
+        }
+    }
+}
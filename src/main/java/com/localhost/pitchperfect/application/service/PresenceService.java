@@ -5,7 +5,6 @@ import com.localhost.pitchperfect.application.port.in.PresenceUseCase;
 import com.localhost.pitchperfect.application.port.out.PresencePersistencePort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -21,8 +20,11 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class PresenceService implements PresenceUseCase {
 
-    private final SimpMessagingTemplate messagingTemplate;
     private final PresencePersistencePort presencePersistencePort;
+    private final PresenceBroadcastAggregator presenceBroadcastAggregator;
+    
+    private static final String GLOBAL_PRESENCE_TOPIC = "/topic/presence/global";
+    private static final String ROOM_PRESENCE_TOPIC = "/topic/presence/";
     
     // In-memory mapping of subscriptionId to roomId for quick lookups
     private final Map<String, String> userSubscriptions = new ConcurrentHashMap<>();
@@ -37,8 +39,8 @@ public class PresenceService implements PresenceUseCase {
         
         presencePersistencePort.saveUserStatus(userId, status);
         
-        // Notify relevant subscribers about user's online status
-        messagingTemplate.convertAndSend("/topic/presence/global", status);
+        // Notify relevant subscribers about user's online status in the next diff frame
+        presenceBroadcastAggregator.record(GLOBAL_PRESENCE_TOPIC, userId, true);
         log.debug("User connected status broadcast: {}", userId);
     }
 
@@ -52,8 +54,8 @@ public class PresenceService implements PresenceUseCase {
         
         presencePersistencePort.saveUserStatus(userId, status);
         
-        // Notify relevant subscribers about user's offline status
-        messagingTemplate.convertAndSend("/topic/presence/global", status);
+        // Notify relevant subscribers about user's offline status in the next diff frame
+        presenceBroadcastAggregator.record(GLOBAL_PRESENCE_TOPIC, userId, false);
         log.debug("User disconnected status broadcast: {}", userId);
         
         // Clean up any remaining room subscriptions
@@ -62,37 +64,25 @@ public class PresenceService implements PresenceUseCase {
 
     @Override
     public void userJoinedRoom(String userId, String roomId) {
-        PresenceStatusDto status = new PresenceStatusDto();
-        status.setUserId(userId);
-        status.setUsername(presencePersistencePort.getUsernameById(userId));
-        status.setStatus(PresenceStatusDto.PresenceStatus.JOINED);
-        status.setTimestamp(Instant.now());
-        
         // Save the subscription
         String subscriptionId = userId + ":" + roomId;
         userSubscriptions.put(subscriptionId, roomId);
         presencePersistencePort.saveUserSubscription(userId, subscriptionId, roomId);
         
-        // Notify room members about the new user
-        messagingTemplate.convertAndSend("/topic/presence/" + roomId, status);
+        // Notify room members about the new user in the next diff frame
+        presenceBroadcastAggregator.record(ROOM_PRESENCE_TOPIC + roomId, userId, true);
         log.debug("User joined room broadcast: {} -> {}", userId, roomId);
     }
 
     @Override
     public void userLeftRoom(String userId, String roomId) {
-        PresenceStatusDto status = new PresenceStatusDto();
-        status.setUserId(userId);
-        status.setUsername(presencePersistencePort.getUsernameById(userId));
-        status.setStatus(PresenceStatusDto.PresenceStatus.LEFT);
-        status.setTimestamp(Instant.now());
-        
         // Remove the subscription
         String subscriptionId = userId + ":" + roomId;
         userSubscriptions.remove(subscriptionId);
         presencePersistencePort.removeUserSubscription(userId, subscriptionId);
         
-        // Notify room members about the user leaving
-        messagingTemplate.convertAndSend("/topic/presence/" + roomId, status);
+        // Notify room members about the user leaving in the next diff frame
+        presenceBroadcastAggregator.record(ROOM_PRESENCE_TOPIC + roomId, userId, false);
         log.debug("User left room broadcast: {} -> {}", userId, roomId);
     }
 
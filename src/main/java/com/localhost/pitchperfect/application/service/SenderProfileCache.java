@@ -0,0 +1,85 @@
+package com.localhost.pitchperfect.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.localhost.pitchperfect.application.dto.ChatMessageDto;
+import com.localhost.pitchperfect.application.port.out.ChatPersistencePort;
+import com.localhost.pitchperfect.domain.event.DomainEventSubscriber;
+import com.localhost.pitchperfect.domain.event.UserProfileChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Near-cache of chat sender profiles.
+ * Resolves username and avatar with a single lookup and keeps the result in memory for a
+ * bounded time, so chat messages and typing indicators do not hit the user table per event.
+ * Entries are dropped when a UserProfileChangedEvent arrives on the domain event bus. Users that
+ * do not exist yet get a placeholder profile, which is not cached so it is replaced as soon as
+ * the user can be resolved. Hit and miss counts are published as the "senderProfiles" cache metrics.
+ */
+@Component
+@Slf4j
+public class SenderProfileCache implements DomainEventSubscriber<UserProfileChangedEvent> {
+
+    static final String CACHE_NAME = "senderProfiles";
+    private static final String UNKNOWN_USER = "Unknown User";
+    private static final String DEFAULT_AVATAR = "default-avatar.jpg";
+
+    private final ChatPersistencePort chatPersistencePort;
+    private final Cache<String, ChatMessageDto.SenderDto> profiles;
+
+    public SenderProfileCache(
+            ChatPersistencePort chatPersistencePort,
+            MeterRegistry meterRegistry,
+            @Value("${chat.sender-cache.max-size:10000}") long maxSize,
+            @Value("${chat.sender-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.chatPersistencePort = chatPersistencePort;
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, profiles, CACHE_NAME);
+    }
+
+    /**
+     * Get the profile of a sender, loading it on a miss.
+     * A fresh copy is returned so callers can attach it to a message without sharing state.
+     *
+     * @param userId the ID of the user
+     * @return the sender profile
+     */
+    public ChatMessageDto.SenderDto get(String userId) {
+        ChatMessageDto.SenderDto profile = profiles.get(userId,
+                id -> chatPersistencePort.findSenderProfile(id).orElse(null));
+        if (profile == null) {
+            return new ChatMessageDto.SenderDto(userId, UNKNOWN_USER, DEFAULT_AVATAR);
+        }
+        return new ChatMessageDto.SenderDto(profile.getId(), profile.getUsername(), profile.getAvatar());
+    }
+
+    /**
+     * Drop the cached profile of a user.
+     *
+     * @param userId the ID of the user
+     */
+    public void invalidate(String userId) {
+        profiles.invalidate(userId);
+        log.debug("Invalidated sender profile: {}", userId);
+    }
+
+    @Override
+    public Class<UserProfileChangedEvent> getEventType() {
+        return UserProfileChangedEvent.class;
+    }
+
+    @Override
+    public void onEvent(UserProfileChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+}
@@ -2,12 +2,16 @@ package com.localhost.pitchperfect.application.service;
 
 import com.localhost.pitchperfect.application.dto.TeamDto;
 import com.localhost.pitchperfect.application.dto.PlayerDto;
+import com.localhost.pitchperfect.application.dto.ResourceVersion;
 import com.localhost.pitchperfect.application.port.in.TeamUseCase;
 import com.localhost.pitchperfect.application.port.out.TeamPersistencePort;
 import com.localhost.pitchperfect.application.port.out.PlayerPersistencePort;
 import com.localhost.pitchperfect.domain.model.Team;
 import com.localhost.pitchperfect.domain.model.Player;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +22,7 @@ import java.util.stream.Collectors;
 /**
  * Implementation of the TeamUseCase interface.
  * This service implements the application logic for team-related use cases.
+ * Reads are served from the team caches; every mutation evicts the entries it affects.
  */
 @Service
 @RequiredArgsConstructor
@@ -29,6 +34,7 @@ public class TeamService implements TeamUseCase {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.TEAMS, key = "#teamId", sync = true)
     public TeamDto getTeamById(UUID teamId) {
         return teamPersistencePort.findById(teamId)
                 .map(mapper::toDto)
@@ -37,6 +43,7 @@ public class TeamService implements TeamUseCase {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.TEAM_LISTS, key = "'all'", sync = true)
     public List<TeamDto> getAllTeams() {
         return teamPersistencePort.findAll().stream()
                 .map(mapper::toDto)
@@ -45,6 +52,7 @@ public class TeamService implements TeamUseCase {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.TEAM_LISTS, key = "'country:' + #country", sync = true)
     public List<TeamDto> getTeamsByCountry(String country) {
         return teamPersistencePort.findByCountry(country).stream()
                 .map(mapper::toDto)
@@ -53,6 +61,10 @@ public class TeamService implements TeamUseCase {
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.TEAM_LISTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.VERSIONS, allEntries = true)
+    })
     public TeamDto createTeam(String name, String shortName, String country, String logoUrl) {
         Team team = new Team(name, shortName, country, logoUrl);
         Team savedTeam = teamPersistencePort.save(team);
@@ -61,6 +73,11 @@ public class TeamService implements TeamUseCase {
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.TEAMS, key = "#teamId"),
+            @CacheEvict(cacheNames = CacheNames.TEAM_LISTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.VERSIONS, allEntries = true)
+    })
     public TeamDto updateTeam(UUID teamId, String name, String shortName, String country, String logoUrl) {
         Team team = teamPersistencePort.findById(teamId)
                 .orElseThrow(() -> new IllegalArgumentException("Team not found with ID: " + teamId));
@@ -73,6 +90,13 @@ public class TeamService implements TeamUseCase {
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.TEAMS, key = "#teamId"),
+            @CacheEvict(cacheNames = CacheNames.TEAM_LISTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.TEAM_PLAYERS, key = "#teamId"),
+            @CacheEvict(cacheNames = CacheNames.PLAYER_LISTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.VERSIONS, allEntries = true)
+    })
     public TeamDto addPlayerToTeam(UUID teamId, UUID playerId) {
         Team team = teamPersistencePort.findById(teamId)
                 .orElseThrow(() -> new IllegalArgumentException("Team not found with ID: " + teamId));
@@ -88,6 +112,13 @@ public class TeamService implements TeamUseCase {
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.TEAMS, key = "#teamId"),
+            @CacheEvict(cacheNames = CacheNames.TEAM_LISTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.TEAM_PLAYERS, key = "#teamId"),
+            @CacheEvict(cacheNames = CacheNames.PLAYER_LISTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.VERSIONS, allEntries = true)
+    })
     public TeamDto removePlayerFromTeam(UUID teamId, UUID playerId) {
         Team team = teamPersistencePort.findById(teamId)
                 .orElseThrow(() -> new IllegalArgumentException("Team not found with ID: " + teamId));
@@ -103,6 +134,7 @@ public class TeamService implements TeamUseCase {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.TEAM_PLAYERS, key = "#teamId", sync = true)
     public List<PlayerDto> getTeamPlayers(UUID teamId) {
         Team team = teamPersistencePort.findById(teamId)
                 .orElseThrow(() -> new IllegalArgumentException("Team not found with ID: " + teamId));
@@ -111,4 +143,18 @@ public class TeamService implements TeamUseCase {
                 .map(mapper::toDto)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getTeamVersion(UUID teamId) {
+        return teamPersistencePort.findVersion(teamId)
+                .orElseThrow(() -> new IllegalArgumentException("Team not found with ID: " + teamId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.VERSIONS, key = "'teams'", sync = true)
+    public ResourceVersion getTeamsVersion() {
+        return teamPersistencePort.findVersion();
+    }
 }
@@ -0,0 +1,138 @@
+package com.localhost.pitchperfect.application.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel.
+ * Time is cut into ticks and every tick maps to one of a fixed number of buckets. A timeout is
+ * linked into the bucket of its deadline tick, with the number of full turns of the wheel it has
+ * to wait, so scheduling and cancelling are constant time and a tick only visits one bucket,
+ * however many timeouts are pending. Not thread-safe: the owner must confine it to one thread.
+ *
+ * @param <T> the type of task carried by a timeout
+ */
+final class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final long originMillis;
+    private final Timeout<T>[] buckets;
+    private final int mask;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis the length of a tick
+     * @param wheelSize the number of buckets, rounded up to a power of two
+     * @param originMillis the time of tick zero
+     */
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMillis, int wheelSize, long originMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick length and wheel size must be positive");
+        }
+        int buckets = Integer.highestOneBit(wheelSize);
+        if (buckets < wheelSize) {
+            buckets <<= 1;
+        }
+        this.tickMillis = tickMillis;
+        this.originMillis = originMillis;
+        this.buckets = new Timeout[buckets];
+        this.mask = buckets - 1;
+    }
+
+    /**
+     * Schedule a task.
+     * A deadline that has already passed fires on the next tick.
+     *
+     * @param task the task
+     * @param deadlineMillis the time the task is due
+     * @return the timeout, which can be cancelled
+     */
+    Timeout<T> schedule(T task, long deadlineMillis) {
+        // Round up, so a task never fires before its deadline
+        long deadlineTick = Math.max(currentTick, Math.floorDiv(deadlineMillis - originMillis + tickMillis - 1, tickMillis));
+        Timeout<T> timeout = new Timeout<>(task, (deadlineTick - currentTick) / buckets.length);
+        timeout.bucket = (int) (deadlineTick & mask);
+        Timeout<T> head = buckets[timeout.bucket];
+        timeout.next = head;
+        if (head != null) {
+            head.previous = timeout;
+        }
+        buckets[timeout.bucket] = timeout;
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Cancel a timeout that has not fired yet.
+     *
+     * @param timeout the timeout
+     */
+    void cancel(Timeout<T> timeout) {
+        if (timeout.bucket < 0) {
+            return;
+        }
+        unlink(timeout);
+    }
+
+    /**
+     * Process every tick up to a time, passing the tasks that fell due to a consumer.
+     *
+     * @param nowMillis the current time
+     * @param expired receives the tasks that are due, in deadline order across ticks
+     */
+    void advance(long nowMillis, Consumer<T> expired) {
+        long lastTick = Math.floorDiv(nowMillis - originMillis, tickMillis);
+        for (; currentTick <= lastTick; currentTick++) {
+            Timeout<T> timeout = buckets[(int) (currentTick & mask)];
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    unlink(timeout);
+                    expired.accept(timeout.task);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    /**
+     * Get the number of pending timeouts.
+     */
+    int size() {
+        return size;
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            buckets[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+        size--;
+    }
+
+    /**
+     * A scheduled task, linked into the bucket of its deadline tick.
+     */
+    static final class Timeout<T> {
+        private final T task;
+        private long remainingRounds;
+        private int bucket;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+
+        private Timeout(T task, long remainingRounds) {
+            this.task = task;
+            this.remainingRounds = remainingRounds;
+        }
+    }
+}
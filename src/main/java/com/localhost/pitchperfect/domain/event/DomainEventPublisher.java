@@ -1,14 +1,63 @@
 package com.localhost.pitchperfect.domain.event;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Domain Event Publisher implementation.
  * This class is responsible for publishing domain events to subscribers.
+ * Events go into a lock-free ring buffer and are consumed by every DomainEventSubscriber bean
+ * on its own thread, so publishing never runs subscriber code on the caller's thread. Per
+ * subscriber lag is published as domain.events.lag.
  */
 @Component
-public class DomainEventPublisher {
-    
+@Slf4j
+public class DomainEventPublisher implements SmartInitializingSingleton {
+
+    private final ObjectProvider<DomainEventSubscriber<?>> subscriberBeans;
+    private final MeterRegistry meterRegistry;
+    private final EventRingBuffer ringBuffer;
+    private final int maxBatchSize;
+    private final long shutdownTimeoutMillis;
+    private final Counter publishedCounter;
+    private final List<Consumer> consumers = new CopyOnWriteArrayList<>();
+    private volatile boolean accepting = true;
+
+    public DomainEventPublisher(
+            ObjectProvider<DomainEventSubscriber<?>> subscriberBeans,
+            MeterRegistry meterRegistry,
+            @Value("${domain.events.ring-size:8192}") int ringSize,
+            @Value("${domain.events.wait-strategy:BLOCKING}") WaitStrategy waitStrategy,
+            @Value("${domain.events.max-batch-size:256}") int maxBatchSize,
+            @Value("${domain.events.shutdown-timeout-ms:5000}") long shutdownTimeoutMillis) {
+        this.subscriberBeans = subscriberBeans;
+        this.meterRegistry = meterRegistry;
+        this.ringBuffer = new EventRingBuffer(ringSize, waitStrategy);
+        this.maxBatchSize = maxBatchSize;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.publishedCounter = Counter.builder("domain.events.published")
+                .description("Domain events published to the event bus")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        subscriberBeans.orderedStream().forEach(this::subscribe);
+    }
+
     /**
      * Publishes a domain event to all subscribers.
      *
@@ -16,21 +65,85 @@ public class DomainEventPublisher {
      * @param payload the payload of the event
      */
     public void publish(String eventType, Object payload) {
-        // Implementation would typically use Spring's ApplicationEventPublisher
-        // or a message broker like RabbitMQ or Kafka
-        // For now, this is a stub implementation
-        System.out.println("Event published: " + eventType + " with payload: " + payload.getClass().getSimpleName());
+        publish(new PayloadEvent(eventType, payload));
     }
-    
+
     /**
      * Publishes a domain event to all subscribers.
+     * Returns once the event is in the ring buffer; only waits if the slowest subscriber is a
+     * full buffer behind.
      *
      * @param event the domain event to publish
      */
     public void publish(DomainEvent event) {
-        // Implementation would typically use Spring's ApplicationEventPublisher
-        // or a message broker like RabbitMQ or Kafka
-        // For now, this is a stub implementation
-        System.out.println("Event published: " + event.getType() + " at " + event.getTimestamp());
+        if (!accepting) {
+            log.warn("Event bus is stopped, dropping event {}", event.getType());
+            return;
+        }
+        ringBuffer.publish(event);
+        publishedCounter.increment();
+    }
+
+    /**
+     * Register a subscriber and start its consumer thread.
+     * The subscriber receives events published after this call.
+     *
+     * @param subscriber the subscriber
+     */
+    public <E extends DomainEvent> void subscribe(DomainEventSubscriber<E> subscriber) {
+        EventProcessor<E> processor = new EventProcessor<>(ringBuffer, subscriber, maxBatchSize);
+        Thread thread = new CustomizableThreadFactory("domain-events-" + subscriber.getName() + "-")
+                .newThread(processor);
+        thread.setDaemon(true);
+        consumers.add(new Consumer(processor, thread));
+
+        Gauge.builder("domain.events.lag", processor, EventProcessor::getLag)
+                .description("Published events not yet processed by the subscriber")
+                .tag("subscriber", subscriber.getName())
+                .register(meterRegistry);
+        FunctionCounter.builder("domain.events.subscriber.failures", processor, EventProcessor::getFailures)
+                .description("Event batches whose subscriber threw an exception")
+                .tag("subscriber", subscriber.getName())
+                .register(meterRegistry);
+
+        thread.start();
+        log.info("Subscribed {} to {} events", subscriber.getName(), subscriber.getEventType().getSimpleName());
+    }
+
+    /**
+     * Stop accepting events, let subscribers catch up, then stop their threads.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        accepting = false;
+        long last = ringBuffer.getClaimed();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMillis);
+        for (Consumer consumer : consumers) {
+            while (consumer.processor.getSequence() < last && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            if (consumer.processor.getSequence() < last) {
+                log.warn("Subscriber {} stopped with {} unprocessed events",
+                        consumer.processor.getSubscriber().getName(), last - consumer.processor.getSequence());
+            }
+        }
+        for (Consumer consumer : consumers) {
+            consumer.processor.halt();
+            consumer.thread.interrupt();
+            consumer.thread.join(TimeUnit.SECONDS.toMillis(1));
+        }
+    }
+
+    /**
+     * A subscriber's processor and the thread running it.
+     */
+    private static final class Consumer {
+        private final EventProcessor<?> processor;
+        private final Thread thread;
+
+        private Consumer(EventProcessor<?> processor, Thread thread) {
+            this.processor = processor;
+            this.thread = thread;
+        }
     }
 }
@@ -0,0 +1,45 @@
+package com.localhost.pitchperfect.domain.event;
+
+import java.util.List;
+
+/**
+ * Subscriber to domain events of one type.
+ * Each subscriber consumes the event bus on its own thread and receives events in publish order,
+ * in batches of whatever has accumulated since its last call.
+ *
+ * @param <E> the type of event handled
+ */
+public interface DomainEventSubscriber<E extends DomainEvent> {
+
+    /**
+     * Gets the type of event this subscriber receives, including subtypes.
+     *
+     * @return the event class
+     */
+    Class<E> getEventType();
+
+    /**
+     * Handles a single event.
+     *
+     * @param event the event
+     */
+    void onEvent(E event);
+
+    /**
+     * Handles a batch of events. Override to process a batch in one go, e.g. a single write.
+     *
+     * @param events the events, in publish order
+     */
+    default void onEvents(List<E> events) {
+        events.forEach(this::onEvent);
+    }
+
+    /**
+     * Gets the name used for the subscriber's thread and metrics.
+     *
+     * @return the subscriber name
+     */
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,108 @@
+package com.localhost.pitchperfect.domain.event;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Consumes the ring buffer for one subscriber.
+ * Everything published since the last pass, up to the batch size, is handed to the subscriber
+ * as one batch; events of other types are skipped without a call.
+ */
+@Slf4j
+final class EventProcessor<E extends DomainEvent> implements Runnable, EventRingBuffer.ConsumerState {
+
+    private final EventRingBuffer ringBuffer;
+    private final DomainEventSubscriber<E> subscriber;
+    private final AtomicLong sequence;
+    private final int maxBatchSize;
+    private final LongAdder failures = new LongAdder();
+    private volatile boolean running = true;
+
+    EventProcessor(EventRingBuffer ringBuffer, DomainEventSubscriber<E> subscriber, int maxBatchSize) {
+        this.ringBuffer = ringBuffer;
+        this.subscriber = subscriber;
+        this.sequence = ringBuffer.addGatingSequence();
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public void run() {
+        Class<E> eventType = subscriber.getEventType();
+        List<E> batch = new ArrayList<>(maxBatchSize);
+        long next = sequence.get() + 1;
+
+        while (running) {
+            if (!ringBuffer.waitFor(next, this)) {
+                // waitFor returns at once while the flag is set, so an interrupt must stop the loop
+                if (Thread.interrupted() && running) {
+                    log.warn("Subscriber {} was interrupted, stopping its consumer", subscriber.getName());
+                    running = false;
+                }
+                continue;
+            }
+            long available = ringBuffer.getHighestPublished(next,
+                    Math.min(ringBuffer.getClaimed(), next + maxBatchSize - 1));
+            for (long current = next; current <= available; current++) {
+                DomainEvent event = ringBuffer.get(current);
+                if (eventType.isInstance(event)) {
+                    batch.add(eventType.cast(event));
+                }
+            }
+            if (!batch.isEmpty()) {
+                deliver(batch);
+                batch.clear();
+            }
+            sequence.set(available);
+            next = available + 1;
+        }
+        ringBuffer.removeGatingSequence(sequence);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stop consuming after the current batch.
+     */
+    void halt() {
+        running = false;
+    }
+
+    /**
+     * Get the last sequence this subscriber has processed.
+     */
+    long getSequence() {
+        return sequence.get();
+    }
+
+    /**
+     * Get the number of published events this subscriber has not processed yet.
+     */
+    long getLag() {
+        return Math.max(0, ringBuffer.getClaimed() - sequence.get());
+    }
+
+    long getFailures() {
+        return failures.sum();
+    }
+
+    DomainEventSubscriber<E> getSubscriber() {
+        return subscriber;
+    }
+
+    private void deliver(List<E> batch) {
+        try {
+            subscriber.onEvents(batch);
+        } catch (RuntimeException e) {
+            // A failing subscriber must not stall the others or stop consuming
+            failures.increment();
+            log.error("Subscriber {} failed on a batch of {} events", subscriber.getName(), batch.size(), e);
+        }
+    }
+}
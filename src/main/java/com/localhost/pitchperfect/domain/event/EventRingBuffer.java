@@ -0,0 +1,208 @@
+package com.localhost.pitchperfect.domain.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Multi-producer ring buffer of domain events.
+ * Producers claim a sequence with a single atomic increment and mark the slot available with
+ * the round number of the sequence, so no lock is taken on the publish path. Each consumer
+ * tracks its own sequence; a producer only waits when it would overwrite a slot that the
+ * slowest consumer has not read yet.
+ */
+final class EventRingBuffer {
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 200;
+    private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long BLOCKING_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final DomainEvent[] entries;
+    private final AtomicIntegerArray availableRounds;
+    private final int mask;
+    private final int shift;
+    private final WaitStrategy waitStrategy;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final List<AtomicLong> gatingSequences = new CopyOnWriteArrayList<>();
+    private volatile long cachedGatingSequence = -1;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition published = lock.newCondition();
+    private final AtomicInteger blockedConsumers = new AtomicInteger();
+
+    EventRingBuffer(int size, WaitStrategy waitStrategy) {
+        if (size < 1 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Ring buffer size must be a power of 2, was " + size);
+        }
+        this.entries = new DomainEvent[size];
+        this.availableRounds = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            availableRounds.set(i, -1);
+        }
+        this.mask = size - 1;
+        this.shift = Integer.numberOfTrailingZeros(size);
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * Publish an event, waiting for the slowest consumer if the buffer is full.
+     *
+     * @return the sequence of the event
+     */
+    long publish(DomainEvent event) {
+        long sequence = claimed.incrementAndGet();
+        awaitCapacity(sequence);
+        int index = (int) (sequence & mask);
+        entries[index] = event;
+        availableRounds.set(index, round(sequence));
+        if (blockedConsumers.get() > 0) {
+            lock.lock();
+            try {
+                published.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+        return sequence;
+    }
+
+    /**
+     * Add a consumer sequence that producers must not overtake. The consumer starts after the
+     * last claimed sequence and only sees events published from now on.
+     */
+    AtomicLong addGatingSequence() {
+        AtomicLong sequence = new AtomicLong(claimed.get());
+        gatingSequences.add(sequence);
+        return sequence;
+    }
+
+    void removeGatingSequence(AtomicLong sequence) {
+        gatingSequences.remove(sequence);
+    }
+
+    /**
+     * Wait until the given sequence is published.
+     *
+     * @return false if the consumer stopped or was interrupted before the sequence arrived
+     */
+    boolean waitFor(long sequence, ConsumerState state) {
+        int attempts = 0;
+        while (!isAvailable(sequence)) {
+            if (!state.isRunning() || Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            idle(sequence, attempts++);
+        }
+        return true;
+    }
+
+    /**
+     * Get the highest sequence in the range whose slot and all slots before it are published.
+     */
+    long getHighestPublished(long from, long upTo) {
+        for (long sequence = from; sequence <= upTo; sequence++) {
+            if (!isAvailable(sequence)) {
+                return sequence - 1;
+            }
+        }
+        return upTo;
+    }
+
+    DomainEvent get(long sequence) {
+        return entries[(int) (sequence & mask)];
+    }
+
+    long getClaimed() {
+        return claimed.get();
+    }
+
+    int getSize() {
+        return entries.length;
+    }
+
+    private boolean isAvailable(long sequence) {
+        return availableRounds.get((int) (sequence & mask)) == round(sequence);
+    }
+
+    private int round(long sequence) {
+        return (int) (sequence >>> shift);
+    }
+
+    private void awaitCapacity(long sequence) {
+        long wrapPoint = sequence - entries.length;
+        if (wrapPoint <= cachedGatingSequence) {
+            return;
+        }
+        long minimum;
+        while (wrapPoint > (minimum = minimumGatingSequence(sequence - 1))) {
+            LockSupport.parkNanos(1);
+        }
+        cachedGatingSequence = minimum;
+    }
+
+    private long minimumGatingSequence(long minimum) {
+        for (AtomicLong gatingSequence : gatingSequences) {
+            minimum = Math.min(minimum, gatingSequence.get());
+        }
+        return minimum;
+    }
+
+    private void idle(long sequence, int attempts) {
+        switch (waitStrategy) {
+            case BUSY_SPIN:
+                Thread.onSpinWait();
+                break;
+            case YIELDING:
+                if (attempts < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+                break;
+            case SLEEPING:
+                if (attempts < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else if (attempts < YIELD_TRIES) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(SLEEP_NANOS);
+                }
+                break;
+            case BLOCKING:
+                block(sequence);
+                break;
+            default:
+                throw new IllegalStateException("Unknown wait strategy " + waitStrategy);
+        }
+    }
+
+    private void block(long sequence) {
+        lock.lock();
+        try {
+            blockedConsumers.incrementAndGet();
+            // Re-check under the lock: a publisher that saw no blocked consumers did not signal
+            if (!isAvailable(sequence)) {
+                published.awaitNanos(BLOCKING_TIMEOUT_NANOS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            blockedConsumers.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Lets a waiting consumer notice that it has been stopped.
+     */
+    interface ConsumerState {
+        boolean isRunning();
+    }
+}
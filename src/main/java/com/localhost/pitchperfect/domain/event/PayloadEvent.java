@@ -0,0 +1,27 @@
+package com.localhost.pitchperfect.domain.event;
+
+import lombok.Getter;
+
+/**
+ * Domain event wrapping an arbitrary payload under a string type, for callers that publish
+ * with DomainEventPublisher.publish(String, Object) and for events relayed from the outbox.
+ */
+@Getter
+public class PayloadEvent implements DomainEvent {
+
+    private final String type;
+    private final String aggregateId;
+    private final Object payload;
+    private final long timestamp;
+
+    public PayloadEvent(String type, Object payload) {
+        this(type, null, payload, System.currentTimeMillis());
+    }
+
+    public PayloadEvent(String type, String aggregateId, Object payload, long timestamp) {
+        this.type = type;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.timestamp = timestamp;
+    }
+}
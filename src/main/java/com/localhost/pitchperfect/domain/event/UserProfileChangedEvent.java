@@ -0,0 +1,24 @@
+package com.localhost.pitchperfect.domain.event;
+
+import lombok.Getter;
+
+/**
+ * Domain event raised when a user's public profile (username or avatar) changes.
+ * Caches holding sender details listen for it to drop stale entries.
+ */
+@Getter
+public class UserProfileChangedEvent implements DomainEvent {
+
+    private final String userId;
+    private final long timestamp;
+
+    public UserProfileChangedEvent(String userId) {
+        this.userId = userId;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    @Override
+    public String getType() {
+        return "user.profile.changed";
+    }
+}
@@ -0,0 +1,16 @@
+package com.localhost.pitchperfect.domain.event;
+
+/**
+ * How an idle subscriber waits for new events.
+ * Ordered from lowest latency and highest CPU use to highest latency and lowest CPU use.
+ */
+public enum WaitStrategy {
+    /** Spin on the sequence; dedicates a core to each subscriber. */
+    BUSY_SPIN,
+    /** Spin briefly, then yield the thread. */
+    YIELDING,
+    /** Spin, yield, then park for short intervals. */
+    SLEEPING,
+    /** Block on a condition signalled by publishers. */
+    BLOCKING
+}
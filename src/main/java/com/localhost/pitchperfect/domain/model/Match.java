@@ -1,6 +1,7 @@
 package com.localhost.pitchperfect.domain.model;
 
 import lombok.AccessLevel;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -25,8 +26,19 @@ public class Match {
     private int homeScore;
     private int awayScore;
     private List<MatchEvent> events;
+    private long lastEventSequence;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    
+    /**
+     * Version of the stored match this state was loaded from, for optimistic concurrency.
+     */
+    private long version;
+    
+    /**
+     * When the match kicked off, went in at half time and ended, derived from its events.
+     */
+    private MatchTimeline timeline = MatchTimeline.notStarted();
 
     public Match(Team homeTeam, Team awayTeam, String venue, LocalDateTime startTime) {
         this.id = UUID.randomUUID();
@@ -45,6 +57,30 @@ public class Match {
         validateStartTime();
     }
 
+    /**
+     * Reconstitute a match from persisted state.
+     * Bypasses creation-time validation, since a stored match may already have started.
+     */
+    @Builder(builderMethodName = "restore")
+    private Match(UUID id, Team homeTeam, Team awayTeam, String venue, LocalDateTime startTime,
+                  MatchStatus status, int homeScore, int awayScore, List<MatchEvent> events,
+                  long lastEventSequence, LocalDateTime createdAt, LocalDateTime updatedAt, long version) {
+        this.id = id;
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.venue = venue;
+        this.startTime = startTime;
+        this.status = status;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+        this.events = events != null ? new ArrayList<>(events) : new ArrayList<>();
+        this.lastEventSequence = lastEventSequence;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+        this.timeline = MatchTimeline.of(this.events, status, startTime);
+    }
+
     /**
      * Start the match, changing its status to LIVE.
      * Can only be started if currently in SCHEDULED status.
@@ -133,11 +169,22 @@ public class Match {
 
     /**
      * Add a match event.
+     * Assigns the next per-match sequence number, so events can be replayed in order, and
+     * stamps the minute of play the event happened in.
      */
     public void addEvent(MatchEvent event) {
         if (events == null) {
             events = new ArrayList<>();
         }
+        if (event.getMatchId() == null) {
+            event.setMatchId(id);
+        }
+        event.setSequence(++lastEventSequence);
+        timeline = timeline.with(event);
+        if (event.getTimestamp() != null) {
+            event.setMatchMinute(timeline.minuteAt(event.getTimestamp()));
+            event.setAddedMinute(timeline.addedMinuteAt(event.getTimestamp()));
+        }
         events.add(event);
         this.updatedAt = LocalDateTime.now();
     }
@@ -176,6 +223,15 @@ public class Match {
         addEvent(new MatchEvent(MatchEventType.VENUE_CHANGE, "Venue changed from " + oldVenue + " to " + newVenue, null, null));
     }
 
+    /**
+     * Get the current minute of play.
+     *
+     * @return the minute, or 0 if the match has not kicked off
+     */
+    public int getCurrentMinute() {
+        return timeline.minuteAt(LocalDateTime.now());
+    }
+
     /**
      * Get the current match result as a string.
      */
@@ -0,0 +1,64 @@
+package com.localhost.pitchperfect.domain.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of the changes made to a match since it was last persisted.
+ * Carries the scalar match state plus only the events appended in the meantime,
+ * so writers never need to touch the rest of the aggregate.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MatchDelta {
+    private final UUID matchId;
+    private final MatchStatus status;
+    private final int homeScore;
+    private final int awayScore;
+    private final String venue;
+    private final LocalDateTime startTime;
+    private final long lastEventSequence;
+    private final LocalDateTime updatedAt;
+    private final List<MatchEvent> newEvents;
+    
+    /**
+     * Stored version the delta applies to; the write fails if the match has moved on.
+     */
+    private final long version;
+
+    /**
+     * Capture the current state of a match together with the events that are not yet persisted.
+     *
+     * @param match the match to snapshot
+     * @param newEvents the events appended since the last persisted delta
+     * @return the delta
+     */
+    public static MatchDelta of(Match match, List<MatchEvent> newEvents) {
+        return new MatchDelta(match.getId(), match.getStatus(), match.getHomeScore(), match.getAwayScore(),
+                match.getVenue(), match.getStartTime(), match.getLastEventSequence(), match.getUpdatedAt(),
+                List.copyOf(newEvents), match.getVersion());
+    }
+
+    /**
+     * Get a copy of this delta that applies to the given stored version.
+     *
+     * @param version the version the match is expected to have in storage
+     * @return the delta
+     */
+    public MatchDelta atVersion(long version) {
+        return new MatchDelta(matchId, status, homeScore, awayScore, venue, startTime, lastEventSequence,
+                updatedAt, newEvents, version);
+    }
+
+    /**
+     * Check whether the delta carries any new events.
+     */
+    public boolean hasNewEvents() {
+        return !newEvents.isEmpty();
+    }
+}
@@ -22,14 +22,28 @@ public class MatchEvent {
     private Player primaryPlayer;
     private Player secondaryPlayer;
     private LocalDateTime timestamp;
+    
+    /**
+     * Minute of play the event happened in, stamped by the match when the event is added.
+     */
     private int matchMinute;
+    
+    /**
+     * Minute of stoppage time, so an event in 90+3 has matchMinute 90 and addedMinute 3.
+     */
+    private int addedMinute;
+    private long sequence;
     private String userId;
+    
+    /**
+     * Key supplied by the client so a retried submission is recorded only once per match.
+     */
+    private String idempotencyKey;
     private Map<String, String> data = new HashMap<>();
 
     public MatchEvent() {
         this.id = UUID.randomUUID();
         this.timestamp = LocalDateTime.now();
-        this.matchMinute = calculateMatchMinute();
     }
 
     public MatchEvent(MatchEventType type, String description, Player primaryPlayer, Player secondaryPlayer) {
@@ -39,17 +53,5 @@ public class MatchEvent {
         this.primaryPlayer = primaryPlayer;
         this.secondaryPlayer = secondaryPlayer;
         this.timestamp = LocalDateTime.now();
-        this.matchMinute = calculateMatchMinute();
-    }
-
-    /**
-     * Calculate the match minute based on the current time.
-     * This is a simplified implementation and would need to be enhanced
-     * with actual match start time in a real application.
-     */
-    private int calculateMatchMinute() {
-        // In a real implementation, this would calculate based on match start time
-        // For now, we'll just return a placeholder value
-        return 0;
     }
 }
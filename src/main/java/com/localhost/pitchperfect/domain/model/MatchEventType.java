@@ -5,6 +5,8 @@ package com.localhost.pitchperfect.domain.model;
  */
 public enum MatchEventType {
     MATCH_START,
+    HALF_TIME,
+    SECOND_HALF_START,
     MATCH_END,
     MATCH_CANCELLED,
     GOAL,
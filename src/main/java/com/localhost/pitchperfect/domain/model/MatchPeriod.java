@@ -0,0 +1,12 @@
+package com.localhost.pitchperfect.domain.model;
+
+/**
+ * Enum representing the periods of play a match goes through.
+ */
+public enum MatchPeriod {
+    NOT_STARTED,
+    FIRST_HALF,
+    HALF_TIME,
+    SECOND_HALF,
+    FULL_TIME
+}
@@ -0,0 +1,173 @@
+package com.localhost.pitchperfect.domain.model;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Immutable record of when a match kicked off, went in at half time, restarted and ended.
+ * Derived from the match's events, so nothing beyond the events needs to be stored.
+ * Match minutes follow the usual football convention: the first minute of a half is minute 1
+ * (or 46), and time played beyond 45 minutes in a half is stoppage time, shown as 45+N or 90+N.
+ */
+@Getter
+public final class MatchTimeline {
+
+    public static final int HALF_LENGTH_MINUTES = 45;
+
+    private static final MatchTimeline NOT_STARTED = new MatchTimeline(null, null, null, null);
+
+    private final LocalDateTime kickoffAt;
+    private final LocalDateTime halfTimeAt;
+    private final LocalDateTime secondHalfAt;
+    private final LocalDateTime fullTimeAt;
+
+    private MatchTimeline(LocalDateTime kickoffAt, LocalDateTime halfTimeAt,
+                          LocalDateTime secondHalfAt, LocalDateTime fullTimeAt) {
+        this.kickoffAt = kickoffAt;
+        this.halfTimeAt = halfTimeAt;
+        this.secondHalfAt = secondHalfAt;
+        this.fullTimeAt = fullTimeAt;
+    }
+
+    /**
+     * Get the timeline of a match that has not kicked off.
+     */
+    public static MatchTimeline notStarted() {
+        return NOT_STARTED;
+    }
+
+    /**
+     * Rebuild the timeline of a stored match from its events.
+     * A LIVE match without a start event is taken to have kicked off at its start time.
+     *
+     * @param events the match events in sequence order
+     * @param status the match status
+     * @param startTime the scheduled start time
+     * @return the timeline
+     */
+    public static MatchTimeline of(List<MatchEvent> events, MatchStatus status, LocalDateTime startTime) {
+        MatchTimeline timeline = NOT_STARTED;
+        for (MatchEvent event : events) {
+            timeline = timeline.with(event);
+        }
+        if (timeline.kickoffAt == null && status == MatchStatus.LIVE && startTime != null) {
+            timeline = new MatchTimeline(startTime, null, null, null);
+        }
+        return timeline;
+    }
+
+    /**
+     * Get the timeline after an event.
+     * Events that do not start or stop the clock return this timeline unchanged.
+     *
+     * @param event the event
+     * @return the resulting timeline
+     */
+    public MatchTimeline with(MatchEvent event) {
+        if (event.getType() == null) {
+            return this;
+        }
+        LocalDateTime at = event.getTimestamp();
+        return switch (event.getType()) {
+            case MATCH_START -> new MatchTimeline(at, null, null, null);
+            case HALF_TIME -> new MatchTimeline(kickoffAt, at, secondHalfAt, fullTimeAt);
+            case SECOND_HALF_START -> new MatchTimeline(kickoffAt, halfTimeAt != null ? halfTimeAt : at, at, fullTimeAt);
+            case MATCH_END, MATCH_CANCELLED -> kickoffAt != null
+                    ? new MatchTimeline(kickoffAt, halfTimeAt, secondHalfAt, at) : this;
+            default -> this;
+        };
+    }
+
+    /**
+     * Check whether the match has kicked off.
+     */
+    public boolean isStarted() {
+        return kickoffAt != null;
+    }
+
+    /**
+     * Get the period of play at a given time.
+     *
+     * @param time the time
+     * @return the period
+     */
+    public MatchPeriod periodAt(LocalDateTime time) {
+        if (kickoffAt == null || time.isBefore(kickoffAt)) {
+            return MatchPeriod.NOT_STARTED;
+        }
+        if (fullTimeAt != null && !time.isBefore(fullTimeAt)) {
+            return MatchPeriod.FULL_TIME;
+        }
+        if (secondHalfAt != null && !time.isBefore(secondHalfAt)) {
+            return MatchPeriod.SECOND_HALF;
+        }
+        if (halfTimeAt != null && !time.isBefore(halfTimeAt)) {
+            return MatchPeriod.HALF_TIME;
+        }
+        return MatchPeriod.FIRST_HALF;
+    }
+
+    /**
+     * Get the match minute at a given time, without stoppage time.
+     * The minute stays at the last minute played while the clock is stopped.
+     *
+     * @param time the time
+     * @return the minute, from 1 to 90, or 0 before kick-off
+     */
+    public int minuteAt(LocalDateTime time) {
+        return stampAt(time)[0];
+    }
+
+    /**
+     * Get the minute of stoppage time at a given time.
+     *
+     * @param time the time
+     * @return the N in 45+N or 90+N, or 0 outside stoppage time
+     */
+    public int addedMinuteAt(LocalDateTime time) {
+        return stampAt(time)[1];
+    }
+
+    /**
+     * Get the time at which the match minute next changes.
+     *
+     * @param time the current time
+     * @return the start of the next minute, or null if the clock is not running
+     */
+    public LocalDateTime nextMinuteAfter(LocalDateTime time) {
+        LocalDateTime halfStart = switch (periodAt(time)) {
+            case FIRST_HALF -> kickoffAt;
+            case SECOND_HALF -> secondHalfAt;
+            default -> null;
+        };
+        if (halfStart == null) {
+            return null;
+        }
+        return halfStart.plusMinutes(Duration.between(halfStart, time).toMinutes() + 1);
+    }
+
+    private int[] stampAt(LocalDateTime time) {
+        LocalDateTime at = fullTimeAt != null && time.isAfter(fullTimeAt) ? fullTimeAt : time;
+        if (kickoffAt == null || at.isBefore(kickoffAt)) {
+            return new int[] {0, 0};
+        }
+        if (secondHalfAt != null && !at.isBefore(secondHalfAt)) {
+            return stamp(HALF_LENGTH_MINUTES, Duration.between(secondHalfAt, at).toMinutes());
+        }
+        if (halfTimeAt != null && at.isAfter(halfTimeAt)) {
+            at = halfTimeAt;
+        }
+        return stamp(0, Duration.between(kickoffAt, at).toMinutes());
+    }
+
+    private static int[] stamp(int offset, long elapsedMinutes) {
+        int minute = (int) elapsedMinutes + 1;
+        if (minute <= HALF_LENGTH_MINUTES) {
+            return new int[] {offset + minute, 0};
+        }
+        return new int[] {offset + HALF_LENGTH_MINUTES, minute - HALF_LENGTH_MINUTES};
+    }
+}
@@ -1,6 +1,7 @@
 package com.localhost.pitchperfect.domain.model;
 
 import lombok.AccessLevel;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -40,6 +41,23 @@ public class Player {
         validateJerseyNumber();
     }
 
+    /**
+     * Reconstitute a player from persisted state.
+     */
+    @Builder(builderMethodName = "restore")
+    private Player(UUID id, String name, LocalDate dateOfBirth, String nationality, Position position,
+                   String jerseyNumber, String photoUrl, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.dateOfBirth = dateOfBirth;
+        this.nationality = nationality;
+        this.position = position;
+        this.jerseyNumber = jerseyNumber;
+        this.photoUrl = photoUrl;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     /**
      * Update player information.
      */
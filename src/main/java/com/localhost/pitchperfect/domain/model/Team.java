@@ -1,6 +1,7 @@
 package com.localhost.pitchperfect.domain.model;
 
 import lombok.AccessLevel;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -39,6 +40,22 @@ public class Team {
         validateShortName();
     }
 
+    /**
+     * Reconstitute a team from persisted state.
+     */
+    @Builder(builderMethodName = "restore")
+    private Team(UUID id, String name, String shortName, String country, String logoUrl,
+                 List<Player> players, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.shortName = shortName;
+        this.country = country;
+        this.logoUrl = logoUrl;
+        this.players = players != null ? new ArrayList<>(players) : new ArrayList<>();
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     /**
      * Add a player to the team.
      */
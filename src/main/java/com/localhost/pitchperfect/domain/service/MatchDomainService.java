@@ -57,7 +57,7 @@ public class MatchDomainService {
      * @return the updated match
      */
     public Match startMatch(Match match) {
-        // In a real implementation, this would contain domain logic
+        match.start();
         return match;
     }
     
@@ -68,7 +68,7 @@ public class MatchDomainService {
      * @return the updated match
      */
     public Match completeMatch(Match match) {
-        // In a real implementation, this would contain domain logic
+        match.complete();
         return match;
     }
     
@@ -80,7 +80,7 @@ public class MatchDomainService {
      * @return the updated match
      */
     public Match cancelMatch(Match match, String reason) {
-        // In a real implementation, this would contain domain logic
+        match.cancel(reason);
         return match;
     }
     
@@ -94,7 +94,11 @@ public class MatchDomainService {
      * @return the updated match
      */
     public Match addGoal(Match match, Player scorer, Player assistant, boolean isHomeTeam) {
-        // In a real implementation, this would contain domain logic
+        if (isHomeTeam) {
+            match.addHomeGoal(scorer, assistant);
+        } else {
+            match.addAwayGoal(scorer, assistant);
+        }
         return match;
     }
     
@@ -106,7 +110,7 @@ public class MatchDomainService {
      * @return the updated match
      */
     public Match addEvent(Match match, MatchEvent event) {
-        // In a real implementation, this would contain domain logic
+        match.addEvent(event);
         return match;
     }
     
@@ -119,7 +123,7 @@ public class MatchDomainService {
      * @return the updated match
      */
     public Match updateScore(Match match, int homeScore, int awayScore) {
-        // In a real implementation, this would contain domain logic
+        match.updateScore(homeScore, awayScore);
         return match;
     }
 }
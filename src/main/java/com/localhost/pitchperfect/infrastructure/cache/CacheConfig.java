@@ -0,0 +1,82 @@
+package com.localhost.pitchperfect.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.localhost.pitchperfect.application.service.CacheNames;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.time.Duration;
+
+/**
+ * Cache configuration for the application.
+ * Every cache has an in-process tier; with cache.redis.enabled=true a shared Redis tier is
+ * added and evictions are broadcast to the other nodes over Redis pub/sub.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public TwoTierCacheManager cacheManager(
+            MeterRegistry meterRegistry,
+            ObjectMapper objectMapper,
+            ObjectProvider<CacheInvalidationBus> invalidationBus,
+            ObjectProvider<RedisConnectionFactory> connectionFactory,
+            @Value("${cache.local.max-size:10000}") long localMaxSize,
+            @Value("${cache.local.ttl-seconds:600}") long localTtlSeconds,
+            @Value("${cache.redis.enabled:false}") boolean redisEnabled,
+            @Value("${cache.redis.ttl-seconds:3600}") long redisTtlSeconds,
+            @Value("${cache.redis.key-prefix:pitchperfect:cache:}") String redisKeyPrefix) {
+        RedisCacheManager remoteCacheManager = null;
+        if (redisEnabled) {
+            remoteCacheManager = RedisCacheManager.builder(connectionFactory.getObject())
+                    .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig()
+                            .entryTtl(Duration.ofSeconds(redisTtlSeconds))
+                            .disableCachingNullValues()
+                            .prefixCacheNameWith(redisKeyPrefix)
+                            .serializeValuesWith(RedisSerializationContext.SerializationPair
+                                    .fromSerializer(cacheValueSerializer(objectMapper))))
+                    .build();
+            remoteCacheManager.afterPropertiesSet();
+        }
+        return new TwoTierCacheManager(CacheNames.ALL, localMaxSize, Duration.ofSeconds(localTtlSeconds),
+                remoteCacheManager, invalidationBus.getIfAvailable(), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.redis.enabled", havingValue = "true")
+    public CacheInvalidationBus redisCacheInvalidationBus(
+            RedisConnectionFactory connectionFactory,
+            StringRedisTemplate stringRedisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${cache.redis.invalidation-channel:pitchperfect:cache:invalidation}") String channel) {
+        return new RedisCacheInvalidationBus(connectionFactory, stringRedisTemplate, objectMapper, channel);
+    }
+
+    /**
+     * JSON serializer for cached values. Values are stored with their type so DTOs and lists of
+     * DTOs are read back as such; only application and JDK types are accepted when reading.
+     */
+    static GenericJackson2JsonRedisSerializer cacheValueSerializer(ObjectMapper objectMapper) {
+        ObjectMapper mapper = objectMapper.copy();
+        mapper.activateDefaultTyping(BasicPolymorphicTypeValidator.builder()
+                        .allowIfSubType("com.localhost.pitchperfect.")
+                        .allowIfSubType("java.lang.")
+                        .allowIfSubType("java.util.")
+                        .allowIfSubType("java.time.")
+                        .build(),
+                ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        return new GenericJackson2JsonRedisSerializer(mapper);
+    }
+}
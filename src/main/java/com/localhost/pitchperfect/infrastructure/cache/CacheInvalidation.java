@@ -0,0 +1,26 @@
+package com.localhost.pitchperfect.infrastructure.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An eviction as it travels between nodes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidation {
+
+    /**
+     * ID of the node that evicted the entry.
+     */
+    private String origin;
+
+    private String cacheName;
+
+    /**
+     * String form of the evicted key, or null if the whole cache was cleared.
+     */
+    private String key;
+}
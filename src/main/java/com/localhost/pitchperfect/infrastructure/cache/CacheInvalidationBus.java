@@ -0,0 +1,24 @@
+package com.localhost.pitchperfect.infrastructure.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Channel that carries cache evictions between application nodes.
+ * Every published invalidation is delivered to all subscribers, including the publishing node.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Publish an invalidation to every node.
+     *
+     * @param invalidation the invalidation
+     */
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * Register a listener for invalidations published by any node.
+     *
+     * @param listener the listener
+     */
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
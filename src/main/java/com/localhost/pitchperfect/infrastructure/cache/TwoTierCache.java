@@ -0,0 +1,148 @@
+package com.localhost.pitchperfect.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * Cache with a size-bounded in-process tier in front of an optional shared tier.
+ * Reads try the local tier first and copy shared hits into it; loads go through the shared tier
+ * before the value loader runs. Writes and evictions are applied to both tiers, and evictions
+ * are reported so other nodes can drop their local copies.
+ */
+public class TwoTierCache implements Cache {
+
+    private final CaffeineCache local;
+    private final Cache remote;
+    private final BiConsumer<String, Object> evictionListener;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    /**
+     * @param local the in-process tier
+     * @param remote the shared tier, or null to run with the local tier only
+     * @param evictionListener called with the cache name and key (null for clear) after an eviction
+     * @param meterRegistry registry for the shared tier hit and miss counts
+     */
+    public TwoTierCache(CaffeineCache local, Cache remote, BiConsumer<String, Object> evictionListener,
+                        MeterRegistry meterRegistry) {
+        this.local = local;
+        this.remote = remote;
+        this.evictionListener = evictionListener;
+        this.remoteHits = remoteCounter(meterRegistry, local.getName(), "hit");
+        this.remoteMisses = remoteCounter(meterRegistry, local.getName(), "miss");
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.get(key);
+        if (value != null || remote == null) {
+            return value;
+        }
+        value = getRemote(key);
+        if (value != null) {
+            local.put(key, value.get());
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // Concurrent misses for the same key wait for a single load
+        return local.get(key, () -> load(key, valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (remote != null) {
+            remote.put(key, value);
+        }
+        local.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        if (remote != null) {
+            remote.evict(key);
+        }
+        local.evict(key);
+        evictionListener.accept(getName(), key);
+    }
+
+    @Override
+    public void clear() {
+        if (remote != null) {
+            remote.clear();
+        }
+        local.clear();
+        evictionListener.accept(getName(), null);
+    }
+
+    /**
+     * Drop an entry from the local tier only, after another node evicted it.
+     * Keys arrive in string form, so they are compared by their string representation.
+     *
+     * @param key the string form of the key, or null to clear the local tier
+     */
+    void evictLocal(String key) {
+        if (key == null) {
+            local.clear();
+        } else {
+            local.getNativeCache().asMap().keySet().removeIf(cached -> key.equals(cached.toString()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T load(Object key, Callable<T> valueLoader) throws Exception {
+        if (remote != null) {
+            ValueWrapper shared = getRemote(key);
+            if (shared != null) {
+                return (T) shared.get();
+            }
+        }
+        T value = valueLoader.call();
+        if (remote != null && value != null) {
+            remote.put(key, value);
+        }
+        return value;
+    }
+
+    private ValueWrapper getRemote(Object key) {
+        ValueWrapper value = remote.get(key);
+        (value != null ? remoteHits : remoteMisses).increment();
+        return value;
+    }
+
+    private static Counter remoteCounter(MeterRegistry meterRegistry, String cacheName, String result) {
+        return Counter.builder("cache.remote.gets")
+                .description("Lookups in the shared cache tier after a local miss")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,106 @@
+package com.localhost.pitchperfect.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache manager that builds a TwoTierCache for every cache name.
+ * The local tier is a Caffeine cache whose hit and miss counts are published as the standard
+ * cache metrics. When a shared CacheManager and an invalidation bus are configured, every
+ * eviction is broadcast and other nodes drop their local copy of the entry. Puts and evictions
+ * are deferred until the surrounding transaction commits.
+ */
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Collection<String> cacheNames;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final CacheManager remoteCacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param cacheNames the caches to create up front
+     * @param localMaxSize the maximum number of entries in each local tier
+     * @param localTtl how long an entry stays in a local tier after it was written
+     * @param remoteCacheManager the shared tier, or null to run with local tiers only
+     * @param invalidationBus the bus evictions are broadcast on, or null on a single node
+     * @param meterRegistry the registry for cache metrics
+     */
+    public TwoTierCacheManager(Collection<String> cacheNames, long localMaxSize, Duration localTtl,
+                               CacheManager remoteCacheManager, CacheInvalidationBus invalidationBus,
+                               MeterRegistry meterRegistry) {
+        this.cacheNames = cacheNames;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+        this.remoteCacheManager = remoteCacheManager;
+        this.invalidationBus = invalidationBus;
+        this.meterRegistry = meterRegistry;
+        setTransactionAware(true);
+        if (invalidationBus != null) {
+            invalidationBus.subscribe(this::onInvalidation);
+        }
+    }
+
+    /**
+     * Get the ID this node stamps on the invalidations it publishes.
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return cacheNames.stream()
+                .map(this::createCache)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    private TwoTierCache createCache(String name) {
+        return caches.computeIfAbsent(name, key -> {
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> local = Caffeine.newBuilder()
+                    .maximumSize(localMaxSize)
+                    .expireAfterWrite(localTtl)
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, local, name);
+            Cache remote = remoteCacheManager != null ? remoteCacheManager.getCache(name) : null;
+            return new TwoTierCache(new CaffeineCache(name, local, false), remote, this::publishEviction,
+                    meterRegistry);
+        });
+    }
+
+    private void publishEviction(String cacheName, Object key) {
+        if (invalidationBus != null) {
+            invalidationBus.publish(new CacheInvalidation(nodeId, cacheName, key != null ? key.toString() : null));
+        }
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.getOrigin())) {
+            return;
+        }
+        TwoTierCache cache = caches.get(invalidation.getCacheName());
+        if (cache != null) {
+            cache.evictLocal(invalidation.getKey());
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.localhost.pitchperfect.infrastructure.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 /**
@@ -17,7 +19,9 @@ import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            @Value("${management.server.port:-1}") int managementPort) throws Exception {
         // For development purposes, we'll disable CSRF and allow all requests
         // In a production environment, this would be configured with proper authentication
         http
@@ -29,6 +33,12 @@ public class SecurityConfig {
                 .requestMatchers(new AntPathRequestMatcher("/v3/api-docs/**")).permitAll()
                 .requestMatchers(new AntPathRequestMatcher("/api-docs/**")).permitAll()
                 .requestMatchers(new AntPathRequestMatcher("/h2-console/**")).permitAll()
+                // Scrapes are only let through on the management port, which is bound to a private address
+                .requestMatchers(new AndRequestMatcher(
+                        new AntPathRequestMatcher("/actuator/prometheus"),
+                        request -> request.getLocalPort() == managementPort)).permitAll()
+                // WebSocket clients authenticate with a JWT in the STOMP CONNECT frame
+                .requestMatchers(new AntPathRequestMatcher("/ws/**")).permitAll()
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session
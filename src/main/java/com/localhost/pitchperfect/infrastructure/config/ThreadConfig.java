@@ -0,0 +1,23 @@
+package com.localhost.pitchperfect.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Runs HTTP requests on virtual threads when threads.mode=VIRTUAL.
+ * STOMP channels follow the same setting in WebSocketConfig.
+ */
+@Configuration
+@ConditionalOnProperty(name = "threads.mode", havingValue = "VIRTUAL")
+@Slf4j
+public class ThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("Handling HTTP requests on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor("http-virtual-"));
+    }
+}
@@ -0,0 +1,11 @@
+package com.localhost.pitchperfect.infrastructure.config;
+
+/**
+ * Which threads run STOMP channel handlers and HTTP requests.
+ */
+public enum ThreadMode {
+    /** Bounded pools of platform threads. */
+    PLATFORM,
+    /** A new virtual thread per task; blocking calls release the carrier thread. Needs Java 21. */
+    VIRTUAL
+}
@@ -0,0 +1,50 @@
+package com.localhost.pitchperfect.infrastructure.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates executors backed by virtual threads.
+ * The Java 21 API is looked up at runtime, so the application still builds for Java 17 and
+ * only fails when VIRTUAL mode is selected on an older runtime.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Check whether the running JVM supports virtual threads.
+     */
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    /**
+     * Create an executor that starts a new named virtual thread for every task.
+     *
+     * @param namePrefix the thread name prefix, followed by a counter
+     * @return the executor
+     * @throws IllegalStateException if the JVM does not support virtual threads
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        if (!isSupported()) {
+            throw new IllegalStateException("Virtual threads need Java 21 or later, running on "
+                    + Runtime.version() + "; build with -Pjava21 or use threads.mode=PLATFORM");
+        }
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Virtual threads are not available on " + Runtime.version(), e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Failed to create a virtual thread executor", e.getCause());
+        }
+    }
+}
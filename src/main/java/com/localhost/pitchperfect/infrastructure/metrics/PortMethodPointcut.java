@@ -0,0 +1,47 @@
+package com.localhost.pitchperfect.infrastructure.metrics;
+
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Matches the methods that implement an inbound or outbound port.
+ * A port is any interface in the application.port.in or application.port.out packages.
+ */
+class PortMethodPointcut extends StaticMethodMatcherPointcut {
+
+    static final String INBOUND_PORT_PACKAGE = "com.localhost.pitchperfect.application.port.in";
+    static final String OUTBOUND_PORT_PACKAGE = "com.localhost.pitchperfect.application.port.out";
+
+    PortMethodPointcut() {
+        setClassFilter(type -> !type.isInterface() && ClassUtils.getAllInterfacesForClassAsSet(type).stream()
+                .anyMatch(PortMethodPointcut::isPort));
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return portOf(method, targetClass) != null;
+    }
+
+    /**
+     * Find the port that declares a method of a class.
+     *
+     * @param method the method
+     * @param targetClass the class implementing the method
+     * @return the port interface, or null if the method is not part of a port
+     */
+    static Class<?> portOf(Method method, Class<?> targetClass) {
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (isPort(type) && ClassUtils.hasMethod(type, method.getName(), method.getParameterTypes())) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    static boolean isPort(Class<?> type) {
+        String packageName = type.getPackageName();
+        return packageName.equals(INBOUND_PORT_PACKAGE) || packageName.equals(OUTBOUND_PORT_PACKAGE);
+    }
+}
@@ -0,0 +1,34 @@
+package com.localhost.pitchperfect.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * Metrics for the inbound and outbound ports.
+ * The advisor is applied by the same auto-proxy creator as transactions, so port
+ * implementations keep a single class-based proxy. Set metrics.ports.enabled=false to turn it off.
+ * Percentile histograms add a bucket series per timer, so they are off unless
+ * metrics.ports.percentile-histogram is set.
+ */
+@Configuration
+@ConditionalOnProperty(name = "metrics.ports.enabled", havingValue = "true", matchIfMissing = true)
+public class PortMetricsConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor portMetricsAdvisor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${metrics.ports.percentile-histogram:false}") boolean percentileHistogram) {
+        // The registry is resolved on first use: advisors are created before most other beans
+        return new DefaultPointcutAdvisor(new PortMethodPointcut(),
+                new PortMetricsInterceptor(meterRegistry, percentileHistogram));
+    }
+}
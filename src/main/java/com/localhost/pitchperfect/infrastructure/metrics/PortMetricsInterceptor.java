@@ -0,0 +1,90 @@
+package com.localhost.pitchperfect.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every call through an inbound or outbound port.
+ * Calls are recorded in the port.calls timer, tagged with the port, method, implementing class,
+ * direction and outcome. Timers are created on the first call of each method and looked up by
+ * method afterwards, so a call costs a map lookup and two clock reads.
+ */
+public class PortMetricsInterceptor implements MethodInterceptor {
+
+    static final String METRIC_NAME = "port.calls";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final boolean percentileHistogram;
+    private final Map<Method, PortMeters> meters = new ConcurrentHashMap<>();
+
+    public PortMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry, boolean percentileHistogram) {
+        this.meterRegistry = meterRegistry;
+        this.percentileHistogram = percentileHistogram;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        PortMeters portMeters = meters.get(method);
+        if (portMeters == null) {
+            portMeters = meters.computeIfAbsent(method, key -> new PortMeters(key, invocation.getThis()));
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            portMeters.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            portMeters.failure(e).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    /**
+     * Timers for one port method: one for successful calls and one per exception type.
+     */
+    private final class PortMeters {
+        private final Tags tags;
+        private final Timer success;
+        private final Map<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+
+        private PortMeters(Method method, Object target) {
+            Class<?> targetClass = ClassUtils.getUserClass(target);
+            Class<?> port = PortMethodPointcut.portOf(method, targetClass);
+            boolean inbound = port != null && port.getPackageName().equals(PortMethodPointcut.INBOUND_PORT_PACKAGE);
+            this.tags = Tags.of(
+                    "port", port != null ? port.getSimpleName() : "unknown",
+                    "direction", inbound ? "in" : "out",
+                    "method", method.getName(),
+                    "class", targetClass.getSimpleName());
+            this.success = timer("success", "none");
+        }
+
+        private Timer failure(Throwable e) {
+            return failures.computeIfAbsent(e.getClass(), type -> timer("error", type.getSimpleName()));
+        }
+
+        private Timer timer(String outcome, String exception) {
+            return Timer.builder(METRIC_NAME)
+                    .description("Time spent in calls through inbound and outbound ports")
+                    .tags(tags)
+                    .tags("outcome", outcome, "exception", exception)
+                    .publishPercentileHistogram(percentileHistogram)
+                    .minimumExpectedValue(Duration.ofNanos(10_000))
+                    .maximumExpectedValue(Duration.ofSeconds(30))
+                    .register(meterRegistry.getObject());
+        }
+    }
+}
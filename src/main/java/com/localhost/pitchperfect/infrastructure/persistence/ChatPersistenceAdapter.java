@@ -5,6 +5,7 @@ import com.localhost.pitchperfect.application.port.out.ChatPersistencePort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -19,10 +20,16 @@ public class ChatPersistenceAdapter implements ChatPersistencePort {
 
     private final ChatMessageJpaRepository chatMessageRepository;
     private final UserJpaRepository userRepository;
+    private final OutboxWriter outboxWriter;
+    
+    /** Outbox event type written for every saved chat message. */
+    static final String MESSAGE_CREATED_EVENT = "chat.message.created";
     
     private static final String DEFAULT_AVATAR = "default-avatar.jpg";
+    private static final String UNKNOWN_USER = "Unknown User";
 
     @Override
+    @Transactional
     public ChatMessageDto saveMessage(String roomId, ChatMessageDto message) {
         // Convert DTO to entity
         ChatMessageEntity entity = new ChatMessageEntity();
@@ -37,15 +44,24 @@ public class ChatPersistenceAdapter implements ChatPersistencePort {
         // Save entity
         ChatMessageEntity savedEntity = chatMessageRepository.save(entity);
         
-        // Convert back to DTO
-        return toDto(savedEntity);
+        // Convert back to DTO and record the event in the same transaction
+        ChatMessageDto savedMessage = toDto(savedEntity);
+        outboxWriter.append(MESSAGE_CREATED_EVENT, roomId, savedMessage);
+        return savedMessage;
+    }
+
+    @Override
+    public Optional<ChatMessageDto.SenderDto> findSenderProfile(String userId) {
+        return userRepository.findById(userId)
+                .map(user -> new ChatMessageDto.SenderDto(userId, user.getUsername(),
+                        user.getAvatarUrl() != null ? user.getAvatarUrl() : DEFAULT_AVATAR));
     }
 
     @Override
     public String getUsernameById(String userId) {
         return userRepository.findById(userId)
                 .map(UserEntity::getUsername)
-                .orElse("Unknown User");
+                .orElse(UNKNOWN_USER);
     }
 
     @Override
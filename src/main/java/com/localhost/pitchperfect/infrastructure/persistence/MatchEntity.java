@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -13,23 +14,32 @@ import java.util.UUID;
 
 /**
  * JPA Entity for Match.
+ * Teams are loaded lazily; list queries fetch them through the {@value #TEAMS_GRAPH} graph,
+ * while squads and events are loaded in batches.
  */
 @Entity
 @Table(name = "matches")
+@NamedEntityGraph(name = MatchEntity.TEAMS_GRAPH, attributeNodes = {
+        @NamedAttributeNode("homeTeam"),
+        @NamedAttributeNode("awayTeam")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class MatchEntity {
     
+    /** Entity graph loading both teams with the match. */
+    public static final String TEAMS_GRAPH = "MatchEntity.teams";
+    
     @Id
     private UUID id;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "home_team_id", nullable = false)
     private TeamEntity homeTeam;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "away_team_id", nullable = false)
     private TeamEntity awayTeam;
     
@@ -48,13 +58,27 @@ public class MatchEntity {
     @Column(nullable = false)
     private int awayScore;
     
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "match_id")
+    /**
+     * Read-only view of the event log; events are written through the MatchEventStorePort.
+     */
+    @OneToMany
+    @JoinColumn(name = "match_id", insertable = false, updatable = false)
+    @OrderBy("sequence ASC")
+    @BatchSize(size = 50)
     private List<MatchEventEntity> events = new ArrayList<>();
     
+    @Column(nullable = false)
+    private long lastEventSequence;
+    
     @Column(nullable = false)
     private LocalDateTime createdAt;
     
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+    
+    /**
+     * Optimistic lock; state updates only apply to the version they were based on.
+     */
+    @Version
+    private long version;
 }
@@ -5,35 +5,50 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
  * JPA Entity for MatchEvent.
+ * Events are append-only: ids are assigned by the domain, so the entity reports itself as new
+ * until it has been persisted or loaded, letting saves go straight to INSERT without a lookup.
  */
 @Entity
-@Table(name = "match_events")
+@Table(name = "match_events",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_match_events_match_sequence",
+                        columnNames = {"match_id", "sequence_number"}),
+                @UniqueConstraint(name = "uk_match_events_match_idempotency_key",
+                        columnNames = {"match_id", "idempotency_key"})
+        })
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class MatchEventEntity {
+public class MatchEventEntity implements Persistable<UUID> {
     
     @Id
     private UUID id;
     
+    @Column(name = "match_id", nullable = false)
+    private UUID matchId;
+    
+    @Column(name = "sequence_number", nullable = false)
+    private long sequence;
+    
     @Column(nullable = false)
     private String type;
     
     @Column(nullable = false)
     private String description;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "primary_player_id")
     private PlayerEntity primaryPlayer;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "secondary_player_id")
     private PlayerEntity secondaryPlayer;
     
@@ -42,4 +57,24 @@ public class MatchEventEntity {
     
     @Column(nullable = false)
     private int matchMinute;
+    
+    @Column(nullable = false)
+    private int addedMinute;
+    
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;
+    
+    @Transient
+    private boolean persisted;
+    
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+    
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
 }
@@ -0,0 +1,30 @@
+package com.localhost.pitchperfect.infrastructure.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPA Repository for MatchEvent entities.
+ */
+@Repository
+public interface MatchEventJpaRepository extends JpaRepository<MatchEventEntity, UUID> {
+    
+    @EntityGraph(attributePaths = {"primaryPlayer", "secondaryPlayer"})
+    List<MatchEventEntity> findByMatchIdAndSequenceGreaterThanEqualOrderBySequenceAsc(
+            UUID matchId, long sequence, Pageable pageable);
+    
+    @Query("select coalesce(max(e.sequence), 0) from MatchEventEntity e where e.matchId = :matchId")
+    long findLastSequence(@Param("matchId") UUID matchId);
+    
+    @Modifying
+    @Query("delete from MatchEventEntity e where e.matchId = :matchId")
+    int deleteByMatchId(@Param("matchId") UUID matchId);
+}
@@ -0,0 +1,53 @@
+package com.localhost.pitchperfect.infrastructure.persistence;
+
+import com.localhost.pitchperfect.application.port.out.MatchEventStorePort;
+import com.localhost.pitchperfect.domain.model.MatchEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of the MatchEventStorePort.
+ * Writes are plain INSERTs batched by Hibernate; the unique (match_id, sequence_number)
+ * constraint guards against the same sequence being written twice.
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchEventStoreAdapter implements MatchEventStorePort {
+
+    private final MatchEventJpaRepository matchEventRepository;
+    private final MatchPersistenceMapper mapper;
+
+    @Override
+    @Transactional
+    public void append(UUID matchId, List<MatchEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        var entities = events.stream()
+                .map(mapper::toEntity)
+                .peek(entity -> entity.setMatchId(matchId))
+                .toList();
+        matchEventRepository.saveAll(entities);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MatchEvent> readFrom(UUID matchId, long fromSequence, int limit) {
+        return matchEventRepository
+                .findByMatchIdAndSequenceGreaterThanEqualOrderBySequenceAsc(matchId, fromSequence, PageRequest.of(0, limit))
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getLastSequence(UUID matchId) {
+        return matchEventRepository.findLastSequence(matchId);
+    }
+}
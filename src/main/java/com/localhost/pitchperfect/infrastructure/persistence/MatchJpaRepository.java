@@ -1,22 +1,63 @@
 package com.localhost.pitchperfect.infrastructure.persistence;
 
+import com.localhost.pitchperfect.application.dto.ResourceVersion;
 import com.localhost.pitchperfect.domain.model.Match;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * JPA Repository for Match entities.
+ * Read methods load both teams in the same query through the teams entity graph.
  */
 @Repository
 public interface MatchJpaRepository extends JpaRepository<MatchEntity, UUID> {
     
+    @Override
+    @EntityGraph(MatchEntity.TEAMS_GRAPH)
+    Optional<MatchEntity> findById(UUID id);
+    
+    @Override
+    @EntityGraph(MatchEntity.TEAMS_GRAPH)
+    List<MatchEntity> findAll();
+    
+    @EntityGraph(MatchEntity.TEAMS_GRAPH)
     List<MatchEntity> findByStatus(String status);
     
+    @EntityGraph(MatchEntity.TEAMS_GRAPH)
     List<MatchEntity> findByStartTimeBetween(LocalDateTime startTime, LocalDateTime endTime);
     
+    @EntityGraph(MatchEntity.TEAMS_GRAPH)
     List<MatchEntity> findByHomeTeamIdOrAwayTeamId(UUID homeTeamId, UUID awayTeamId);
+    
+    @Query("select new com.localhost.pitchperfect.application.dto.ResourceVersion("
+            + "1 + m.lastEventSequence, m.updatedAt) from MatchEntity m where m.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") UUID id);
+    
+    /**
+     * Update the scalar state of a match if it still has the expected version, and bump the version.
+     *
+     * @return 1 if the match was updated, 0 if it does not exist or has a different version
+     */
+    @Modifying
+    @Query("update MatchEntity m set m.status = :status, m.homeScore = :homeScore, m.awayScore = :awayScore, "
+            + "m.venue = :venue, m.startTime = :startTime, m.lastEventSequence = :lastEventSequence, "
+            + "m.updatedAt = :updatedAt, m.version = m.version + 1 where m.id = :id and m.version = :version")
+    int updateState(@Param("id") UUID id,
+                    @Param("version") long version,
+                    @Param("status") String status,
+                    @Param("homeScore") int homeScore,
+                    @Param("awayScore") int awayScore,
+                    @Param("venue") String venue,
+                    @Param("startTime") LocalDateTime startTime,
+                    @Param("lastEventSequence") long lastEventSequence,
+                    @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -1,14 +1,27 @@
 package com.localhost.pitchperfect.infrastructure.persistence;
 
+import com.localhost.pitchperfect.application.dto.MatchFilter;
+import com.localhost.pitchperfect.application.dto.MatchSummaryDto;
+import com.localhost.pitchperfect.application.dto.ResourceVersion;
+import com.localhost.pitchperfect.application.port.out.MatchEventStorePort;
 import com.localhost.pitchperfect.application.port.out.MatchPersistencePort;
 import com.localhost.pitchperfect.domain.model.Match;
+import com.localhost.pitchperfect.domain.model.MatchDelta;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the MatchPersistencePort.
@@ -18,16 +31,43 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class MatchPersistenceAdapter implements MatchPersistencePort {
 
+    /** Outbox event type written for every event appended to a match. */
+    static final String MATCH_EVENT_RECORDED_EVENT = "match.event.recorded";
+
+    /** Matches read per query while streaming, and how often the persistence context is cleared. */
+    private static final int STREAM_FETCH_SIZE = 200;
+
+    private static final String MATCH_SELECT =
+            "select m from MatchEntity m join fetch m.homeTeam join fetch m.awayTeam";
+
+    /** Constructor expression reading only the columns of a summary; no events or players are loaded. */
+    private static final String SUMMARY_SELECT = "select new " + MatchSummaryDto.class.getName()
+            + "(m.id, h.id, h.name, h.shortName, a.id, a.name, a.shortName, m.homeScore, m.awayScore, "
+            + "m.status, m.venue, m.startTime) from MatchEntity m join m.homeTeam h join m.awayTeam a";
+
+    /**
+     * Version of the selected matches; the event count is included because appending events
+     * does not always touch updatedAt.
+     */
+    private static final String VERSION_SELECT = "select new " + ResourceVersion.class.getName()
+            + "(count(m) + coalesce(sum(m.lastEventSequence), 0), max(m.updatedAt)) from MatchEntity m";
+
     private final MatchJpaRepository matchRepository;
+    private final MatchEventJpaRepository matchEventRepository;
+    private final MatchEventStorePort matchEventStorePort;
     private final MatchPersistenceMapper mapper;
+    private final OutboxWriter outboxWriter;
+    private final EntityManager entityManager;
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Match> findById(UUID id) {
         return matchRepository.findById(id)
                 .map(mapper::toDomain);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Match> findAll() {
         return matchRepository.findAll().stream()
                 .map(mapper::toDomain)
@@ -35,6 +75,7 @@ public class MatchPersistenceAdapter implements MatchPersistencePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Match> findByStatus(String status) {
         return matchRepository.findByStatus(status).stream()
                 .map(mapper::toDomain)
@@ -42,6 +83,7 @@ public class MatchPersistenceAdapter implements MatchPersistencePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Match> findByStartTimeBetween(LocalDateTime startTime, LocalDateTime endTime) {
         return matchRepository.findByStartTimeBetween(startTime, endTime).stream()
                 .map(mapper::toDomain)
@@ -49,12 +91,67 @@ public class MatchPersistenceAdapter implements MatchPersistencePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Match> findByTeamId(UUID teamId) {
         return matchRepository.findByHomeTeamIdOrAwayTeamId(teamId, teamId).stream()
                 .map(mapper::toDomain)
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Match> findPage(MatchFilter filter, LocalDateTime afterStartTime, UUID afterId, int limit) {
+        // Map only after the whole page is loaded, so squads and events of all rows are batch-loaded together
+        return query(MATCH_SELECT, MatchEntity.class, filter, afterStartTime, afterId)
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Stream<Match> streamAll(MatchFilter filter) {
+        // Read in keyset chunks rather than row by row, so squads and events are batch-loaded
+        // for a whole chunk and the persistence context is cleared once it has been mapped
+        return Stream.iterate(loadChunk(filter, null, null), chunk -> !chunk.isEmpty(), chunk -> {
+                    Match last = chunk.get(chunk.size() - 1);
+                    return chunk.size() < STREAM_FETCH_SIZE
+                            ? List.<Match>of()
+                            : loadChunk(filter, last.getStartTime(), last.getId());
+                })
+                .flatMap(List::stream);
+    }
+
+    @Override
+    public List<MatchSummaryDto> findSummaryPage(MatchFilter filter, LocalDateTime afterStartTime, UUID afterId,
+                                                 int limit) {
+        return query(SUMMARY_SELECT, MatchSummaryDto.class, filter, afterStartTime, afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<MatchSummaryDto> streamSummaries(MatchFilter filter) {
+        // Constructor results are not managed, so the persistence context stays empty
+        return query(SUMMARY_SELECT, MatchSummaryDto.class, filter, null, null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> findVersion(UUID id) {
+        return matchRepository.findVersionById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion findVersion(MatchFilter filter) {
+        return query(VERSION_SELECT, ResourceVersion.class, filter, null, null, false)
+                .getSingleResult();
+    }
+
     @Override
     public Match save(Match match) {
         var entity = mapper.toEntity(match);
@@ -63,8 +160,84 @@ public class MatchPersistenceAdapter implements MatchPersistencePort {
     }
 
     @Override
+    @Transactional
+    public void saveDelta(MatchDelta delta) {
+        int updated = matchRepository.updateState(delta.getMatchId(), delta.getVersion(), delta.getStatus().name(),
+                delta.getHomeScore(), delta.getAwayScore(), delta.getVenue(), delta.getStartTime(),
+                delta.getLastEventSequence(), delta.getUpdatedAt());
+        if (updated == 0) {
+            if (matchRepository.existsById(delta.getMatchId())) {
+                throw new OptimisticLockingFailureException("Match " + delta.getMatchId()
+                        + " was changed since version " + delta.getVersion());
+            }
+            throw new IllegalArgumentException("Match not found with ID: " + delta.getMatchId());
+        }
+        
+        if (delta.hasNewEvents()) {
+            matchEventStorePort.append(delta.getMatchId(), delta.getNewEvents());
+            String matchId = delta.getMatchId().toString();
+            outboxWriter.appendAll(MATCH_EVENT_RECORDED_EVENT, delta.getNewEvents(), event -> matchId,
+                    mapper::toEventPayload);
+        }
+    }
+
+    @Override
+    @Transactional
     public void delete(Match match) {
+        // The event log is not cascaded from the match, so it has to go first
+        matchEventRepository.deleteByMatchId(match.getId());
         var entity = mapper.toEntity(match);
         matchRepository.delete(entity);
     }
+
+    private List<Match> loadChunk(MatchFilter filter, LocalDateTime afterStartTime, UUID afterId) {
+        List<Match> chunk = query(MATCH_SELECT, MatchEntity.class, filter, afterStartTime, afterId)
+                .setMaxResults(STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList()
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+        entityManager.clear();
+        return chunk;
+    }
+
+    private <T> TypedQuery<T> query(String select, Class<T> resultType, MatchFilter filter,
+                                    LocalDateTime afterStartTime, UUID afterId) {
+        return query(select, resultType, filter, afterStartTime, afterId, true);
+    }
+
+    private <T> TypedQuery<T> query(String select, Class<T> resultType, MatchFilter filter,
+                                    LocalDateTime afterStartTime, UUID afterId, boolean ordered) {
+        StringBuilder jpql = new StringBuilder(select).append(" where 1 = 1");
+        Map<String, Object> parameters = new HashMap<>();
+        if (filter.getStatus() != null) {
+            jpql.append(" and m.status = :status");
+            parameters.put("status", filter.getStatus());
+        }
+        if (filter.getStartTimeFrom() != null) {
+            jpql.append(" and m.startTime >= :startTimeFrom");
+            parameters.put("startTimeFrom", filter.getStartTimeFrom());
+        }
+        if (filter.getStartTimeTo() != null) {
+            jpql.append(" and m.startTime <= :startTimeTo");
+            parameters.put("startTimeTo", filter.getStartTimeTo());
+        }
+        if (filter.getTeamId() != null) {
+            jpql.append(" and (m.homeTeam.id = :teamId or m.awayTeam.id = :teamId)");
+            parameters.put("teamId", filter.getTeamId());
+        }
+        if (afterStartTime != null) {
+            jpql.append(" and (m.startTime > :afterStartTime or (m.startTime = :afterStartTime and m.id > :afterId))");
+            parameters.put("afterStartTime", afterStartTime);
+            parameters.put("afterId", afterId);
+        }
+        if (ordered) {
+            jpql.append(" order by m.startTime asc, m.id asc");
+        }
+
+        TypedQuery<T> query = entityManager.createQuery(jpql.toString(), resultType);
+        parameters.forEach(query::setParameter);
+        return query;
+    }
 }
@@ -1,5 +1,7 @@
 package com.localhost.pitchperfect.infrastructure.persistence;
 
+import com.localhost.pitchperfect.application.dto.MatchEventDto;
+import com.localhost.pitchperfect.application.dto.PlayerDto;
 import com.localhost.pitchperfect.domain.model.Match;
 import com.localhost.pitchperfect.domain.model.MatchEvent;
 import com.localhost.pitchperfect.domain.model.Player;
@@ -27,6 +29,7 @@ public interface MatchPersistenceMapper {
     
     MatchEvent toDomain(MatchEventEntity entity);
     
+    @Mapping(target = "persisted", ignore = true)
     MatchEventEntity toEntity(MatchEvent domain);
     
     Team toDomain(TeamEntity entity);
@@ -36,4 +39,14 @@ public interface MatchPersistenceMapper {
     Player toDomain(PlayerEntity entity);
     
     PlayerEntity toEntity(Player domain);
+    
+    /**
+     * Map an appended event to the payload of its outbox record.
+     */
+    @Mapping(target = "type", expression = "java(event.getType().name())")
+    MatchEventDto toEventPayload(MatchEvent event);
+    
+    @Mapping(target = "position", expression = "java(player.getPosition().getDisplayName())")
+    @Mapping(target = "age", expression = "java(player.getAge())")
+    PlayerDto toPayload(Player player);
 }
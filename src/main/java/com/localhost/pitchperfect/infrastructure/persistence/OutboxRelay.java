@@ -0,0 +1,168 @@
+package com.localhost.pitchperfect.infrastructure.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.localhost.pitchperfect.domain.event.DomainEventPublisher;
+import com.localhost.pitchperfect.domain.event.PayloadEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers outbox events to DomainEventPublisher subscribers.
+ * Each poll walks the outbox in id order, one batch per transaction: the batch is locked,
+ * published and deleted before the transaction commits. Only one batch is held in memory at
+ * a time. A crash before the commit redelivers the batch. Publishing only puts the events on
+ * the bus's in-memory ring buffer, though, so past the bus delivery is at-most-once: events
+ * whose rows are committed as deleted but which no subscriber has handled yet are lost if the
+ * node stops. Subscribers that must see every event should read the stored data themselves.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OutboxRelay {
+
+    private static final String DELETE_SQL = "DELETE FROM outbox_events WHERE id IN (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final DomainEventPublisher eventPublisher;
+    private final String selectSql;
+    private final int batchSize;
+    private final ScheduledExecutorService poller;
+
+    public OutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            DomainEventPublisher eventPublisher,
+            @Value("${outbox.relay.batch-size:500}") int batchSize,
+            @Value("${outbox.relay.poll-interval-ms:100}") long pollIntervalMillis,
+            @Value("${outbox.relay.lock-clause:FOR UPDATE SKIP LOCKED}") String lockClause) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.selectSql = "SELECT id, event_type, aggregate_id, payload_type, payload, occurred_at "
+                + "FROM outbox_events WHERE id > ? ORDER BY id LIMIT ? " + lockClause;
+        this.poller = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("outbox-relay-"));
+        this.poller.scheduleWithFixedDelay(this::pollQuietly, pollIntervalMillis, pollIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        poller.shutdown();
+        poller.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Deliver everything currently in the outbox.
+     *
+     * @return the number of events delivered
+     */
+    int poll() {
+        int delivered = 0;
+        long lastId = 0;
+        while (true) {
+            long afterId = lastId;
+            List<OutboxRow> batch = transactionTemplate.execute(status -> relayBatch(afterId));
+            if (batch == null || batch.isEmpty()) {
+                return delivered;
+            }
+            delivered += batch.size();
+            lastId = batch.get(batch.size() - 1).id;
+            if (batch.size() < batchSize) {
+                return delivered;
+            }
+        }
+    }
+
+    private List<OutboxRow> relayBatch(long afterId) {
+        // Keyset within one poll: rows locked by another relay are skipped, not re-read
+        List<OutboxRow> batch = jdbcTemplate.query(selectSql, this::mapRow, afterId, batchSize);
+        if (batch.isEmpty()) {
+            return batch;
+        }
+        for (OutboxRow row : batch) {
+            Object payload = readPayload(row);
+            if (payload != null) {
+                eventPublisher.publish(new PayloadEvent(row.eventType, row.aggregateId, payload, row.occurredAt));
+            }
+        }
+        namedJdbcTemplate.update(DELETE_SQL, new MapSqlParameterSource("ids", batch.stream().map(row -> row.id).toList()));
+        return batch;
+    }
+
+    private Object readPayload(OutboxRow row) {
+        Class<?> payloadType;
+        try {
+            payloadType = ClassUtils.forName(row.payloadType, getClass().getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            // The payload class was renamed or removed since the event was written
+            payloadType = JsonNode.class;
+        }
+        try {
+            return objectMapper.readValue(row.payload, payloadType);
+        } catch (JsonProcessingException e) {
+            log.error("Dropping unreadable outbox event {} of type {}", row.id, row.eventType, e);
+            return null;
+        }
+    }
+
+    private OutboxRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new OutboxRow(rs.getLong("id"), rs.getString("event_type"), rs.getString("aggregate_id"),
+                rs.getString("payload_type"), rs.getString("payload"), rs.getTimestamp("occurred_at").getTime());
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.error("Failed to relay outbox events", e);
+        }
+    }
+
+    /**
+     * An outbox row read by the relay.
+     */
+    private static final class OutboxRow {
+        private final long id;
+        private final String eventType;
+        private final String aggregateId;
+        private final String payloadType;
+        private final String payload;
+        private final long occurredAt;
+
+        private OutboxRow(long id, String eventType, String aggregateId, String payloadType, String payload,
+                          long occurredAt) {
+            this.id = id;
+            this.eventType = eventType;
+            this.aggregateId = aggregateId;
+            this.payloadType = payloadType;
+            this.payload = payload;
+            this.occurredAt = occurredAt;
+        }
+    }
+}
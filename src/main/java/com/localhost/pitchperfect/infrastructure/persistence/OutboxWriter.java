@@ -0,0 +1,75 @@
+package com.localhost.pitchperfect.infrastructure.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Appends events to the outbox table.
+ * Must be called inside the transaction that writes the data the events describe, so the
+ * events are committed or rolled back together with it.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO outbox_events "
+            + "(event_type, aggregate_id, payload_type, payload, occurred_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Append one event.
+     *
+     * @param eventType the event type, e.g. chat.message.created
+     * @param aggregateId the ID of the room, match or other aggregate the event belongs to
+     * @param payload the payload, serialized as JSON
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String eventType, String aggregateId, Object payload) {
+        appendAll(eventType, List.of(payload), ignored -> aggregateId, Function.identity());
+    }
+
+    /**
+     * Append events of one type in a single JDBC batch.
+     *
+     * @param eventType the event type
+     * @param items the written items
+     * @param aggregateIdOf extracts the aggregate ID of an item
+     * @param payloadOf extracts the payload of an item, serialized as JSON
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> void appendAll(String eventType, List<T> items, Function<T, String> aggregateIdOf,
+                              Function<T, ?> payloadOf) {
+        if (items.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(items.size());
+        for (T item : items) {
+            Object payload = payloadOf.apply(item);
+            rows.add(new Object[] {eventType, aggregateIdOf.apply(item), payload.getClass().getName(),
+                    toJson(payload), now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize outbox payload " + payload.getClass().getName(), e);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.localhost.pitchperfect.infrastructure.persistence;
 
+import com.localhost.pitchperfect.application.dto.ResourceVersion;
 import com.localhost.pitchperfect.domain.model.Position;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,4 +22,16 @@ public interface PlayerJpaRepository extends JpaRepository<PlayerEntity, UUID> {
     List<PlayerEntity> findByPosition(String position);
     
     List<PlayerEntity> findByNationality(String nationality);
+    
+    @Query("select new com.localhost.pitchperfect.application.dto.ResourceVersion(count(p), max(p.updatedAt)) "
+            + "from PlayerEntity p where p.id = :id")
+    ResourceVersion findVersionById(@Param("id") UUID id);
+    
+    @Query("select new com.localhost.pitchperfect.application.dto.ResourceVersion(count(p), max(p.updatedAt)) "
+            + "from PlayerEntity p where p.team.id = :teamId")
+    ResourceVersion findVersionByTeamId(@Param("teamId") UUID teamId);
+    
+    @Query("select new com.localhost.pitchperfect.application.dto.ResourceVersion(count(p), max(p.updatedAt)) "
+            + "from PlayerEntity p")
+    ResourceVersion findVersion();
 }
@@ -1,5 +1,6 @@
 package com.localhost.pitchperfect.infrastructure.persistence;
 
+import com.localhost.pitchperfect.application.dto.ResourceVersion;
 import com.localhost.pitchperfect.application.port.out.PlayerPersistencePort;
 import com.localhost.pitchperfect.domain.model.Player;
 import com.localhost.pitchperfect.domain.model.Position;
@@ -55,6 +56,22 @@ public class PlayerPersistenceAdapter implements PlayerPersistencePort {
                 .toList();
     }
 
+    @Override
+    public Optional<ResourceVersion> findVersion(UUID id) {
+        ResourceVersion version = playerRepository.findVersionById(id);
+        return version.getCount() == 0 ? Optional.empty() : Optional.of(version);
+    }
+
+    @Override
+    public ResourceVersion findVersionByTeamId(UUID teamId) {
+        return playerRepository.findVersionByTeamId(teamId);
+    }
+
+    @Override
+    public ResourceVersion findVersion() {
+        return playerRepository.findVersion();
+    }
+
     @Override
     public Player save(Player player) {
         var entity = mapper.toEntity(player);
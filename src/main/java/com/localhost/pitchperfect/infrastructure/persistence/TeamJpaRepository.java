@@ -1,7 +1,10 @@
 package com.localhost.pitchperfect.infrastructure.persistence;
 
+import com.localhost.pitchperfect.application.dto.ResourceVersion;
 import com.localhost.pitchperfect.domain.model.Player;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,4 +20,12 @@ public interface TeamJpaRepository extends JpaRepository<TeamEntity, UUID> {
     List<TeamEntity> findByCountry(String country);
     
     Optional<TeamEntity> findByName(String name);
+    
+    @Query("select new com.localhost.pitchperfect.application.dto.ResourceVersion(count(t), max(t.updatedAt)) "
+            + "from TeamEntity t where t.id = :id")
+    ResourceVersion findVersionById(@Param("id") UUID id);
+    
+    @Query("select new com.localhost.pitchperfect.application.dto.ResourceVersion(count(t), max(t.updatedAt)) "
+            + "from TeamEntity t")
+    ResourceVersion findVersion();
 }
@@ -1,9 +1,11 @@
 package com.localhost.pitchperfect.infrastructure.persistence;
 
+import com.localhost.pitchperfect.application.dto.ResourceVersion;
 import com.localhost.pitchperfect.application.port.out.TeamPersistencePort;
 import com.localhost.pitchperfect.domain.model.Team;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,15 +20,18 @@ import java.util.UUID;
 public class TeamPersistenceAdapter implements TeamPersistencePort {
 
     private final TeamJpaRepository teamRepository;
+    private final PlayerJpaRepository playerRepository;
     private final MatchPersistenceMapper mapper;
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Team> findById(UUID id) {
         return teamRepository.findById(id)
                 .map(mapper::toDomain);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Team> findAll() {
         return teamRepository.findAll().stream()
                 .map(mapper::toDomain)
@@ -34,6 +39,7 @@ public class TeamPersistenceAdapter implements TeamPersistencePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Team> findByCountry(String country) {
         return teamRepository.findByCountry(country).stream()
                 .map(mapper::toDomain)
@@ -41,11 +47,28 @@ public class TeamPersistenceAdapter implements TeamPersistencePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Team> findByName(String name) {
         return teamRepository.findByName(name)
                 .map(mapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> findVersion(UUID id) {
+        ResourceVersion team = teamRepository.findVersionById(id);
+        if (team.getCount() == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(team.and(playerRepository.findVersionByTeamId(id)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion findVersion() {
+        return teamRepository.findVersion().and(playerRepository.findVersion());
+    }
+
     @Override
     public Team save(Team team) {
         var entity = mapper.toEntity(team);
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.persistence.Column;
@@ -14,6 +15,7 @@ import jakarta.persistence.Column;
  */
 @Entity
 @Table(name = "users")
+@EntityListeners(UserProfileListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,45 @@
+package com.localhost.pitchperfect.infrastructure.persistence;
+
+import com.localhost.pitchperfect.domain.event.DomainEventPublisher;
+import com.localhost.pitchperfect.domain.event.UserProfileChangedEvent;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that publishes a UserProfileChangedEvent when a user is updated or removed.
+ * Inside a transaction the event is published after commit, so subscribers that reload the
+ * profile see the new state; nothing is published for a rollback.
+ */
+@Component
+public class UserProfileListener {
+
+    private final ObjectProvider<DomainEventPublisher> eventPublisher;
+
+    public UserProfileListener(ObjectProvider<DomainEventPublisher> eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostUpdate
+    @PostRemove
+    void onProfileChanged(UserEntity user) {
+        String userId = user.getId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(userId);
+            }
+        });
+    }
+
+    private void publish(String userId) {
+        eventPublisher.ifAvailable(publisher -> publisher.publish(new UserProfileChangedEvent(userId)));
+    }
+}
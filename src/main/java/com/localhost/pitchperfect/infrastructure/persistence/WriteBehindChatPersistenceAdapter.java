@@ -0,0 +1,310 @@
+package com.localhost.pitchperfect.infrastructure.persistence;
+
+import com.localhost.pitchperfect.application.dto.ChatMessageDto;
+import com.localhost.pitchperfect.application.port.out.ChatPersistencePort;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write-behind implementation of the ChatPersistencePort.
+ * Messages are accepted into a bounded queue and flushed to chat_messages by a single writer
+ * thread in JDBC batches, either when a batch is full or when the flush interval elapses.
+ * Each batch writes its chat.message.created outbox events in the same transaction.
+ * User lookups are delegated to the ChatPersistenceAdapter.
+ */
+@Component
+@Primary
+@Slf4j
+public class WriteBehindChatPersistenceAdapter implements ChatPersistencePort {
+
+    private static final String INSERT_SQL = "INSERT INTO chat_messages "
+            + "(id, room_id, content, timestamp, sender_id, sender_name, sender_avatar) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    /** Queued by shutdown so the writer wakes up and flushes its partial batch. */
+    private static final PendingMessage STOP = new PendingMessage(null, null);
+
+    /**
+     * How long saveMessage waits for the message to reach the database.
+     */
+    public enum DurabilityMode {
+        /** Return as soon as the message is queued; a crash can lose the last flush interval. */
+        ASYNC,
+        /** Queue the message and wait until the batch containing it is committed. */
+        GROUP_COMMIT,
+        /** Bypass the queue and insert each message on the calling thread. */
+        SYNC
+    }
+
+    private final ChatPersistenceAdapter delegate;
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxWriter outboxWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final DurabilityMode durabilityMode;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long shutdownTimeoutMillis;
+    private final BlockingQueue<PendingMessage> queue;
+    private final Thread writer;
+    private final ReadWriteLock enqueueLock = new ReentrantReadWriteLock();
+    private volatile boolean running = true;
+
+    public WriteBehindChatPersistenceAdapter(
+            ChatPersistenceAdapter delegate,
+            JdbcTemplate jdbcTemplate,
+            OutboxWriter outboxWriter,
+            PlatformTransactionManager transactionManager,
+            @Value("${chat.write-behind.durability:ASYNC}") DurabilityMode durabilityMode,
+            @Value("${chat.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${chat.write-behind.batch-size:200}") int batchSize,
+            @Value("${chat.write-behind.flush-interval-ms:50}") long flushIntervalMillis,
+            @Value("${chat.write-behind.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis) {
+        this.delegate = delegate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.outboxWriter = outboxWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.durabilityMode = durabilityMode;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::runWriter, "chat-write-behind");
+        this.writer.setDaemon(true);
+        if (durabilityMode != DurabilityMode.SYNC) {
+            this.writer.start();
+        }
+    }
+
+    @Override
+    public ChatMessageDto saveMessage(String roomId, ChatMessageDto message) {
+        if (durabilityMode == DurabilityMode.SYNC) {
+            return delegate.saveMessage(roomId, message);
+        }
+
+        PendingMessage pending = new PendingMessage(roomId, message);
+        if (!enqueue(pending)) {
+            return delegate.saveMessage(roomId, message);
+        }
+
+        if (durabilityMode == DurabilityMode.GROUP_COMMIT) {
+            awaitCommit(pending);
+        }
+        return message;
+    }
+
+    @Override
+    public Optional<ChatMessageDto.SenderDto> findSenderProfile(String userId) {
+        return delegate.findSenderProfile(userId);
+    }
+
+    @Override
+    public String getUsernameById(String userId) {
+        return delegate.getUsernameById(userId);
+    }
+
+    @Override
+    public String getUserAvatarById(String userId) {
+        return delegate.getUserAvatarById(userId);
+    }
+
+    /**
+     * Get the number of messages waiting to be written.
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * Stop the writer and flush every message that is still queued.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // Once this returns no producer can still be about to queue, so the drain below sees everything
+        enqueueLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            enqueueLock.writeLock().unlock();
+        }
+        queue.offer(STOP);
+        writer.join(shutdownTimeoutMillis);
+        List<PendingMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.remove(STOP);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+        log.info("Chat write-behind stopped, drained {} messages", remaining.size());
+    }
+
+    /**
+     * Queue a message for the writer.
+     *
+     * @return false if the writer is stopping or the queue is full, and the caller must write it
+     */
+    private boolean enqueue(PendingMessage pending) {
+        enqueueLock.readLock().lock();
+        try {
+            if (!running) {
+                return false;
+            }
+            if (!queue.offer(pending)) {
+                // Queue is full: push back on the producer instead of dropping the message
+                log.warn("Chat write-behind queue is full, writing message {} synchronously", pending.message.getId());
+                return false;
+            }
+            return true;
+        } finally {
+            enqueueLock.readLock().unlock();
+        }
+    }
+
+    private void runWriter() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingMessage first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null || first == STOP) {
+                    continue;
+                }
+                batch.add(first);
+                boolean stopped = collect(batch);
+                flush(batch);
+                if (stopped) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Fill the batch until it is full or the flush interval since its first message has elapsed.
+     *
+     * @return true if shutdown was requested while collecting
+     */
+    private boolean collect(List<PendingMessage> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            if (batch.remove(STOP)) {
+                return true;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return false;
+            }
+            PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return false;
+            }
+            if (next == STOP) {
+                return true;
+            }
+            batch.add(next);
+        }
+        return false;
+    }
+
+    private void flush(List<PendingMessage> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        bind(ps, batch.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                });
+                outboxWriter.appendAll(ChatPersistenceAdapter.MESSAGE_CREATED_EVENT, batch,
+                        pending -> pending.roomId, pending -> pending.message);
+            });
+            batch.forEach(pending -> pending.committed.complete(null));
+        } catch (RuntimeException e) {
+            // One bad row fails the whole batch; retry individually so the rest still land
+            log.warn("Chat batch of {} messages failed, retrying row by row", batch.size(), e);
+            batch.forEach(this::flushOne);
+        }
+    }
+
+    private void flushOne(PendingMessage pending) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, pending));
+                outboxWriter.append(ChatPersistenceAdapter.MESSAGE_CREATED_EVENT, pending.roomId, pending.message);
+            });
+            pending.committed.complete(null);
+        } catch (RuntimeException e) {
+            log.error("Failed to persist chat message {} in room {}", pending.message.getId(), pending.roomId, e);
+            pending.committed.completeExceptionally(e);
+        }
+    }
+
+    private void bind(PreparedStatement ps, PendingMessage pending) throws SQLException {
+        ChatMessageDto message = pending.message;
+        ps.setString(1, message.getId());
+        ps.setString(2, pending.roomId);
+        ps.setString(3, message.getContent());
+        ps.setTimestamp(4, Timestamp.from(message.getTimestamp()));
+        ps.setString(5, message.getSender().getId());
+        ps.setString(6, message.getSender().getUsername());
+        ps.setString(7, message.getSender().getAvatar());
+    }
+
+    private void awaitCommit(PendingMessage pending) {
+        try {
+            pending.committed.get(shutdownTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to persist chat message " + pending.message.getId(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Timed out persisting chat message " + pending.message.getId(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while persisting chat message " + pending.message.getId(), e);
+        }
+    }
+
+    /**
+     * A message waiting to be written.
+     */
+    private static final class PendingMessage {
+        private final String roomId;
+        private final ChatMessageDto message;
+        private final CompletableFuture<Void> committed = new CompletableFuture<>();
+
+        private PendingMessage(String roomId, ChatMessageDto message) {
+            this.roomId = roomId;
+            this.message = message;
+        }
+    }
+}
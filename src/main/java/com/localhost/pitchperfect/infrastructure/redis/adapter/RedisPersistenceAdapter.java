@@ -5,14 +5,14 @@ import com.localhost.pitchperfect.application.port.out.PresencePersistencePort;
 import com.localhost.pitchperfect.infrastructure.persistence.UserJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.TimeUnit;
-
 /**
  * Redis-based implementation of the PresencePersistencePort.
- * Manages user presence data in Redis.
+ * Manages user presence data in Redis. Writes go through the RedisPresenceWriter, which
+ * batches them into pipelines and keeps them locally while Redis is unavailable.
  */
 @Component
 @RequiredArgsConstructor
@@ -20,28 +20,37 @@ import java.util.concurrent.TimeUnit;
 public class RedisPersistenceAdapter implements PresencePersistencePort {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisPresenceWriter presenceWriter;
     private final UserJpaRepository userRepository;
     
     // Redis key prefixes
     private static final String USER_STATUS_KEY = "user:status:";
-    private static final String USER_SUBSCRIPTION_KEY = "user:subscription:";
+    private static final String USER_NAME_KEY = "user:name:";
+    // Hash per user: subscriptionId -> roomId, so all subscriptions of a user live under one key
+    private static final String USER_SUBSCRIPTIONS_KEY = "user:subscriptions:";
     
     // TTL for presence data (24 hours)
     private static final long STATUS_TTL = 24 * 60 * 60;
 
     @Override
     public void saveUserStatus(String userId, PresenceStatusDto status) {
-        String key = USER_STATUS_KEY + userId;
-        redisTemplate.opsForValue().set(key, status);
-        redisTemplate.expire(key, STATUS_TTL, TimeUnit.SECONDS);
-        log.debug("Saved user status in Redis: {}", userId);
+        presenceWriter.set(USER_STATUS_KEY + userId, status, STATUS_TTL);
+        log.debug("Queued user status for Redis: {}", userId);
     }
 
     @Override
     public String getUsernameById(String userId) {
-        // First try to get from Redis cache
-        String cacheKey = "user:name:" + userId;
-        String username = (String) redisTemplate.opsForValue().get(cacheKey);
+        // First try the pending local write, then the Redis cache
+        String cacheKey = USER_NAME_KEY + userId;
+        String username = (String) presenceWriter.getPending(cacheKey);
+        
+        if (username == null && presenceWriter.isRedisAvailable()) {
+            try {
+                username = (String) redisTemplate.opsForValue().get(cacheKey);
+            } catch (DataAccessException e) {
+                log.debug("Redis read failed for {}, falling back to the database", cacheKey);
+            }
+        }
         
         if (username == null) {
             // If not in cache, get from database
@@ -51,8 +60,7 @@ public class RedisPersistenceAdapter implements PresencePersistencePort {
             
             // Cache the result
             if (!"Unknown User".equals(username)) {
-                redisTemplate.opsForValue().set(cacheKey, username);
-                redisTemplate.expire(cacheKey, STATUS_TTL, TimeUnit.SECONDS);
+                presenceWriter.set(cacheKey, username, STATUS_TTL);
             }
         }
         
@@ -61,32 +69,41 @@ public class RedisPersistenceAdapter implements PresencePersistencePort {
 
     @Override
     public void saveUserSubscription(String userId, String subscriptionId, String roomId) {
-        String key = USER_SUBSCRIPTION_KEY + userId + ":" + subscriptionId;
-        redisTemplate.opsForValue().set(key, roomId);
-        redisTemplate.expire(key, STATUS_TTL, TimeUnit.SECONDS);
-        log.debug("Saved user subscription in Redis: {} -> {}", subscriptionId, roomId);
+        // The TTL is refreshed while the user stays active
+        presenceWriter.putHashField(USER_SUBSCRIPTIONS_KEY + userId, subscriptionId, roomId, STATUS_TTL);
+        log.debug("Queued user subscription for Redis: {} -> {}", subscriptionId, roomId);
     }
 
     @Override
     public void removeUserSubscription(String userId, String subscriptionId) {
-        String key = USER_SUBSCRIPTION_KEY + userId + ":" + subscriptionId;
-        redisTemplate.delete(key);
-        log.debug("Removed user subscription from Redis: {}", subscriptionId);
+        presenceWriter.deleteHashField(USER_SUBSCRIPTIONS_KEY + userId, subscriptionId);
+        log.debug("Queued removal of user subscription: {}", subscriptionId);
     }
 
     @Override
     public void removeAllUserSubscriptions(String userId) {
-        // Find all keys matching the pattern
-        String pattern = USER_SUBSCRIPTION_KEY + userId + ":*";
-        redisTemplate.keys(pattern).forEach(key -> {
-            redisTemplate.delete(key);
-        });
-        log.debug("Removed all subscriptions for user: {}", userId);
+        // A single DEL of the user's hash; no keyspace scan
+        presenceWriter.deleteHash(USER_SUBSCRIPTIONS_KEY + userId);
+        log.debug("Queued removal of all subscriptions for user: {}", userId);
     }
 
     @Override
     public String getRoomIdBySubscription(String userId, String subscriptionId) {
-        String key = USER_SUBSCRIPTION_KEY + userId + ":" + subscriptionId;
-        return (String) redisTemplate.opsForValue().get(key);
+        // A subscription that is not flushed yet, or is being removed, is answered locally
+        String key = USER_SUBSCRIPTIONS_KEY + userId;
+        RedisPresenceWriter.PendingField pending = presenceWriter.getPendingHashField(key, subscriptionId);
+        if (pending != null) {
+            return (String) pending.getValue();
+        }
+        
+        if (!presenceWriter.isRedisAvailable()) {
+            return null;
+        }
+        try {
+            return (String) redisTemplate.opsForHash().get(key, subscriptionId);
+        } catch (DataAccessException e) {
+            log.debug("Redis read failed for subscription {}", subscriptionId);
+            return null;
+        }
     }
 }
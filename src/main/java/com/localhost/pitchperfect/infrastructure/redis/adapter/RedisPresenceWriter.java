@@ -0,0 +1,341 @@
+package com.localhost.pitchperfect.infrastructure.redis.adapter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Batching writer for presence data in Redis.
+ * Value writes are coalesced per key (the latest value wins) and flushed every few milliseconds
+ * as pipelined SET-with-expiry commands, together with any queued hash commands in submission
+ * order. While Redis is unreachable, pending writes are kept locally, served to readers through
+ * {@link #getPending(String)} and {@link #getPendingHashField(String, String)}, and retried at a
+ * slower interval.
+ */
+@Component
+@Slf4j
+public class RedisPresenceWriter {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ScheduledExecutorService flusher;
+    private final int maxBatchSize;
+    private final int maxPendingCommands;
+    private final long retryIntervalNanos;
+    private final Map<String, ValueWrite> pendingValues = new ConcurrentHashMap<>();
+    private final Deque<Consumer<RedisOperations<String, Object>>> pendingCommands = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger pendingCommandCount = new AtomicInteger();
+    private final Map<String, Deque<HashWrite>> pendingHashWrites = new ConcurrentHashMap<>();
+    private volatile boolean redisAvailable = true;
+    private volatile long nextRetryAt;
+
+    public RedisPresenceWriter(
+            RedisTemplate<String, Object> redisTemplate,
+            @Value("${presence.writer.flush-interval-ms:5}") long flushIntervalMillis,
+            @Value("${presence.writer.max-batch-size:500}") int maxBatchSize,
+            @Value("${presence.writer.max-pending-commands:100000}") int maxPendingCommands,
+            @Value("${presence.writer.retry-interval-ms:1000}") long retryIntervalMillis) {
+        this.redisTemplate = redisTemplate;
+        this.maxBatchSize = maxBatchSize;
+        this.maxPendingCommands = maxPendingCommands;
+        this.retryIntervalNanos = TimeUnit.MILLISECONDS.toNanos(retryIntervalMillis);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("presence-writer-"));
+        this.flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queue a SET with expiry. A later write to the same key replaces this one if it has not
+     * been flushed yet.
+     *
+     * @param key the Redis key
+     * @param value the value
+     * @param ttlSeconds the expiry in seconds
+     */
+    public void set(String key, Object value, long ttlSeconds) {
+        pendingValues.put(key, new ValueWrite(value, ttlSeconds));
+    }
+
+    /**
+     * Queue a command that must be applied in order with other submitted commands.
+     *
+     * @param command the command to run inside the pipeline
+     */
+    public void submit(Consumer<RedisOperations<String, Object>> command) {
+        pendingCommands.add(command);
+        if (pendingCommandCount.incrementAndGet() > maxPendingCommands) {
+            Consumer<RedisOperations<String, Object>> dropped = pollCommand();
+            if (dropped != null) {
+                untrack(dropped);
+                log.warn("Presence command backlog exceeded {}, dropping the oldest command", maxPendingCommands);
+            }
+        }
+    }
+
+    /**
+     * Queue an HSET of one field, refreshing the expiry of the hash. Until it is flushed the
+     * field is served by {@link #getPendingHashField(String, String)}.
+     *
+     * @param key the Redis key of the hash
+     * @param field the field
+     * @param value the value
+     * @param ttlSeconds the expiry of the hash in seconds
+     */
+    public void putHashField(String key, String field, Object value, long ttlSeconds) {
+        submitTracked(new HashWrite(key, field, value, ttlSeconds));
+    }
+
+    /**
+     * Queue an HDEL of one field.
+     *
+     * @param key the Redis key of the hash
+     * @param field the field
+     */
+    public void deleteHashField(String key, String field) {
+        submitTracked(new HashWrite(key, field, null, 0));
+    }
+
+    /**
+     * Queue a DEL of a whole hash.
+     *
+     * @param key the Redis key of the hash
+     */
+    public void deleteHash(String key) {
+        submitTracked(new HashWrite(key, null, null, 0));
+    }
+
+    /**
+     * Get a value that is written locally but not yet flushed to Redis.
+     *
+     * @param key the Redis key
+     * @return the pending value, or null if nothing is pending for the key
+     */
+    public Object getPending(String key) {
+        ValueWrite write = pendingValues.get(key);
+        return write != null ? write.value : null;
+    }
+
+    /**
+     * Get a hash field as it will be once the queued hash writes for its key are flushed.
+     *
+     * @param key the Redis key of the hash
+     * @param field the field
+     * @return the pending field, whose value is null if it is being removed, or null if nothing
+     *         is pending for the field
+     */
+    public PendingField getPendingHashField(String key, String field) {
+        Deque<HashWrite> writes = pendingHashWrites.get(key);
+        if (writes == null) {
+            return null;
+        }
+        Iterator<HashWrite> newestFirst = writes.descendingIterator();
+        while (newestFirst.hasNext()) {
+            HashWrite write = newestFirst.next();
+            if (write.field == null || write.field.equals(field)) {
+                return new PendingField(write.value);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check whether the last flush reached Redis.
+     */
+    public boolean isRedisAvailable() {
+        return redisAvailable;
+    }
+
+    /**
+     * Stop the flusher and try to write everything that is still pending.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(1, TimeUnit.SECONDS);
+        redisAvailable = true;
+        flushQuietly();
+    }
+
+    void flush() {
+        if (!redisAvailable && System.nanoTime() < nextRetryAt) {
+            return;
+        }
+
+        boolean more = true;
+        while (more && (!pendingValues.isEmpty() || !pendingCommands.isEmpty())) {
+            Map<String, ValueWrite> values = new HashMap<>();
+            for (Map.Entry<String, ValueWrite> entry : pendingValues.entrySet()) {
+                if (values.size() >= maxBatchSize) {
+                    break;
+                }
+                if (pendingValues.remove(entry.getKey(), entry.getValue())) {
+                    values.put(entry.getKey(), entry.getValue());
+                }
+            }
+            List<Consumer<RedisOperations<String, Object>>> commands = new ArrayList<>();
+            while (values.size() + commands.size() < maxBatchSize) {
+                Consumer<RedisOperations<String, Object>> command = pollCommand();
+                if (command == null) {
+                    break;
+                }
+                commands.add(command);
+            }
+            more = values.size() + commands.size() >= maxBatchSize;
+
+            try {
+                write(values, commands);
+                commands.forEach(this::untrack);
+                if (!redisAvailable) {
+                    log.info("Redis is reachable again, presence writes resumed");
+                }
+                redisAvailable = true;
+            } catch (DataAccessException e) {
+                restore(values, commands);
+                if (redisAvailable) {
+                    log.warn("Redis is unavailable, keeping presence writes locally", e);
+                }
+                redisAvailable = false;
+                nextRetryAt = System.nanoTime() + retryIntervalNanos;
+                return;
+            }
+        }
+    }
+
+    private Consumer<RedisOperations<String, Object>> pollCommand() {
+        Consumer<RedisOperations<String, Object>> command = pendingCommands.pollFirst();
+        if (command != null) {
+            pendingCommandCount.decrementAndGet();
+        }
+        return command;
+    }
+
+    private void submitTracked(HashWrite write) {
+        // Tracked before it is queued, so readers never miss it
+        pendingHashWrites.compute(write.key, (key, writes) -> {
+            Deque<HashWrite> target = writes != null ? writes : new ConcurrentLinkedDeque<>();
+            target.add(write);
+            return target;
+        });
+        submit(write);
+    }
+
+    private void untrack(Consumer<RedisOperations<String, Object>> command) {
+        if (command instanceof HashWrite write) {
+            pendingHashWrites.computeIfPresent(write.key, (key, writes) -> {
+                writes.removeFirstOccurrence(write);
+                return writes.isEmpty() ? null : writes;
+            });
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Unexpected error while flushing presence writes", e);
+        }
+    }
+
+    private void write(Map<String, ValueWrite> values, List<Consumer<RedisOperations<String, Object>>> commands) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                values.forEach((key, write) ->
+                        ops.opsForValue().set(key, write.value, write.ttlSeconds, TimeUnit.SECONDS));
+                commands.forEach(command -> command.accept(ops));
+                return null;
+            }
+        });
+    }
+
+    private void restore(Map<String, ValueWrite> values, List<Consumer<RedisOperations<String, Object>>> commands) {
+        // Newer writes that arrived during the failed flush take precedence
+        values.forEach(pendingValues::putIfAbsent);
+        for (int i = commands.size() - 1; i >= 0; i--) {
+            pendingCommands.offerFirst(commands.get(i));
+            pendingCommandCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * A hash field that is written or removed locally but not yet flushed to Redis.
+     */
+    public static final class PendingField {
+        private final Object value;
+
+        private PendingField(Object value) {
+            this.value = value;
+        }
+
+        /**
+         * Get the pending value, or null if the field is being removed.
+         */
+        public Object getValue() {
+            return value;
+        }
+    }
+
+    /**
+     * A queued hash command. Field is null when the whole hash is deleted, and value is null
+     * when the field is deleted.
+     */
+    private static final class HashWrite implements Consumer<RedisOperations<String, Object>> {
+        private final String key;
+        private final String field;
+        private final Object value;
+        private final long ttlSeconds;
+
+        private HashWrite(String key, String field, Object value, long ttlSeconds) {
+            this.key = key;
+            this.field = field;
+            this.value = value;
+            this.ttlSeconds = ttlSeconds;
+        }
+
+        @Override
+        public void accept(RedisOperations<String, Object> ops) {
+            if (field == null) {
+                ops.delete(key);
+            } else if (value == null) {
+                ops.opsForHash().delete(key, field);
+            } else {
+                ops.opsForHash().put(key, field, value);
+                ops.expire(key, ttlSeconds, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    /**
+     * A pending SET with expiry.
+     */
+    private static final class ValueWrite {
+        private final Object value;
+        private final long ttlSeconds;
+
+        private ValueWrite(Object value, long ttlSeconds) {
+            this.value = value;
+            this.ttlSeconds = ttlSeconds;
+        }
+    }
+}
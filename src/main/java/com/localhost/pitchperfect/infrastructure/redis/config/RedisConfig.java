@@ -1,5 +1,6 @@
 package com.localhost.pitchperfect.infrastructure.redis.config;
 
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -24,12 +25,14 @@ public class RedisConfig {
         // Use StringRedisSerializer for keys
         template.setKeySerializer(new StringRedisSerializer());
         
-        // Use GenericJackson2JsonRedisSerializer for values
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        // Use GenericJackson2JsonRedisSerializer for values; presence data carries java.time fields
+        GenericJackson2JsonRedisSerializer valueSerializer = new GenericJackson2JsonRedisSerializer()
+                .configure(mapper -> mapper.registerModule(new JavaTimeModule()));
+        template.setValueSerializer(valueSerializer);
         
         // Also set serializers for hash keys and values
         template.setHashKeySerializer(new StringRedisSerializer());
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setHashValueSerializer(valueSerializer);
         
         template.afterPropertiesSet();
         return template;
@@ -1,9 +1,16 @@
 package com.localhost.pitchperfect.infrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -13,26 +20,68 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * Provider class for JWT token operations.
  * Handles token creation, validation, and parsing.
+ * Tokens are verified with a single prebuilt parser, and verified tokens are cached by their
+ * SHA-256 hash until they expire, so reconnects with the same token skip the signature check.
  */
 @Component
 public class JwtTokenProvider {
 
+    static final String CACHE_NAME = "verifiedTokens";
+
     private final SecretKey secretKey;
     private final long tokenValidityInMilliseconds;
+    private final JwtParser jwtParser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     public JwtTokenProvider(
+            MeterRegistry meterRegistry,
             @Value("${security.jwt.token.secret-key:secret-key}") String secretKey,
-            @Value("${security.jwt.token.expire-length:86400000}") long tokenValidityInMilliseconds) {
+            @Value("${security.jwt.token.expire-length:86400000}") long tokenValidityInMilliseconds,
+            @Value("${security.jwt.token.cache-max-size:50000}") long cacheMaxSize) {
         this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes());
         this.tokenValidityInMilliseconds = tokenValidityInMilliseconds;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(this.secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        // Saturates rather than overflows for tokens without an expiry
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, token.expiresAtMillis - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, CACHE_NAME);
     }
 
     /**
@@ -58,6 +107,21 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * Validate a JWT token and build its authentication in one step.
+     *
+     * @param token the JWT token
+     * @return the authentication, or empty if the token is invalid or expired
+     */
+    public Optional<Authentication> authenticate(String token) {
+        try {
+            VerifiedToken verified = verify(token);
+            return Optional.of(new UsernamePasswordAuthenticationToken(verified.principal, token, verified.authorities));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Get authentication from a JWT token.
      *
@@ -65,20 +129,8 @@ public class JwtTokenProvider {
      * @return the authentication object
      */
     public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get("auth").toString().split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
-
-        User principal = new User(claims.getSubject(), "", authorities);
-
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        VerifiedToken verified = verify(token);
+        return new UsernamePasswordAuthenticationToken(verified.principal, token, verified.authorities);
     }
 
     /**
@@ -88,12 +140,7 @@ public class JwtTokenProvider {
      * @return true if the token is valid, false otherwise
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return authenticate(token).isPresent();
     }
 
     /**
@@ -103,11 +150,51 @@ public class JwtTokenProvider {
      * @return the user ID
      */
     public String getUserId(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return verify(token).principal.getUsername();
+    }
+
+    private VerifiedToken verify(String token) {
+        String key = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && cached.expiresAtMillis > System.currentTimeMillis()) {
+            return cached;
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        // A signed token without the auth claim carries no authorities
+        Object auth = claims.get("auth");
+        List<GrantedAuthority> authorities = auth == null ? List.of() : Arrays.stream(auth.toString().split(","))
+                .filter(authority -> !authority.isBlank())
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+        Date expiration = claims.getExpiration();
+        VerifiedToken verified = new VerifiedToken(new User(claims.getSubject(), "", authorities), authorities,
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+        verifiedTokens.put(key, verified);
+        return verified;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * The claims of a token whose signature has been checked.
+     */
+    private static final class VerifiedToken {
+        private final User principal;
+        private final Collection<? extends GrantedAuthority> authorities;
+        private final long expiresAtMillis;
+
+        private VerifiedToken(User principal, Collection<? extends GrantedAuthority> authorities, long expiresAtMillis) {
+            this.principal = principal;
+            this.authorities = authorities;
+            this.expiresAtMillis = expiresAtMillis;
+        }
     }
 }
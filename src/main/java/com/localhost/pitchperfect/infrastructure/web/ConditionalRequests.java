@@ -0,0 +1,75 @@
+package com.localhost.pitchperfect.infrastructure.web;
+
+import com.localhost.pitchperfect.application.dto.ResourceVersion;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Conditional GET support for the REST controllers.
+ * ETag and Last-Modified are derived from a ResourceVersion, so a request whose validators still
+ * match is answered with 304 before the resource is loaded or serialized. Both headers are also
+ * set on full responses.
+ */
+final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * Check the request's validators against the current version.
+     *
+     * @param request the current request
+     * @param version the current version of the resource
+     * @return true if the client's copy is current and a 304 should be returned
+     */
+    static boolean isNotModified(WebRequest request, ResourceVersion version) {
+        return isNotModified(request, version, null);
+    }
+
+    /**
+     * Check the request's validators against the current version of one representation.
+     *
+     * @param request the current request
+     * @param version the current version of the resource
+     * @param variant distinguishes representations of the same data, such as a summary view, or null
+     * @return true if the client's copy is current and a 304 should be returned
+     */
+    static boolean isNotModified(WebRequest request, ResourceVersion version, String variant) {
+        return request.checkNotModified(eTag(version, variant), lastModifiedMillis(version));
+    }
+
+    static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+
+    /**
+     * Weak ETag from the row count and the latest modification time rounded to microseconds,
+     * the precision the database keeps, so versions read from memory and from storage agree.
+     */
+    static String eTag(ResourceVersion version, String variant) {
+        StringBuilder tag = new StringBuilder("W/\"")
+                .append(Long.toString(version.getCount(), 36))
+                .append('-');
+        LocalDateTime lastModified = version.getLastModified();
+        if (lastModified != null) {
+            Instant instant = lastModified.atZone(ZoneId.systemDefault()).toInstant();
+            tag.append(Long.toString(instant.getEpochSecond() * 1_000_000 + (instant.getNano() + 500) / 1_000, 36));
+        } else {
+            tag.append('0');
+        }
+        if (variant != null) {
+            tag.append('-').append(variant);
+        }
+        return tag.append('"').toString();
+    }
+
+    private static long lastModifiedMillis(ResourceVersion version) {
+        LocalDateTime lastModified = version.getLastModified();
+        return lastModified != null ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+}
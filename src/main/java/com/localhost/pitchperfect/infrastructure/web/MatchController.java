@@ -1,8 +1,13 @@
 package com.localhost.pitchperfect.infrastructure.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.localhost.pitchperfect.application.dto.LiveScoreboardDto;
 import com.localhost.pitchperfect.application.dto.MatchDto;
 import com.localhost.pitchperfect.application.dto.MatchEventDto;
+import com.localhost.pitchperfect.application.dto.MatchFilter;
+import com.localhost.pitchperfect.application.dto.ResourceVersion;
 import com.localhost.pitchperfect.application.port.in.MatchUseCase;
+import com.localhost.pitchperfect.application.port.in.TeamUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,9 +16,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -28,64 +39,173 @@ import java.util.UUID;
 @Tag(name = "Match Management", description = "APIs for managing football matches")
 public class MatchController {
 
+    private static final String VIEW_FULL = "full";
+    private static final String VIEW_SUMMARY = "summary";
+
     private final MatchUseCase matchUseCase;
+    private final TeamUseCase teamUseCase;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Get match by ID", description = "Retrieves a match by its unique identifier")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Match found", 
                     content = @Content(schema = @Schema(implementation = MatchDto.class))),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match"),
         @ApiResponse(responseCode = "404", description = "Match not found"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/{id}")
     public ResponseEntity<MatchDto> getMatchById(
-            @Parameter(description = "Match ID", required = true) @PathVariable UUID id) {
+            @Parameter(description = "Match ID", required = true) @PathVariable UUID id,
+            WebRequest request) {
+        if (ConditionalRequests.isNotModified(request, matchVersion(id))) {
+            return ConditionalRequests.notModified();
+        }
         return ResponseEntity.ok(matchUseCase.getMatchById(id));
     }
 
     @Operation(summary = "Get all matches", description = "Retrieves a list of all matches")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successful operation"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping
-    public ResponseEntity<List<MatchDto>> getAllMatches() {
+    public ResponseEntity<List<?>> getAllMatches(
+            @Parameter(description = "Response view: full (with events and players) or summary (teams, score and status)")
+            @RequestParam(defaultValue = VIEW_FULL) String view,
+            WebRequest request) {
+        if (isNotModified(request, MatchFilter.all(), view)) {
+            return ConditionalRequests.notModified();
+        }
+        if (isSummaryView(view)) {
+            return ResponseEntity.ok(matchUseCase.getMatchSummaries(MatchFilter.all()));
+        }
         return ResponseEntity.ok(matchUseCase.getAllMatches());
     }
 
+    @Operation(summary = "Get a page of matches",
+            description = "Retrieves matches ordered by start time, one page at a time, optionally filtered")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successful operation"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/page")
+    public ResponseEntity<?> getMatchesPage(
+            @Parameter(description = "nextCursor of the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of matches in the page") @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Match status (e.g., SCHEDULED, LIVE, COMPLETED)") @RequestParam(required = false) String status,
+            @Parameter(description = "Earliest start time (ISO format)") @RequestParam(required = false) LocalDateTime startTime,
+            @Parameter(description = "Latest start time (ISO format)") @RequestParam(required = false) LocalDateTime endTime,
+            @Parameter(description = "Team ID") @RequestParam(required = false) UUID teamId,
+            @Parameter(description = "Response view: full (with events and players) or summary (teams, score and status)")
+            @RequestParam(defaultValue = VIEW_FULL) String view,
+            WebRequest request) {
+        MatchFilter filter = filter(status, startTime, endTime, teamId);
+        if (isNotModified(request, filter, view)) {
+            return ConditionalRequests.notModified();
+        }
+        if (isSummaryView(view)) {
+            return ResponseEntity.ok(matchUseCase.getMatchSummariesPage(filter, cursor, limit));
+        }
+        return ResponseEntity.ok(matchUseCase.getMatchesPage(filter, cursor, limit));
+    }
+
+    @Operation(summary = "Stream matches",
+            description = "Streams matches ordered by start time as newline-delimited JSON, optionally filtered")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successful operation"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMatches(
+            @Parameter(description = "Match status (e.g., SCHEDULED, LIVE, COMPLETED)") @RequestParam(required = false) String status,
+            @Parameter(description = "Earliest start time (ISO format)") @RequestParam(required = false) LocalDateTime startTime,
+            @Parameter(description = "Latest start time (ISO format)") @RequestParam(required = false) LocalDateTime endTime,
+            @Parameter(description = "Team ID") @RequestParam(required = false) UUID teamId,
+            @Parameter(description = "Response view: full (with events and players) or summary (teams, score and status)")
+            @RequestParam(defaultValue = VIEW_FULL) String view,
+            WebRequest request) {
+        MatchFilter filter = filter(status, startTime, endTime, teamId);
+        if (isNotModified(request, filter, view)) {
+            return ConditionalRequests.notModified();
+        }
+        StreamingResponseBody body = isSummaryView(view)
+                ? out -> matchUseCase.streamMatchSummaries(filter, summary -> writeLine(out, summary))
+                : out -> matchUseCase.streamMatches(filter, match -> writeLine(out, match));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @Operation(summary = "Get matches by status", description = "Retrieves matches filtered by their status")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successful operation"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<MatchDto>> getMatchesByStatus(
+    public ResponseEntity<List<?>> getMatchesByStatus(
             @Parameter(description = "Match status (e.g., SCHEDULED, LIVE, COMPLETED)", required = true) 
-            @PathVariable String status) {
+            @PathVariable String status,
+            @Parameter(description = "Response view: full (with events and players) or summary (teams, score and status)")
+            @RequestParam(defaultValue = VIEW_FULL) String view,
+            WebRequest request) {
+        MatchFilter filter = filter(status, null, null, null);
+        if (isNotModified(request, filter, view)) {
+            return ConditionalRequests.notModified();
+        }
+        if (isSummaryView(view)) {
+            return ResponseEntity.ok(matchUseCase.getMatchSummaries(filter));
+        }
         return ResponseEntity.ok(matchUseCase.getMatchesByStatus(status));
     }
 
     @Operation(summary = "Get matches by time range", description = "Retrieves matches scheduled within a specific time range")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successful operation"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match"),
         @ApiResponse(responseCode = "400", description = "Invalid time range parameters"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/timerange")
-    public ResponseEntity<List<MatchDto>> getMatchesByTimeRange(
+    public ResponseEntity<List<?>> getMatchesByTimeRange(
             @Parameter(description = "Start time (ISO format)", required = true) @RequestParam LocalDateTime startTime,
-            @Parameter(description = "End time (ISO format)", required = true) @RequestParam LocalDateTime endTime) {
+            @Parameter(description = "End time (ISO format)", required = true) @RequestParam LocalDateTime endTime,
+            @Parameter(description = "Response view: full (with events and players) or summary (teams, score and status)")
+            @RequestParam(defaultValue = VIEW_FULL) String view,
+            WebRequest request) {
+        MatchFilter filter = filter(null, startTime, endTime, null);
+        if (isNotModified(request, filter, view)) {
+            return ConditionalRequests.notModified();
+        }
+        if (isSummaryView(view)) {
+            return ResponseEntity.ok(matchUseCase.getMatchSummaries(filter));
+        }
         return ResponseEntity.ok(matchUseCase.getMatchesByTimeRange(startTime, endTime));
     }
 
     @Operation(summary = "Get matches by team", description = "Retrieves matches involving a specific team")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successful operation"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/team/{teamId}")
-    public ResponseEntity<List<MatchDto>> getMatchesByTeam(
-            @Parameter(description = "Team ID", required = true) @PathVariable UUID teamId) {
+    public ResponseEntity<List<?>> getMatchesByTeam(
+            @Parameter(description = "Team ID", required = true) @PathVariable UUID teamId,
+            @Parameter(description = "Response view: full (with events and players) or summary (teams, score and status)")
+            @RequestParam(defaultValue = VIEW_FULL) String view,
+            WebRequest request) {
+        MatchFilter filter = filter(null, null, null, teamId);
+        if (isNotModified(request, filter, view)) {
+            return ConditionalRequests.notModified();
+        }
+        if (isSummaryView(view)) {
+            return ResponseEntity.ok(matchUseCase.getMatchSummaries(filter));
+        }
         return ResponseEntity.ok(matchUseCase.getMatchesByTeam(teamId));
     }
 
@@ -155,7 +275,8 @@ public class MatchController {
         return ResponseEntity.ok(matchUseCase.updateScore(id, homeScore, awayScore));
     }
 
-    @Operation(summary = "Add a goal to a match", description = "Records a goal in a match")
+    @Operation(summary = "Add a goal to a match",
+            description = "Records a goal in a match. Retries carrying the same Idempotency-Key add the goal only once")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Goal added successfully"),
         @ApiResponse(responseCode = "404", description = "Match or player not found"),
@@ -166,19 +287,88 @@ public class MatchController {
             @Parameter(description = "Match ID", required = true) @PathVariable UUID id,
             @Parameter(description = "Scorer player ID", required = true) @RequestParam UUID scorerId,
             @Parameter(description = "Assistant player ID (optional)") @RequestParam(required = false) UUID assistantId,
-            @Parameter(description = "Whether the goal is for the home team", required = true) @RequestParam boolean isHomeTeam) {
-        return ResponseEntity.ok(matchUseCase.addGoal(id, scorerId, assistantId, isHomeTeam));
+            @Parameter(description = "Whether the goal is for the home team", required = true) @RequestParam boolean isHomeTeam,
+            @Parameter(description = "Client-generated key identifying this goal across retries")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        return ResponseEntity.ok(matchUseCase.addGoal(id, scorerId, assistantId, isHomeTeam, idempotencyKey));
+    }
+
+    @Operation(summary = "Get live scores",
+            description = "Retrieves status, score, minute and last event sequence of live matches from memory. "
+                    + "With sinceVersion, only the matches that changed after that version are returned, "
+                    + "unless the response is flagged as full")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successful operation",
+                    content = @Content(schema = @Schema(implementation = LiveScoreboardDto.class))),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/live/scores")
+    public ResponseEntity<LiveScoreboardDto> getLiveScores(
+            @Parameter(description = "Scoreboard version from the previous response") @RequestParam(required = false) Long sinceVersion) {
+        return ResponseEntity.ok(matchUseCase.getLiveScores(sinceVersion));
     }
 
-    @Operation(summary = "Get match events", description = "Retrieves all events for a specific match")
+    @Operation(summary = "Get match events",
+            description = "Retrieves events for a specific match, optionally resuming from a sequence number")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successful operation"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match"),
         @ApiResponse(responseCode = "404", description = "Match not found"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/{id}/events")
     public ResponseEntity<List<MatchEventDto>> getMatchEvents(
-            @Parameter(description = "Match ID", required = true) @PathVariable UUID id) {
+            @Parameter(description = "Match ID", required = true) @PathVariable UUID id,
+            @Parameter(description = "First event sequence number to return (inclusive)") @RequestParam(required = false) Long fromSequence,
+            @Parameter(description = "Maximum number of events when resuming") @RequestParam(defaultValue = "500") int limit,
+            WebRequest request) {
+        if (ConditionalRequests.isNotModified(request, matchVersion(id))) {
+            return ConditionalRequests.notModified();
+        }
+        if (fromSequence != null) {
+            return ResponseEntity.ok(matchUseCase.getMatchEvents(id, fromSequence, limit));
+        }
         return ResponseEntity.ok(matchUseCase.getMatchEvents(id));
     }
+
+    /**
+     * Match representations embed both teams with their squads, so their version includes the
+     * version of the team and player tables.
+     */
+    private ResourceVersion matchVersion(UUID matchId) {
+        return matchUseCase.getMatchVersion(matchId).and(teamUseCase.getTeamsVersion());
+    }
+
+    private boolean isNotModified(WebRequest request, MatchFilter filter, String view) {
+        ResourceVersion version = matchUseCase.getMatchesVersion(filter).and(teamUseCase.getTeamsVersion());
+        return ConditionalRequests.isNotModified(request, version, isSummaryView(view) ? VIEW_SUMMARY : VIEW_FULL);
+    }
+
+    private MatchFilter filter(String status, LocalDateTime startTime, LocalDateTime endTime, UUID teamId) {
+        return MatchFilter.builder()
+                .status(status)
+                .startTimeFrom(startTime)
+                .startTimeTo(endTime)
+                .teamId(teamId)
+                .build();
+    }
+
+    private boolean isSummaryView(String view) {
+        if (VIEW_SUMMARY.equalsIgnoreCase(view)) {
+            return true;
+        }
+        if (VIEW_FULL.equalsIgnoreCase(view)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Unknown view: " + view + ", expected full or summary");
+    }
+
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
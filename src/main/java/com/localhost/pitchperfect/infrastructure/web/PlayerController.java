@@ -13,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -34,56 +35,80 @@ public class PlayerController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Player found", 
                     content = @Content(schema = @Schema(implementation = PlayerDto.class))),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match"),
         @ApiResponse(responseCode = "404", description = "Player not found"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/{id}")
     public ResponseEntity<PlayerDto> getPlayerById(
-            @Parameter(description = "Player ID", required = true) @PathVariable UUID id) {
+            @Parameter(description = "Player ID", required = true) @PathVariable UUID id,
+            WebRequest request) {
+        if (ConditionalRequests.isNotModified(request, playerUseCase.getPlayerVersion(id))) {
+            return ConditionalRequests.notModified();
+        }
         return ResponseEntity.ok(playerUseCase.getPlayerById(id));
     }
 
     @Operation(summary = "Get all players", description = "Retrieves a list of all players")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successful operation"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping
-    public ResponseEntity<List<PlayerDto>> getAllPlayers() {
+    public ResponseEntity<List<PlayerDto>> getAllPlayers(WebRequest request) {
+        if (ConditionalRequests.isNotModified(request, playerUseCase.getPlayersVersion())) {
+            return ConditionalRequests.notModified();
+        }
         return ResponseEntity.ok(playerUseCase.getAllPlayers());
     }
 
     @Operation(summary = "Get players by team", description = "Retrieves players belonging to a specific team")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successful operation"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/team/{teamId}")
     public ResponseEntity<List<PlayerDto>> getPlayersByTeam(
-            @Parameter(description = "Team ID", required = true) @PathVariable UUID teamId) {
+            @Parameter(description = "Team ID", required = true) @PathVariable UUID teamId,
+            WebRequest request) {
+        if (ConditionalRequests.isNotModified(request, playerUseCase.getPlayersByTeamVersion(teamId))) {
+            return ConditionalRequests.notModified();
+        }
         return ResponseEntity.ok(playerUseCase.getPlayersByTeam(teamId));
     }
 
     @Operation(summary = "Get players by position", description = "Retrieves players filtered by their playing position")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successful operation"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/position/{position}")
     public ResponseEntity<List<PlayerDto>> getPlayersByPosition(
             @Parameter(description = "Player position (e.g., GOALKEEPER, DEFENDER, MIDFIELDER, FORWARD)", required = true) 
-            @PathVariable String position) {
+            @PathVariable String position,
+            WebRequest request) {
+        if (ConditionalRequests.isNotModified(request, playerUseCase.getPlayersVersion())) {
+            return ConditionalRequests.notModified();
+        }
         return ResponseEntity.ok(playerUseCase.getPlayersByPosition(position));
     }
 
     @Operation(summary = "Get players by nationality", description = "Retrieves players filtered by their nationality")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successful operation"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/nationality/{nationality}")
     public ResponseEntity<List<PlayerDto>> getPlayersByNationality(
-            @Parameter(description = "Player nationality", required = true) @PathVariable String nationality) {
+            @Parameter(description = "Player nationality", required = true) @PathVariable String nationality,
+            WebRequest request) {
+        if (ConditionalRequests.isNotModified(request, playerUseCase.getPlayersVersion())) {
+            return ConditionalRequests.notModified();
+        }
         return ResponseEntity.ok(playerUseCase.getPlayersByNationality(nationality));
     }
 
@@ -13,6 +13,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -33,33 +34,47 @@ public class TeamController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Team found", 
                     content = @Content(schema = @Schema(implementation = TeamDto.class))),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match"),
         @ApiResponse(responseCode = "404", description = "Team not found"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/{id}")
     public ResponseEntity<TeamDto> getTeamById(
-            @Parameter(description = "Team ID", required = true) @PathVariable UUID id) {
+            @Parameter(description = "Team ID", required = true) @PathVariable UUID id,
+            WebRequest request) {
+        if (ConditionalRequests.isNotModified(request, teamUseCase.getTeamVersion(id))) {
+            return ConditionalRequests.notModified();
+        }
         return ResponseEntity.ok(teamUseCase.getTeamById(id));
     }
 
     @Operation(summary = "Get all teams", description = "Retrieves a list of all teams")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successful operation"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping
-    public ResponseEntity<List<TeamDto>> getAllTeams() {
+    public ResponseEntity<List<TeamDto>> getAllTeams(WebRequest request) {
+        if (ConditionalRequests.isNotModified(request, teamUseCase.getTeamsVersion())) {
+            return ConditionalRequests.notModified();
+        }
         return ResponseEntity.ok(teamUseCase.getAllTeams());
     }
 
     @Operation(summary = "Get teams by country", description = "Retrieves teams filtered by their country")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successful operation"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/country/{country}")
     public ResponseEntity<List<TeamDto>> getTeamsByCountry(
-            @Parameter(description = "Country name", required = true) @PathVariable String country) {
+            @Parameter(description = "Country name", required = true) @PathVariable String country,
+            WebRequest request) {
+        if (ConditionalRequests.isNotModified(request, teamUseCase.getTeamsVersion())) {
+            return ConditionalRequests.notModified();
+        }
         return ResponseEntity.ok(teamUseCase.getTeamsByCountry(country));
     }
 
@@ -123,12 +138,17 @@ public class TeamController {
     @Operation(summary = "Get team players", description = "Retrieves all players in a team's roster")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successful operation"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the version in If-None-Match"),
         @ApiResponse(responseCode = "404", description = "Team not found"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/{teamId}/players")
     public ResponseEntity<List<PlayerDto>> getTeamPlayers(
-            @Parameter(description = "Team ID", required = true) @PathVariable UUID teamId) {
+            @Parameter(description = "Team ID", required = true) @PathVariable UUID teamId,
+            WebRequest request) {
+        if (ConditionalRequests.isNotModified(request, teamUseCase.getTeamVersion(teamId))) {
+            return ConditionalRequests.notModified();
+        }
         return ResponseEntity.ok(teamUseCase.getTeamPlayers(teamId));
     }
 }
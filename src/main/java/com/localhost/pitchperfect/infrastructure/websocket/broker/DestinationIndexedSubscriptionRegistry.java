@@ -0,0 +1,126 @@
+package com.localhost.pitchperfect.infrastructure.websocket.broker;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.broker.AbstractSubscriptionRegistry;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.PathMatcher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Subscription registry indexed by destination.
+ * Subscriptions to concrete destinations such as /topic/matches/{matchId} are kept in a map
+ * keyed by destination, so finding the subscribers of a message is a single lookup, and the
+ * result is a read-only view of the index rather than a copy. Pattern subscriptions are rare
+ * and are matched separately. STOMP selector headers are not supported. The number of sessions
+ * found for each message can be reported to a fan-out listener.
+ */
+public class DestinationIndexedSubscriptionRegistry extends AbstractSubscriptionRegistry {
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final ObjIntConsumer<String> fanOutListener;
+
+    // destination -> sessionId -> subscriptionIds
+    private final Map<String, Map<String, List<String>>> destinations = new ConcurrentHashMap<>();
+
+    // pattern -> sessionId -> subscriptionIds
+    private final Map<String, Map<String, List<String>>> patterns = new ConcurrentHashMap<>();
+
+    // sessionId -> subscriptionId -> destination or pattern
+    private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+
+    public DestinationIndexedSubscriptionRegistry() {
+        this((destination, sessionCount) -> { });
+    }
+
+    /**
+     * @param fanOutListener receives the destination and number of subscribed sessions of every lookup
+     */
+    public DestinationIndexedSubscriptionRegistry(ObjIntConsumer<String> fanOutListener) {
+        this.fanOutListener = fanOutListener;
+    }
+
+    @Override
+    protected void addSubscriptionInternal(String sessionId, String subscriptionId, String destination,
+                                           Message<?> message) {
+        indexFor(destination).compute(destination, (key, subscribers) -> {
+            Map<String, List<String>> target = subscribers != null ? subscribers : new ConcurrentHashMap<>();
+            target.computeIfAbsent(sessionId, id -> new CopyOnWriteArrayList<>()).add(subscriptionId);
+            return target;
+        });
+        sessions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>()).put(subscriptionId, destination);
+    }
+
+    @Override
+    protected void removeSubscriptionInternal(String sessionId, String subscriptionId, Message<?> message) {
+        Map<String, String> subscriptions = sessions.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        String destination = subscriptions.remove(subscriptionId);
+        if (destination != null) {
+            remove(sessionId, subscriptionId, destination);
+        }
+    }
+
+    @Override
+    public void unregisterAllSubscriptions(String sessionId) {
+        Map<String, String> subscriptions = sessions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.forEach((subscriptionId, destination) -> remove(sessionId, subscriptionId, destination));
+        }
+    }
+
+    @Override
+    protected MultiValueMap<String, String> findSubscriptionsInternal(String destination, Message<?> message) {
+        Map<String, List<String>> direct = destinations.get(destination);
+        if (patterns.isEmpty()) {
+            fanOutListener.accept(destination, direct != null ? direct.size() : 0);
+            return direct != null ? CollectionUtils.toMultiValueMap(direct) : new LinkedMultiValueMap<>();
+        }
+
+        LinkedMultiValueMap<String, String> result = new LinkedMultiValueMap<>();
+        if (direct != null) {
+            direct.forEach(result::addAll);
+        }
+        patterns.forEach((pattern, subscribers) -> {
+            if (pathMatcher.match(pattern, destination)) {
+                subscribers.forEach(result::addAll);
+            }
+        });
+        fanOutListener.accept(destination, result.size());
+        return result;
+    }
+
+    /**
+     * Get the number of sessions subscribed to a concrete destination.
+     *
+     * @param destination the destination
+     * @return the number of subscribed sessions
+     */
+    public int getSessionCount(String destination) {
+        Map<String, List<String>> subscribers = destinations.get(destination);
+        return subscribers != null ? subscribers.size() : 0;
+    }
+
+    private Map<String, Map<String, List<String>>> indexFor(String destination) {
+        return pathMatcher.isPattern(destination) ? patterns : destinations;
+    }
+
+    private void remove(String sessionId, String subscriptionId, String destination) {
+        indexFor(destination).computeIfPresent(destination, (key, subscribers) -> {
+            subscribers.computeIfPresent(sessionId, (id, subscriptionIds) -> {
+                subscriptionIds.remove(subscriptionId);
+                return subscriptionIds.isEmpty() ? null : subscriptionIds;
+            });
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
@@ -0,0 +1,40 @@
+package com.localhost.pitchperfect.infrastructure.websocket.broker;
+
+import com.localhost.pitchperfect.infrastructure.websocket.metrics.WebSocketMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Installs the DestinationIndexedSubscriptionRegistry into the STOMP simple broker.
+ * The broker is created by Spring's message broker configuration, which offers no hook for the
+ * registry, so it is swapped in after the handler is initialized and before it starts.
+ * Set websocket.broker.subscription-registry=default to keep Spring's registry, which also
+ * turns off the broadcast fan-out metric.
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.broker.subscription-registry", havingValue = "indexed", matchIfMissing = true)
+@Slf4j
+public class SubscriptionRegistryPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<WebSocketMetrics> webSocketMetrics;
+
+    public SubscriptionRegistryPostProcessor(ObjectProvider<WebSocketMetrics> webSocketMetrics) {
+        this.webSocketMetrics = webSocketMetrics;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof SimpleBrokerMessageHandler brokerHandler) {
+            WebSocketMetrics metrics = webSocketMetrics.getIfAvailable();
+            brokerHandler.setSubscriptionRegistry(metrics != null
+                    ? new DestinationIndexedSubscriptionRegistry(metrics::recordFanOut)
+                    : new DestinationIndexedSubscriptionRegistry());
+            log.info("Using destination-indexed subscription registry for {}", beanName);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,142 @@
+package com.localhost.pitchperfect.infrastructure.websocket.channel;
+
+import com.localhost.pitchperfect.infrastructure.config.ThreadMode;
+import com.localhost.pitchperfect.infrastructure.config.VirtualThreads;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Channel executor that handles the messages of each STOMP session one at a time, in order.
+ * Messages are queued in a mailbox per session, and at most one task drains a mailbox at a
+ * time, so different sessions progress in parallel while a slow handler only holds up its own
+ * session. In PLATFORM mode mailboxes are drained on this pool; in VIRTUAL mode each drain runs
+ * on a new virtual thread, so handlers blocked on the database or Redis do not tie up a pool
+ * thread. Messages without a session are dispatched straight away.
+ */
+public class SessionOrderedTaskExecutor extends ThreadPoolTaskExecutor {
+
+    private static final int MAILBOX_THROUGHPUT = 64;
+
+    private final ExecutorService virtualExecutor;
+    private final Map<String, SessionMailbox> mailboxes = new ConcurrentHashMap<>();
+
+    /**
+     * @param threadMode which threads drain the mailboxes
+     * @param namePrefix the name prefix for virtual threads
+     */
+    public SessionOrderedTaskExecutor(ThreadMode threadMode, String namePrefix) {
+        this.virtualExecutor = threadMode == ThreadMode.VIRTUAL ? VirtualThreads.newThreadPerTaskExecutor(namePrefix) : null;
+        // The same defaults Spring uses for its own channel executors
+        setCorePoolSize(Runtime.getRuntime().availableProcessors() * 2);
+        setAllowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        String sessionId = sessionIdOf(task);
+        if (sessionId == null) {
+            dispatch(task);
+            return;
+        }
+        mailboxes.compute(sessionId, (id, mailbox) -> {
+            SessionMailbox target = mailbox != null ? mailbox : new SessionMailbox(id);
+            target.enqueue(task);
+            return target;
+        });
+    }
+
+    /**
+     * Get the number of sessions with messages queued or being handled.
+     */
+    public int getBusySessionCount() {
+        return mailboxes.size();
+    }
+
+    /**
+     * Check whether mailboxes are drained on virtual threads.
+     */
+    public boolean isVirtual() {
+        return virtualExecutor != null;
+    }
+
+    @Override
+    public void shutdown() {
+        if (virtualExecutor != null) {
+            virtualExecutor.shutdown();
+        }
+        super.shutdown();
+    }
+
+    private void dispatch(Runnable task) {
+        if (virtualExecutor != null) {
+            virtualExecutor.execute(task);
+        } else {
+            super.execute(task);
+        }
+    }
+
+    private static String sessionIdOf(Runnable task) {
+        if (task instanceof MessageHandlingRunnable runnable) {
+            return SimpMessageHeaderAccessor.getSessionId(runnable.getMessage().getHeaders());
+        }
+        return null;
+    }
+
+    /**
+     * Messages waiting for one session.
+     * The scheduled flag ensures only one task drains the queue at a time.
+     */
+    private final class SessionMailbox implements Runnable {
+        private final String sessionId;
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private SessionMailbox(String sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        private void enqueue(Runnable task) {
+            queue.add(task);
+            if (scheduled.compareAndSet(false, true)) {
+                dispatch(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int i = 0; i < MAILBOX_THROUGHPUT; i++) {
+                    Runnable task = queue.poll();
+                    if (task == null) {
+                        break;
+                    }
+                    // Channel tasks report handler failures themselves; one must not stop the session
+                    try {
+                        task.run();
+                    } catch (RuntimeException e) {
+                        logger.error("Failed to handle message for session " + sessionId, e);
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+                if (!queue.isEmpty()) {
+                    // Yield to other sessions before draining the rest
+                    if (scheduled.compareAndSet(false, true)) {
+                        dispatch(this);
+                    }
+                } else {
+                    mailboxes.computeIfPresent(sessionId, (id, current) ->
+                            current == this && queue.isEmpty() && !scheduled.get() ? null : current);
+                }
+            }
+        }
+    }
+}
@@ -2,11 +2,11 @@ package com.localhost.pitchperfect.infrastructure.websocket.config;
 
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -19,6 +19,7 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * WebSocket authentication channel interceptor.
  * Validates JWT tokens for WebSocket connections.
+ * A CONNECT frame without a valid token is rejected, which closes the session.
  */
 @Component
 @RequiredArgsConstructor
@@ -34,13 +35,15 @@ public class WebSocketAuthChannelInterceptor implements ChannelInterceptor {
         if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())) {
             String token = extractToken(accessor);
             
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                Authentication auth = jwtTokenProvider.getAuthentication(token);
+            Authentication auth = token != null ? jwtTokenProvider.authenticate(token).orElse(null) : null;
+            
+            if (auth != null) {
                 SecurityContextHolder.getContext().setAuthentication(auth);
                 accessor.setUser(auth);
                 log.debug("WebSocket connection authenticated for user: {}", auth.getName());
             } else {
                 log.warn("Invalid or missing authentication token for WebSocket connection");
+                throw new MessagingException(message, "Invalid or missing authentication token");
             }
         }
 
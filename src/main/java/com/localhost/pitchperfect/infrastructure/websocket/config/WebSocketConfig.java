@@ -1,5 +1,12 @@
 package com.localhost.pitchperfect.infrastructure.websocket.config;
 
+import com.localhost.pitchperfect.infrastructure.config.ThreadMode;
+import com.localhost.pitchperfect.infrastructure.websocket.channel.SessionOrderedTaskExecutor;
+import com.localhost.pitchperfect.infrastructure.websocket.metrics.WebSocketMetrics;
+import com.localhost.pitchperfect.infrastructure.websocket.relay.ClusterStompRelay;
+import com.localhost.pitchperfect.infrastructure.websocket.session.BackpressureSessionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.messaging.simp.config.ChannelRegistration;
@@ -7,6 +14,7 @@ import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
  * WebSocket configuration for the application.
@@ -18,11 +26,26 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketAuthChannelInterceptor webSocketAuthChannelInterceptor;
     private final WebSocketPresenceChannelInterceptor webSocketPresenceChannelInterceptor;
+    private final ObjectProvider<ClusterStompRelay> clusterStompRelay;
+    private final BackpressureSessionManager backpressureSessionManager;
+    private final WebSocketMetrics webSocketMetrics;
+    private final int outboundPoolSize;
+    private final ThreadMode threadMode;
 
     public WebSocketConfig(WebSocketAuthChannelInterceptor webSocketAuthChannelInterceptor,
-                          @Lazy WebSocketPresenceChannelInterceptor webSocketPresenceChannelInterceptor) {
+                          @Lazy WebSocketPresenceChannelInterceptor webSocketPresenceChannelInterceptor,
+                          ObjectProvider<ClusterStompRelay> clusterStompRelay,
+                          BackpressureSessionManager backpressureSessionManager,
+                          WebSocketMetrics webSocketMetrics,
+                          @Value("${websocket.outbound.pool-size:32}") int outboundPoolSize,
+                          @Value("${threads.mode:PLATFORM}") ThreadMode threadMode) {
         this.webSocketAuthChannelInterceptor = webSocketAuthChannelInterceptor;
         this.webSocketPresenceChannelInterceptor = webSocketPresenceChannelInterceptor;
+        this.clusterStompRelay = clusterStompRelay;
+        this.backpressureSessionManager = backpressureSessionManager;
+        this.webSocketMetrics = webSocketMetrics;
+        this.outboundPoolSize = outboundPoolSize;
+        this.threadMode = threadMode;
     }
 
     @Override
@@ -30,6 +53,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // Enable a simple in-memory broker for topics and user-specific queues
         registry.enableSimpleBroker("/topic", "/queue");
         
+        // Share topic messages with the other nodes when the cluster relay is enabled
+        clusterStompRelay.ifAvailable(relay -> registry.configureBrokerChannel().interceptors(relay));
+        
         // Set prefix for application destination mappings
         registry.setApplicationDestinationPrefixes("/app");
         
@@ -47,7 +73,27 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        // Add channel interceptors for authentication and presence tracking
-        registration.interceptors(webSocketAuthChannelInterceptor, webSocketPresenceChannelInterceptor);
+        // Frames from one session are handled in the order they arrived, on platform or virtual threads
+        registration.taskExecutor(new SessionOrderedTaskExecutor(threadMode, "clientInboundChannel-virtual-"));
+        
+        // Add channel interceptors for authentication, presence tracking and handling time
+        registration.interceptors(webSocketAuthChannelInterceptor, webSocketPresenceChannelInterceptor,
+                webSocketMetrics.handlingTimer("inbound"));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // Fan-out to large topics produces one outbound task per subscriber, kept in order per session
+        registration.taskExecutor(new SessionOrderedTaskExecutor(threadMode, "clientOutboundChannel-virtual-"))
+                .corePoolSize(outboundPoolSize)
+                .maxPoolSize(outboundPoolSize);
+        registration.interceptors(webSocketMetrics.handlingTimer("outbound"));
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // Queue outbound frames per session so slow clients are conflated, trimmed or dropped.
+        // sendMessage never blocks there, so the queue enforces the per-session byte and time limits
+        registration.addDecoratorFactory(backpressureSessionManager);
     }
 }
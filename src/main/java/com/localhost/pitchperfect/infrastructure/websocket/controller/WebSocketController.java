@@ -81,7 +81,7 @@ public class WebSocketController {
      * @param matchId the ID of the match
      * @param event the match event
      * @param principal the authenticated user
-     * @return the processed match event
+     * @return the processed match event, or null for a retried event, which is not broadcast again
      */
     @MessageMapping("/matches/{matchId}/events")
     @SendTo("/topic/matches/{matchId}")
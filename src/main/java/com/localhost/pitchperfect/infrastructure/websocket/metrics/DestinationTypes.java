@@ -0,0 +1,54 @@
+package com.localhost.pitchperfect.infrastructure.websocket.metrics;
+
+/**
+ * Groups STOMP destinations into a small, fixed set of types for metric tags, so that
+ * per-match and per-room destinations do not each create their own time series.
+ * Application destinations (/app/...) share the type of the topic they publish to.
+ */
+public final class DestinationTypes {
+
+    public static final String MATCH = "match";
+    public static final String MATCH_SCORE = "match-score";
+    public static final String CHAT = "chat";
+    public static final String TYPING = "typing";
+    public static final String PRESENCE = "presence";
+    public static final String USER = "user";
+    public static final String NONE = "none";
+    public static final String OTHER = "other";
+
+    private DestinationTypes() {
+    }
+
+    /**
+     * Get the type of a destination.
+     *
+     * @param destination the destination, or null for frames without one
+     * @return the destination type
+     */
+    public static String of(String destination) {
+        if (destination == null) {
+            return NONE;
+        }
+        String path;
+        if (destination.startsWith("/topic/")) {
+            path = destination.substring("/topic/".length());
+        } else if (destination.startsWith("/app/")) {
+            path = destination.substring("/app/".length());
+        } else if (destination.startsWith("/user/") || destination.startsWith("/queue/")) {
+            return USER;
+        } else {
+            return OTHER;
+        }
+
+        if (path.startsWith("matches/")) {
+            return path.endsWith("/score") ? MATCH_SCORE : MATCH;
+        }
+        if (path.startsWith("chat/")) {
+            return path.endsWith("/typing") ? TYPING : CHAT;
+        }
+        if (path.startsWith("presence/")) {
+            return PRESENCE;
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,161 @@
+package com.localhost.pitchperfect.infrastructure.websocket.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import com.localhost.pitchperfect.infrastructure.websocket.channel.SessionOrderedTaskExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics for the STOMP message channels and broker.
+ * Publishes the queue depth and busy threads of the inbound, outbound and broker channels, the
+ * number of sessions with messages waiting on session-ordered channels, the time channel
+ * handlers spend on each message by destination type, and the number of sessions every
+ * broadcast is fanned out to.
+ */
+@Component
+@Slf4j
+public class WebSocketMetrics implements SmartInitializingSingleton {
+
+    private static final Map<String, String> CHANNEL_EXECUTORS = Map.of(
+            "inbound", "clientInboundChannelExecutor",
+            "outbound", "clientOutboundChannelExecutor",
+            "broker", "brokerChannelExecutor");
+
+    private final MeterRegistry meterRegistry;
+    private final BeanFactory beanFactory;
+    private final boolean percentileHistogram;
+    private final Map<String, Timer> handlingTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> fanOutSummaries = new ConcurrentHashMap<>();
+
+    public WebSocketMetrics(
+            MeterRegistry meterRegistry,
+            BeanFactory beanFactory,
+            @Value("${metrics.websocket.percentile-histogram:true}") boolean percentileHistogram) {
+        this.meterRegistry = meterRegistry;
+        this.beanFactory = beanFactory;
+        this.percentileHistogram = percentileHistogram;
+    }
+
+    /**
+     * Register the channel gauges once the channel executors exist.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        CHANNEL_EXECUTORS.forEach((channel, beanName) -> {
+            if (!beanFactory.containsBean(beanName)) {
+                log.debug("No executor {} for the {} channel", beanName, channel);
+                return;
+            }
+            ThreadPoolTaskExecutor taskExecutor = beanFactory.getBean(beanName, ThreadPoolTaskExecutor.class);
+            if (taskExecutor instanceof SessionOrderedTaskExecutor ordered) {
+                Gauge.builder("websocket.channel.busy-sessions", ordered, SessionOrderedTaskExecutor::getBusySessionCount)
+                        .description("Sessions with messages queued or being handled")
+                        .tag("channel", channel)
+                        .tag("threads", ordered.isVirtual() ? "virtual" : "platform")
+                        .register(meterRegistry);
+            }
+            ThreadPoolExecutor executor = taskExecutor.getThreadPoolExecutor();
+            Gauge.builder("websocket.channel.queue.depth", executor, pool -> pool.getQueue().size())
+                    .description("Messages waiting for a channel thread")
+                    .tag("channel", channel)
+                    .register(meterRegistry);
+            Gauge.builder("websocket.channel.active-threads", executor, ThreadPoolExecutor::getActiveCount)
+                    .description("Channel threads currently handling a message")
+                    .tag("channel", channel)
+                    .register(meterRegistry);
+        });
+    }
+
+    /**
+     * Create an interceptor that times message handling on a channel.
+     *
+     * @param channel the channel name used as a tag, such as inbound or outbound
+     * @return the interceptor to register on the channel
+     */
+    public ExecutorChannelInterceptor handlingTimer(String channel) {
+        return new HandlingTimer(channel);
+    }
+
+    /**
+     * Record how many sessions a broadcast to a destination is delivered to.
+     *
+     * @param destination the destination of the broadcast
+     * @param sessions the number of subscribed sessions
+     */
+    public void recordFanOut(String destination, int sessions) {
+        String type = DestinationTypes.of(destination);
+        DistributionSummary summary = fanOutSummaries.get(type);
+        if (summary == null) {
+            summary = fanOutSummaries.computeIfAbsent(type, key -> DistributionSummary.builder("websocket.broadcast.fanout")
+                    .description("Sessions a broadcast is delivered to")
+                    .baseUnit("sessions")
+                    .tag("type", key)
+                    .publishPercentileHistogram(percentileHistogram)
+                    .maximumExpectedValue(1_000_000.0)
+                    .register(meterRegistry));
+        }
+        summary.record(sessions);
+    }
+
+    private Timer handlingTimer(String channel, String type) {
+        String key = channel + ':' + type;
+        Timer timer = handlingTimers.get(key);
+        if (timer == null) {
+            timer = handlingTimers.computeIfAbsent(key, id -> Timer.builder("websocket.channel.handling")
+                    .description("Time spent handling a message on a channel thread")
+                    .tag("channel", channel)
+                    .tag("type", type)
+                    .publishPercentileHistogram(percentileHistogram)
+                    .minimumExpectedValue(Duration.ofNanos(10_000))
+                    .maximumExpectedValue(Duration.ofSeconds(30))
+                    .register(meterRegistry));
+        }
+        return timer;
+    }
+
+    /**
+     * Times handlers on the channel's executor thread, so the time a message waits in the
+     * queue is left to the queue depth gauge.
+     */
+    private final class HandlingTimer implements ExecutorChannelInterceptor {
+
+        private final String channel;
+        private final ThreadLocal<long[]> startedAt = ThreadLocal.withInitial(() -> new long[1]);
+
+        private HandlingTimer(String channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public Message<?> beforeHandle(Message<?> message, MessageChannel messageChannel, MessageHandler handler) {
+            startedAt.get()[0] = System.nanoTime();
+            return message;
+        }
+
+        @Override
+        public void afterMessageHandled(Message<?> message, MessageChannel messageChannel, MessageHandler handler,
+                                        Exception ex) {
+            long elapsed = System.nanoTime() - startedAt.get()[0];
+            String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            handlingTimer(channel, DestinationTypes.of(destination)).record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+}
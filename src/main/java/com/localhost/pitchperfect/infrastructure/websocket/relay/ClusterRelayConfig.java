@@ -0,0 +1,33 @@
+package com.localhost.pitchperfect.infrastructure.websocket.relay;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Transport selection for the cluster STOMP relay.
+ * The relay is off unless websocket.relay.enabled=true; the transport defaults to Redis
+ * pub/sub and can be switched to the in-memory stand-in with websocket.relay.transport=in-memory.
+ */
+@Configuration
+@ConditionalOnProperty(name = "websocket.relay.enabled", havingValue = "true")
+public class ClusterRelayConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "websocket.relay.transport", havingValue = "redis", matchIfMissing = true)
+    public ClusterRelayTransport redisClusterRelayTransport(
+            RedisConnectionFactory connectionFactory,
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${websocket.relay.channel:pitchperfect:stomp:relay}") String channel) {
+        return new RedisClusterRelayTransport(connectionFactory, stringRedisTemplate, channel);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "websocket.relay.transport", havingValue = "in-memory")
+    public ClusterRelayTransport inMemoryClusterRelayTransport() {
+        return new InMemoryClusterRelayTransport();
+    }
+}
@@ -0,0 +1,24 @@
+package com.localhost.pitchperfect.infrastructure.websocket.relay;
+
+import java.util.function.Consumer;
+
+/**
+ * Transport that carries encoded relay batches between application nodes.
+ * Every published batch is delivered to all subscribers, including the publishing node.
+ */
+public interface ClusterRelayTransport {
+
+    /**
+     * Publish an encoded batch of frames to every node.
+     *
+     * @param batch the encoded batch
+     */
+    void publish(String batch);
+
+    /**
+     * Register a listener for batches published by any node.
+     *
+     * @param listener the listener
+     */
+    void subscribe(Consumer<String> listener);
+}
@@ -0,0 +1,185 @@
+package com.localhost.pitchperfect.infrastructure.websocket.relay;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relays topic messages between application nodes.
+ * Installed as an interceptor on the broker channel: every message published to a relayed
+ * prefix on this node is batched and sent over the ClusterRelayTransport, and batches from
+ * other nodes are re-dispatched to the local broker. Frames carry their message id and origin
+ * node; receivers skip their own frames and drop ids they have already seen. Delivery to other
+ * nodes is at-most-once: a message that does not fit the outbound queue, or whose batch fails
+ * to publish, only reaches this node's subscribers.
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.relay.enabled", havingValue = "true")
+@Slf4j
+public class ClusterStompRelay implements ChannelInterceptor {
+
+    /**
+     * Header set on re-dispatched messages so they are not relayed again.
+     */
+    static final String RELAYED_HEADER = "clusterRelayed";
+
+    private final ClusterRelayTransport transport;
+    private final MessageChannel brokerChannel;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<String> relayedPrefixes;
+    private final int batchSize;
+    private final BlockingQueue<RelayFrame> outbound;
+    private final Cache<String, Boolean> seenIds;
+    private final ScheduledExecutorService flusher;
+
+    public ClusterStompRelay(
+            ClusterRelayTransport transport,
+            @Qualifier("brokerChannel") @Lazy MessageChannel brokerChannel,
+            ObjectMapper objectMapper,
+            @Value("${websocket.relay.prefixes:/topic}") List<String> relayedPrefixes,
+            @Value("${websocket.relay.batch-size:256}") int batchSize,
+            @Value("${websocket.relay.queue-capacity:100000}") int queueCapacity,
+            @Value("${websocket.relay.flush-interval-ms:5}") long flushIntervalMillis,
+            @Value("${websocket.relay.dedup-window-seconds:60}") long dedupWindowSeconds,
+            @Value("${websocket.relay.dedup-max-ids:200000}") long dedupMaxIds) {
+        this.transport = transport;
+        this.brokerChannel = brokerChannel;
+        this.objectMapper = objectMapper;
+        this.relayedPrefixes = relayedPrefixes;
+        this.batchSize = batchSize;
+        this.outbound = new ArrayBlockingQueue<>(queueCapacity);
+        this.seenIds = Caffeine.newBuilder()
+                .maximumSize(dedupMaxIds)
+                .expireAfterWrite(Duration.ofSeconds(dedupWindowSeconds))
+                .build();
+        this.transport.subscribe(this::receive);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("stomp-relay-"));
+        this.flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || headers.containsKey(RELAYED_HEADER)
+                || !(message.getPayload() instanceof byte[] payload)
+                || !isRelayed(destination)) {
+            return message;
+        }
+
+        String id = String.valueOf(headers.getId());
+        Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+        RelayFrame frame = new RelayFrame(id, nodeId, destination,
+                contentType != null ? contentType.toString() : null, payload);
+        if (!outbound.offer(frame)) {
+            log.warn("Cluster relay queue is full, message {} to {} stays local", id, destination);
+        }
+        return message;
+    }
+
+    /**
+     * Get the ID this node stamps on the frames it publishes.
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(1, TimeUnit.SECONDS);
+        flushQuietly();
+    }
+
+    void flush() {
+        List<RelayFrame> batch = new ArrayList<>(batchSize);
+        while (outbound.drainTo(batch, batchSize) > 0) {
+            try {
+                transport.publish(objectMapper.writeValueAsString(batch));
+            } catch (JsonProcessingException e) {
+                log.error("Failed to encode relay batch of {} frames", batch.size(), e);
+            } catch (RuntimeException e) {
+                // Not retried: other nodes miss these frames, later batches still go out
+                log.error("Failed to publish relay batch, dropping {} frames", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    void receive(String encoded) {
+        RelayFrame[] frames;
+        try {
+            frames = objectMapper.readValue(encoded, RelayFrame[].class);
+        } catch (JsonProcessingException e) {
+            log.warn("Dropping malformed relay batch", e);
+            return;
+        }
+
+        for (RelayFrame frame : frames) {
+            if (nodeId.equals(frame.getOrigin()) || seenIds.asMap().putIfAbsent(frame.getId(), Boolean.TRUE) != null) {
+                continue;
+            }
+            dispatch(frame);
+        }
+    }
+
+    private void dispatch(RelayFrame frame) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(frame.getDestination());
+        if (frame.getContentType() != null) {
+            accessor.setContentType(MimeType.valueOf(frame.getContentType()));
+        }
+        accessor.setHeader(RELAYED_HEADER, frame.getOrigin());
+        brokerChannel.send(MessageBuilder.createMessage(frame.getPayload(), accessor.getMessageHeaders()));
+    }
+
+    private boolean isRelayed(String destination) {
+        if (destination == null) {
+            return false;
+        }
+        for (String prefix : relayedPrefixes) {
+            if (destination.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Failed to publish relay batch", e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.localhost.pitchperfect.infrastructure.websocket.relay;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+
+/**
+ * In-process stand-in for the Redis relay channel.
+ * Nodes that share an instance see each other's batches, which is enough for single-node
+ * development and for tests that run several relays in one JVM.
+ */
+public class InMemoryClusterRelayTransport implements ClusterRelayTransport {
+
+    private final Set<Consumer<String>> listeners = new CopyOnWriteArraySet<>();
+
+    @Override
+    public void publish(String batch) {
+        listeners.forEach(listener -> listener.accept(batch));
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+}
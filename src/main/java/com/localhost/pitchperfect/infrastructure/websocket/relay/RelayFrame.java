@@ -0,0 +1,30 @@
+package com.localhost.pitchperfect.infrastructure.websocket.relay;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A broker message as it travels between nodes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelayFrame {
+
+    /**
+     * Message id, used by receivers to drop duplicates.
+     */
+    private String id;
+
+    /**
+     * ID of the node that published the frame.
+     */
+    private String origin;
+
+    private String destination;
+
+    private String contentType;
+
+    private byte[] payload;
+}
@@ -0,0 +1,192 @@
+package com.localhost.pitchperfect.infrastructure.websocket.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wraps every WebSocket session in a BackpressureWebSocketSession and owns their shared settings,
+ * writer threads and metrics. Queue depth is published as websocket.session.queue.depth and
+ * discarded frames as websocket.session.frames.dropped, tagged by reason. A watchdog closes
+ * sessions whose current send has run past the send time limit, so stalled clients cannot keep
+ * the shared writer threads from other sessions.
+ */
+@Component
+@Slf4j
+public class BackpressureSessionManager implements WebSocketHandlerDecoratorFactory {
+
+    /** Destinations whose conflation check is remembered; per-session and per-match topics come and go. */
+    private static final int CONFLATED_CACHE_SIZE = 10_000;
+
+    private final OverflowPolicy overflowPolicy;
+    private final int maxQueuedFrames;
+    private final int maxQueuedBytes;
+    private final int writeBatchSize;
+    private final long sendTimeLimitNanos;
+    private final List<String> conflatedDestinations;
+    private final ExecutorService writerPool;
+    private final ScheduledExecutorService watchdog;
+    private final MeterRegistry meterRegistry;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final Cache<String, Boolean> conflatedCache = Caffeine.newBuilder()
+            .maximumSize(CONFLATED_CACHE_SIZE)
+            .build();
+    private final Map<String, BackpressureWebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong queuedFrames = new AtomicLong();
+    private final Map<String, Counter> droppedCounters = new ConcurrentHashMap<>();
+
+    public BackpressureSessionManager(
+            MeterRegistry meterRegistry,
+            @Value("${websocket.backpressure.policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+            @Value("${websocket.backpressure.max-queued-frames:1000}") int maxQueuedFrames,
+            @Value("${websocket.backpressure.max-queued-bytes:524288}") int maxQueuedBytes,
+            @Value("${websocket.backpressure.write-batch-size:64}") int writeBatchSize,
+            @Value("${websocket.backpressure.send-time-limit-ms:10000}") long sendTimeLimitMillis,
+            @Value("${websocket.backpressure.conflate-destinations:/topic/matches/*/score}") List<String> conflatedDestinations,
+            @Value("${websocket.backpressure.writer-threads:16}") int writerThreads,
+            @Value("${websocket.backpressure.watchdog-interval-ms:1000}") long watchdogIntervalMillis) {
+        this.meterRegistry = meterRegistry;
+        this.overflowPolicy = overflowPolicy;
+        this.maxQueuedFrames = maxQueuedFrames;
+        this.maxQueuedBytes = maxQueuedBytes;
+        this.writeBatchSize = writeBatchSize;
+        this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMillis);
+        this.conflatedDestinations = conflatedDestinations;
+        this.writerPool = Executors.newFixedThreadPool(writerThreads, new CustomizableThreadFactory("ws-session-writer-"));
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("ws-session-watchdog-"));
+        watchdog.scheduleWithFixedDelay(this::closeStuckSessions, watchdogIntervalMillis, watchdogIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        Gauge.builder("websocket.session.queue.depth", queuedFrames, AtomicLong::get)
+                .description("Outbound frames queued across all WebSocket sessions")
+                .register(meterRegistry);
+        Gauge.builder("websocket.session.queue.max-depth", sessions,
+                        current -> current.values().stream()
+                                .mapToInt(BackpressureWebSocketSession::getQueueDepth)
+                                .max()
+                                .orElse(0))
+                .description("Deepest outbound queue of a single WebSocket session")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                BackpressureWebSocketSession decorated = new BackpressureWebSocketSession(session, BackpressureSessionManager.this);
+                sessions.put(session.getId(), decorated);
+                super.afterConnectionEstablished(decorated);
+            }
+
+            @Override
+            public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+                super.handleMessage(decorated(session), message);
+            }
+
+            @Override
+            public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+                super.handleTransportError(decorated(session), exception);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                BackpressureWebSocketSession decorated = sessions.remove(session.getId());
+                if (decorated != null) {
+                    decorated.release();
+                }
+                super.afterConnectionClosed(decorated != null ? decorated : session, closeStatus);
+            }
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+        writerPool.shutdownNow();
+    }
+
+    /**
+     * Close every session whose current send has run past the send time limit.
+     * Closing the connection fails the blocked send, which frees its writer thread.
+     */
+    void closeStuckSessions() {
+        for (BackpressureWebSocketSession session : sessions.values()) {
+            try {
+                session.closeIfStuck();
+            } catch (RuntimeException e) {
+                // Keep the watchdog running for the other sessions
+                log.warn("Failed to close stuck WebSocket session {}", session.getId(), e);
+            }
+        }
+    }
+
+    OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    int getMaxQueuedFrames() {
+        return maxQueuedFrames;
+    }
+
+    int getMaxQueuedBytes() {
+        return maxQueuedBytes;
+    }
+
+    int getWriteBatchSize() {
+        return writeBatchSize;
+    }
+
+    long getSendTimeLimitNanos() {
+        return sendTimeLimitNanos;
+    }
+
+    ExecutorService getWriterPool() {
+        return writerPool;
+    }
+
+    boolean isConflated(String destination) {
+        return conflatedCache.get(destination, key -> conflatedDestinations.stream()
+                .anyMatch(pattern -> pathMatcher.match(pattern, key)));
+    }
+
+    void adjustQueued(int delta) {
+        queuedFrames.addAndGet(delta);
+    }
+
+    void recordDropped(String reason) {
+        droppedCounters.computeIfAbsent(reason, key -> Counter.builder("websocket.session.frames.dropped")
+                        .description("Outbound frames discarded because a session could not keep up")
+                        .tag("reason", key)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private WebSocketSession decorated(WebSocketSession session) {
+        BackpressureWebSocketSession decorated = sessions.get(session.getId());
+        return decorated != null ? decorated : session;
+    }
+}
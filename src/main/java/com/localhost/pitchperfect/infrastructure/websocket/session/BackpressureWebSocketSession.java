@@ -0,0 +1,271 @@
+package com.localhost.pitchperfect.infrastructure.websocket.session;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Session decorator with a bounded outbound queue.
+ * sendMessage only enqueues; frames are written by a writer thread, so a slow client never
+ * blocks the outbound channel. Frames to conflated destinations replace the queued frame for
+ * the same destination. A queue over its frame or byte limit is handled by the configured
+ * OverflowPolicy, and a send stuck past the time limit disconnects the session, either on the
+ * next enqueue or from the manager's watchdog. Only MESSAGE frames are ever dropped or
+ * conflated; control frames are always delivered.
+ */
+@Slf4j
+public class BackpressureWebSocketSession extends WebSocketSessionDecorator implements Runnable {
+
+    private static final String MESSAGE_COMMAND = "MESSAGE\n";
+    private static final String DESTINATION_HEADER = "\ndestination:";
+
+    private final BackpressureSessionManager manager;
+    private final ArrayDeque<Frame> queue = new ArrayDeque<>();
+    private final Map<String, Frame> conflated = new HashMap<>();
+    private long queuedBytes;
+    private boolean scheduled;
+    private boolean closed;
+    private volatile long inFlightSince;
+
+    BackpressureWebSocketSession(WebSocketSession delegate, BackpressureSessionManager manager) {
+        super(delegate);
+        this.manager = manager;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        Frame frame = Frame.of(message, manager);
+        boolean overflow = false;
+        boolean schedule = false;
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (isStuck()) {
+                overflow = true;
+            } else if (frame.conflatable && replaceQueued(frame)) {
+                manager.recordDropped("conflated");
+            } else {
+                add(frame);
+                overflow = applyOverflowPolicy();
+            }
+            if (!overflow && !scheduled && !queue.isEmpty()) {
+                scheduled = true;
+                schedule = true;
+            }
+        }
+
+        if (overflow) {
+            disconnect();
+        } else if (schedule) {
+            manager.getWriterPool().execute(this);
+        }
+    }
+
+    /**
+     * Get the number of frames waiting to be written.
+     */
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public void run() {
+        for (int i = 0; i < manager.getWriteBatchSize(); i++) {
+            Frame frame;
+            synchronized (this) {
+                frame = queue.poll();
+                if (frame == null || closed) {
+                    scheduled = false;
+                    return;
+                }
+                manager.adjustQueued(-1);
+                queuedBytes -= frame.message.getPayloadLength();
+                if (frame.conflatable) {
+                    conflated.remove(frame.destination, frame);
+                }
+                inFlightSince = System.nanoTime();
+            }
+
+            try {
+                getDelegate().sendMessage(frame.message);
+            } catch (IOException | RuntimeException e) {
+                log.debug("Failed to send to session {}, closing", getId(), e);
+                release();
+                return;
+            } finally {
+                inFlightSince = 0;
+            }
+        }
+
+        // Yield the writer thread to other sessions and continue later
+        manager.getWriterPool().execute(this);
+    }
+
+    /**
+     * Disconnect the session if its current send has run past the send time limit.
+     */
+    void closeIfStuck() {
+        if (isStuck()) {
+            disconnect();
+        }
+    }
+
+    /**
+     * Drop all queued frames; called when the connection is gone.
+     */
+    void release() {
+        synchronized (this) {
+            closed = true;
+            manager.adjustQueued(-queue.size());
+            queue.clear();
+            queuedBytes = 0;
+            conflated.clear();
+        }
+    }
+
+    private void add(Frame frame) {
+        queue.add(frame);
+        manager.adjustQueued(1);
+        queuedBytes += frame.message.getPayloadLength();
+        if (frame.conflatable) {
+            conflated.put(frame.destination, frame);
+        }
+    }
+
+    private boolean replaceQueued(Frame frame) {
+        Frame queued = conflated.get(frame.destination);
+        if (queued == null) {
+            return false;
+        }
+        // Latest state wins, delivered at the position of the frame it replaces
+        queuedBytes += frame.message.getPayloadLength() - queued.message.getPayloadLength();
+        queued.message = frame.message;
+        return true;
+    }
+
+    /**
+     * @return true if the session has to be disconnected
+     */
+    private boolean applyOverflowPolicy() {
+        if (!isOverLimit()) {
+            return false;
+        }
+        switch (manager.getOverflowPolicy()) {
+            case DISCONNECT:
+                return true;
+            case CONFLATE:
+                conflateAll();
+                break;
+            default:
+                break;
+        }
+        while (isOverLimit() && dropOldestMessage()) {
+            manager.recordDropped("oldest");
+        }
+        return false;
+    }
+
+    private boolean isOverLimit() {
+        return queue.size() > manager.getMaxQueuedFrames() || queuedBytes > manager.getMaxQueuedBytes();
+    }
+
+    private void conflateAll() {
+        Set<String> latest = new HashSet<>();
+        Iterator<Frame> newestFirst = queue.descendingIterator();
+        while (newestFirst.hasNext()) {
+            Frame frame = newestFirst.next();
+            if (frame.destination != null && !latest.add(frame.destination)) {
+                newestFirst.remove();
+                manager.adjustQueued(-1);
+                queuedBytes -= frame.message.getPayloadLength();
+                manager.recordDropped("conflated");
+            }
+        }
+    }
+
+    private boolean dropOldestMessage() {
+        Iterator<Frame> oldestFirst = queue.iterator();
+        while (oldestFirst.hasNext()) {
+            Frame frame = oldestFirst.next();
+            if (frame.destination != null) {
+                oldestFirst.remove();
+                manager.adjustQueued(-1);
+                queuedBytes -= frame.message.getPayloadLength();
+                if (frame.conflatable) {
+                    conflated.remove(frame.destination, frame);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isStuck() {
+        long since = inFlightSince;
+        return since != 0 && System.nanoTime() - since > manager.getSendTimeLimitNanos();
+    }
+
+    private void disconnect() {
+        synchronized (this) {
+            // The watchdog and a producer may both find the session stuck
+            if (closed) {
+                return;
+            }
+            release();
+        }
+        manager.recordDropped("disconnect");
+        log.info("Closing slow WebSocket session {}", getId());
+        try {
+            getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.debug("Failed to close session {}", getId(), e);
+        }
+    }
+
+    /**
+     * A queued outbound frame. Destination is null for anything but MESSAGE frames.
+     */
+    private static final class Frame {
+        private WebSocketMessage<?> message;
+        private final String destination;
+        private final boolean conflatable;
+
+        private Frame(WebSocketMessage<?> message, String destination, boolean conflatable) {
+            this.message = message;
+            this.destination = destination;
+            this.conflatable = conflatable;
+        }
+
+        private static Frame of(WebSocketMessage<?> message, BackpressureSessionManager manager) {
+            String destination = message instanceof TextMessage text ? destinationOf(text.getPayload()) : null;
+            return new Frame(message, destination, destination != null && manager.isConflated(destination));
+        }
+
+        private static String destinationOf(String frame) {
+            if (!frame.startsWith(MESSAGE_COMMAND)) {
+                return null;
+            }
+            int headersEnd = frame.indexOf("\n\n");
+            int start = frame.indexOf(DESTINATION_HEADER, MESSAGE_COMMAND.length() - 1);
+            if (start < 0 || (headersEnd >= 0 && start > headersEnd)) {
+                return null;
+            }
+            start += DESTINATION_HEADER.length();
+            int end = frame.indexOf('\n', start);
+            return end > start ? frame.substring(start, end) : null;
+        }
+    }
+}
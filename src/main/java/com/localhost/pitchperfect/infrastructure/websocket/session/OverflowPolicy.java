@@ -0,0 +1,13 @@
+package com.localhost.pitchperfect.infrastructure.websocket.session;
+
+/**
+ * What a session does when its outbound queue is full.
+ */
+public enum OverflowPolicy {
+    /** Drop the oldest queued MESSAGE frame. */
+    DROP_OLDEST,
+    /** Keep only the latest queued frame per destination, then drop the oldest if still full. */
+    CONFLATE,
+    /** Close the session. */
+    DISCONNECT
+}
@@ -0,0 +1,91 @@
+package com.localhost.pitchperfect.application.service;
+
+import com.localhost.pitchperfect.domain.model.Match;
+import com.localhost.pitchperfect.domain.model.MatchDelta;
+import com.localhost.pitchperfect.domain.model.MatchEvent;
+import com.localhost.pitchperfect.domain.model.MatchEventType;
+import com.localhost.pitchperfect.domain.model.MatchStatus;
+import com.localhost.pitchperfect.domain.model.Team;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class IdempotencyWindowTest {
+
+    private final IdempotencyWindow window = new IdempotencyWindow(1, 3600);
+
+    @Test
+    void isRecorded_shouldRecognizeKeysPerMatch() {
+        // Arrange
+        Match match = match(List.of());
+        Match other = match(List.of());
+        window.recordPersisted(MatchDelta.of(match, List.of(goal("goal-1"))));
+
+        // Act & Assert
+        assertThat(window.isRecorded(match, "goal-1")).isTrue();
+        assertThat(window.isRecorded(match, "goal-2")).isFalse();
+        assertThat(window.isRecorded(other, "goal-1")).isFalse();
+    }
+
+    @Test
+    void isRecorded_shouldFindKeysOutsideTheWindowOnTheMatchEvents() {
+        // Arrange
+        Match match = match(List.of(goal("goal-1")));
+
+        // Act & Assert
+        assertThat(window.isRecorded(match, "goal-1")).isTrue();
+    }
+
+    @Test
+    void isRecorded_shouldForgetKeysOfEventsThatWereNeverWritten() {
+        // Arrange
+        Match applied = match(List.of(goal("goal-1")));
+        window.isRecorded(applied, "goal-1");
+        Match reloaded = Match.restore()
+                .id(applied.getId())
+                .homeTeam(applied.getHomeTeam())
+                .awayTeam(applied.getAwayTeam())
+                .venue("Stadium")
+                .startTime(LocalDateTime.now())
+                .status(MatchStatus.LIVE)
+                .events(List.of())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        // Act & Assert
+        assertThat(window.isRecorded(reloaded, "goal-1")).isFalse();
+    }
+
+    @Test
+    void isRecorded_shouldRejectOverlongKeys() {
+        // Act & Assert
+        assertThatThrownBy(() -> window.isRecorded(match(List.of()), "k".repeat(65)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MatchEvent goal(String idempotencyKey) {
+        MatchEvent goal = new MatchEvent(MatchEventType.GOAL, "Goal", null, null);
+        goal.setIdempotencyKey(idempotencyKey);
+        return goal;
+    }
+
+    private Match match(List<MatchEvent> events) {
+        return Match.restore()
+                .id(UUID.randomUUID())
+                .homeTeam(new Team("Home United", "HOM", "England", null))
+                .awayTeam(new Team("Away City", "AWY", "England", null))
+                .venue("Stadium")
+                .startTime(LocalDateTime.now())
+                .status(MatchStatus.LIVE)
+                .events(events)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
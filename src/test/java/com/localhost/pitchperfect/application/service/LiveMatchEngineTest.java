@@ -0,0 +1,317 @@
+package com.localhost.pitchperfect.application.service;
+
+import com.localhost.pitchperfect.application.port.out.MatchPersistencePort;
+import com.localhost.pitchperfect.domain.model.Match;
+import com.localhost.pitchperfect.domain.model.MatchDelta;
+import com.localhost.pitchperfect.domain.model.MatchEvent;
+import com.localhost.pitchperfect.domain.model.MatchEventType;
+import com.localhost.pitchperfect.domain.model.MatchStatus;
+import com.localhost.pitchperfect.domain.model.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LiveMatchEngineTest {
+
+    @Mock
+    private MatchPersistencePort matchPersistencePort;
+
+    private LiveMatchEngine engine;
+    private UUID matchId;
+
+    @BeforeEach
+    void setUp() {
+        engine = new LiveMatchEngine(matchPersistencePort, 2, 1, 64, 5000, 3, 10, 600_000);
+        matchId = UUID.randomUUID();
+    }
+
+    @Test
+    void execute_shouldKeepLiveMatchResidentAndPersistOnlyNewEvents() throws Exception {
+        // Arrange
+        when(matchPersistencePort.findById(matchId)).thenReturn(Optional.of(match(MatchStatus.LIVE)));
+
+        // Act
+        engine.execute(matchId, match -> addEvent(match, MatchEventType.CORNER));
+        engine.execute(matchId, match -> addEvent(match, MatchEventType.YELLOW_CARD));
+        engine.shutdown();
+
+        // Assert
+        verify(matchPersistencePort, times(1)).findById(matchId);
+        ArgumentCaptor<MatchDelta> deltas = ArgumentCaptor.forClass(MatchDelta.class);
+        verify(matchPersistencePort, times(2)).saveDelta(deltas.capture());
+        assertThat(deltas.getAllValues()).allSatisfy(delta -> assertThat(delta.getNewEvents()).hasSize(1));
+        assertThat(deltas.getAllValues().get(1).getNewEvents().get(0).getType()).isEqualTo(MatchEventType.YELLOW_CARD);
+        verify(matchPersistencePort, never()).save(any());
+    }
+
+    @Test
+    void execute_shouldApplyConcurrentCommandsForSameMatchWithoutLosingUpdates() throws Exception {
+        // Arrange
+        when(matchPersistencePort.findById(matchId)).thenReturn(Optional.of(match(MatchStatus.LIVE)));
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+
+        // Act
+        for (int i = 0; i < 200; i++) {
+            clients.execute(() -> engine.execute(matchId, match -> addEvent(match, MatchEventType.CORNER)));
+        }
+        clients.shutdown();
+        clients.awaitTermination(10, TimeUnit.SECONDS);
+        int eventCount = engine.execute(matchId, match -> match.getEvents().size());
+
+        // Assert
+        assertThat(eventCount).isEqualTo(200);
+    }
+
+    @Test
+    void execute_shouldWriteStatusTransitionsSynchronouslyAndEvictFinishedMatches() {
+        // Arrange
+        when(matchPersistencePort.findById(matchId)).thenReturn(Optional.of(match(MatchStatus.SCHEDULED)));
+
+        // Act
+        engine.execute(matchId, match -> {
+            match.start();
+            return null;
+        });
+        boolean residentWhileLive = engine.isResident(matchId);
+        engine.execute(matchId, match -> {
+            match.complete();
+            return null;
+        });
+
+        // Assert
+        assertThat(residentWhileLive).isTrue();
+        assertThat(engine.isResident(matchId)).isFalse();
+        ArgumentCaptor<MatchDelta> deltas = ArgumentCaptor.forClass(MatchDelta.class);
+        verify(matchPersistencePort, times(2)).saveDelta(deltas.capture());
+        assertThat(deltas.getAllValues()).extracting(MatchDelta::getStatus)
+                .containsExactly(MatchStatus.LIVE, MatchStatus.COMPLETED);
+    }
+
+    @Test
+    void execute_shouldReloadMatchAfterAConflictingWrite() throws Exception {
+        // Arrange
+        when(matchPersistencePort.findById(matchId))
+                .thenReturn(Optional.of(match(MatchStatus.SCHEDULED)))
+                .thenReturn(Optional.of(match(MatchStatus.LIVE, 3)));
+        doThrow(new OptimisticLockingFailureException("Changed by another writer"))
+                .doNothing()
+                .when(matchPersistencePort).saveDelta(any());
+
+        // Act
+        assertThatThrownBy(() -> engine.execute(matchId, match -> {
+            match.start();
+            return null;
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+        boolean residentAfterConflict = engine.isResident(matchId);
+        engine.execute(matchId, match -> addEvent(match, MatchEventType.CORNER));
+        engine.execute(matchId, match -> addEvent(match, MatchEventType.CORNER));
+        engine.shutdown();
+
+        // Assert
+        assertThat(residentAfterConflict).isFalse();
+        verify(matchPersistencePort, times(2)).findById(matchId);
+        ArgumentCaptor<MatchDelta> deltas = ArgumentCaptor.forClass(MatchDelta.class);
+        verify(matchPersistencePort, times(3)).saveDelta(deltas.capture());
+        assertThat(deltas.getAllValues()).extracting(MatchDelta::getVersion).containsExactly(0L, 3L, 4L);
+    }
+
+    @Test
+    void execute_shouldRetryTransientWriteFailuresWithoutWaitingForAnotherCommand() throws Exception {
+        // Arrange
+        when(matchPersistencePort.findById(matchId)).thenReturn(Optional.of(match(MatchStatus.LIVE)));
+        doThrow(new QueryTimeoutException("Lock wait timeout"))
+                .doNothing()
+                .when(matchPersistencePort).saveDelta(any());
+
+        // Act
+        engine.execute(matchId, match -> addEvent(match, MatchEventType.CORNER));
+        engine.shutdown();
+
+        // Assert
+        ArgumentCaptor<MatchDelta> deltas = ArgumentCaptor.forClass(MatchDelta.class);
+        verify(matchPersistencePort, times(2)).saveDelta(deltas.capture());
+        assertThat(deltas.getAllValues()).extracting(MatchDelta::getVersion).containsExactly(0L, 0L);
+        assertThat(engine.isResident(matchId)).isTrue();
+    }
+
+    @Test
+    void execute_shouldDropUnsavedChangesAndReloadAfterAPermanentWriteFailure() throws Exception {
+        // Arrange
+        when(matchPersistencePort.findById(matchId))
+                .thenReturn(Optional.of(match(MatchStatus.LIVE)))
+                .thenReturn(Optional.of(match(MatchStatus.LIVE)));
+        doThrow(new DataIntegrityViolationException("Value too long"))
+                .doNothing()
+                .when(matchPersistencePort).saveDelta(any());
+        List<Integer> reportedEventCounts = new CopyOnWriteArrayList<>();
+        engine.onChange(match -> reportedEventCounts.add(match.getEvents().size()));
+
+        // Act
+        engine.execute(matchId, match -> addEvent(match, MatchEventType.CORNER));
+        awaitUntil(() -> reportedEventCounts.size() == 2);
+        int eventCount = engine.execute(matchId, match -> {
+            addEvent(match, MatchEventType.YELLOW_CARD);
+            return match.getEvents().size();
+        });
+        engine.shutdown();
+
+        // Assert
+        assertThat(eventCount).isEqualTo(1);
+        assertThat(reportedEventCounts).containsExactly(1, 0, 1);
+        verify(matchPersistencePort, times(2)).findById(matchId);
+        ArgumentCaptor<MatchDelta> deltas = ArgumentCaptor.forClass(MatchDelta.class);
+        verify(matchPersistencePort, times(2)).saveDelta(deltas.capture());
+        assertThat(deltas.getValue().getNewEvents()).extracting(MatchEvent::getType)
+                .containsExactly(MatchEventType.YELLOW_CARD);
+    }
+
+    @Test
+    void execute_shouldApplyTheRetryOfAnEventWhoseWriteWasDropped() throws Exception {
+        // Arrange
+        IdempotencyWindow window = new IdempotencyWindow(100, 3600);
+        engine.onPersisted(window::recordPersisted);
+        when(matchPersistencePort.findById(matchId))
+                .thenReturn(Optional.of(match(MatchStatus.LIVE)))
+                .thenReturn(Optional.of(match(MatchStatus.LIVE)));
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch failWrite = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writeStarted.countDown();
+            failWrite.await(5, TimeUnit.SECONDS);
+            throw new DataIntegrityViolationException("Value too long");
+        }).doNothing().when(matchPersistencePort).saveDelta(any());
+        Function<Match, Boolean> goal = match -> {
+            if (window.isRecorded(match, "goal-1")) {
+                return false;
+            }
+            MatchEvent event = new MatchEvent(MatchEventType.GOAL, "Goal", null, null);
+            event.setIdempotencyKey("goal-1");
+            match.addEvent(event);
+            return true;
+        };
+
+        // Act
+        engine.execute(matchId, goal);
+        writeStarted.await(5, TimeUnit.SECONDS);
+        boolean appliedWhileWriting = engine.execute(matchId, goal);
+        failWrite.countDown();
+        awaitUntil(() -> mockingDetails(matchPersistencePort).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("findById")).count() == 2);
+        boolean appliedAfterDrop = engine.execute(matchId, goal);
+        engine.shutdown();
+
+        // Assert
+        assertThat(appliedWhileWriting).isFalse();
+        assertThat(appliedAfterDrop).isTrue();
+        assertThat(window.isRecorded(match(MatchStatus.LIVE), "goal-1")).isTrue();
+        verify(matchPersistencePort, times(2)).saveDelta(any());
+    }
+
+    @Test
+    void execute_shouldNotWriteAFailedStatusTransitionLater() throws Exception {
+        // Arrange
+        when(matchPersistencePort.findById(matchId))
+                .thenReturn(Optional.of(match(MatchStatus.SCHEDULED)))
+                .thenReturn(Optional.of(match(MatchStatus.SCHEDULED)));
+        doThrow(new QueryTimeoutException("Lock wait timeout")).when(matchPersistencePort).saveDelta(any());
+        List<Match> reported = new CopyOnWriteArrayList<>();
+        engine.onChange(reported::add);
+
+        // Act
+        assertThatThrownBy(() -> engine.execute(matchId, match -> {
+            match.start();
+            return null;
+        })).isInstanceOf(QueryTimeoutException.class);
+        MatchStatus status = engine.execute(matchId, Match::getStatus);
+        engine.shutdown();
+
+        // Assert
+        assertThat(status).isEqualTo(MatchStatus.SCHEDULED);
+        assertThat(reported).isEmpty();
+        verify(matchPersistencePort, times(1)).saveDelta(any());
+    }
+
+    @Test
+    void evictIdle_shouldEvictLiveMatchesWithoutRecentCommands() throws Exception {
+        // Arrange
+        engine = new LiveMatchEngine(matchPersistencePort, 2, 1, 64, 5000, 3, 10, 0);
+        when(matchPersistencePort.findById(matchId)).thenReturn(Optional.of(match(MatchStatus.LIVE)));
+        engine.execute(matchId, match -> addEvent(match, MatchEventType.CORNER));
+
+        // Act
+        awaitUntil(() -> {
+            engine.evictIdle();
+            return engine.getResidentCount() == 0;
+        });
+        engine.execute(matchId, Match::getStatus);
+
+        // Assert
+        verify(matchPersistencePort, times(2)).findById(matchId);
+        verify(matchPersistencePort, times(1)).saveDelta(any());
+    }
+
+    @Test
+    void execute_shouldFailWhenMatchDoesNotExist() {
+        // Arrange
+        when(matchPersistencePort.findById(matchId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> engine.execute(matchId, Match::getStatus))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(matchId.toString());
+    }
+
+    private Match match(MatchStatus status) {
+        return match(status, 0);
+    }
+
+    private Match match(MatchStatus status, long version) {
+        return Match.restore()
+                .id(matchId)
+                .homeTeam(new Team("Home United", "HOM", "England", null))
+                .awayTeam(new Team("Away City", "AWY", "England", null))
+                .venue("Stadium")
+                .startTime(LocalDateTime.now().minusMinutes(10))
+                .status(status)
+                .events(List.of())
+                .createdAt(LocalDateTime.now().minusDays(1))
+                .updatedAt(LocalDateTime.now().minusDays(1))
+                .version(version)
+                .build();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private Void addEvent(Match match, MatchEventType type) {
+        match.addEvent(new MatchEvent(type, type.name(), null, null));
+        return null;
+    }
+}
@@ -0,0 +1,133 @@
+package com.localhost.pitchperfect.application.service;
+
+import com.localhost.pitchperfect.application.dto.LiveScoreDto;
+import com.localhost.pitchperfect.application.dto.LiveScoreboardDto;
+import com.localhost.pitchperfect.application.port.out.MatchPersistencePort;
+import com.localhost.pitchperfect.domain.model.Match;
+import com.localhost.pitchperfect.domain.model.MatchStatus;
+import com.localhost.pitchperfect.domain.model.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LiveScoreboardTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private MatchPersistencePort matchPersistencePort;
+
+    private LiveScoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        // Negative retention makes every finished match eligible for pruning straight away
+        scoreboard = new LiveScoreboard(messagingTemplate, matchPersistencePort, -1);
+    }
+
+    @Test
+    void getScores_shouldReturnOnlyMatchesChangedSinceTheGivenVersion() {
+        // Arrange
+        Match first = match(MatchStatus.LIVE);
+        Match second = match(MatchStatus.LIVE);
+        scoreboard.update(first);
+        scoreboard.update(second);
+        long version = scoreboard.getScores(null).getVersion();
+
+        // Act
+        second.updateScore(1, 0);
+        scoreboard.update(second);
+        LiveScoreboardDto changes = scoreboard.getScores(version);
+
+        // Assert
+        assertThat(changes.isFull()).isFalse();
+        assertThat(changes.getVersion()).isGreaterThan(version);
+        assertThat(changes.getScores()).extracting(LiveScoreDto::getMatchId).containsExactly(second.getId());
+        assertThat(changes.getScores().get(0).getHomeScore()).isEqualTo(1);
+        assertThat(scoreboard.getScores(changes.getVersion()).getScores()).isEmpty();
+    }
+
+    @Test
+    void update_shouldPublishChangesOnlyAndIgnoreMatchesThatNeverWentLive() {
+        // Arrange
+        Match live = match(MatchStatus.LIVE);
+        Match scheduled = match(MatchStatus.SCHEDULED);
+
+        // Act
+        scoreboard.update(live);
+        scoreboard.update(live);
+        scoreboard.update(scheduled);
+
+        // Assert
+        verify(messagingTemplate, times(1))
+                .convertAndSend(eq("/topic/matches/" + live.getId() + "/score"), any(LiveScoreDto.class));
+        verifyNoMoreInteractions(messagingTemplate);
+        assertThat(scoreboard.getScore(scheduled.getId())).isNull();
+        assertThat(scoreboard.getScore(live.getId()).getMinute()).isEqualTo(11);
+    }
+
+    @Test
+    void prune_shouldRemoveFinishedMatchesAndSendTheWholeBoardToExistingClients() {
+        // Arrange
+        Match finished = match(MatchStatus.LIVE);
+        Match live = match(MatchStatus.LIVE);
+        scoreboard.update(finished);
+        scoreboard.update(live);
+        finished.complete();
+        scoreboard.update(finished);
+        long version = scoreboard.getScores(null).getVersion();
+
+        // Act
+        scoreboard.prune();
+        LiveScoreboardDto afterPrune = scoreboard.getScores(version);
+
+        // Assert
+        assertThat(afterPrune.isFull()).isTrue();
+        assertThat(afterPrune.getScores()).extracting(LiveScoreDto::getMatchId).containsExactly(live.getId());
+        assertThat(scoreboard.getScores(afterPrune.getVersion()).isFull()).isFalse();
+    }
+
+    @Test
+    void getScores_shouldReturnTheWholeBoardForAVersionFromAnotherRun() {
+        // Arrange
+        scoreboard.update(match(MatchStatus.LIVE));
+        long current = scoreboard.getScores(null).getVersion();
+
+        // Act
+        LiveScoreboardDto ahead = scoreboard.getScores(current + 1_000);
+        LiveScoreboardDto stale = scoreboard.getScores(0L);
+
+        // Assert
+        assertThat(ahead.isFull()).isTrue();
+        assertThat(ahead.getScores()).hasSize(1);
+        assertThat(stale.isFull()).isTrue();
+    }
+
+    private Match match(MatchStatus status) {
+        return Match.restore()
+                .id(UUID.randomUUID())
+                .homeTeam(new Team("Home United", "HOM", "England", null))
+                .awayTeam(new Team("Away City", "AWY", "England", null))
+                .venue("Stadium")
+                .startTime(LocalDateTime.now().minusMinutes(10).minusSeconds(30))
+                .status(status)
+                .events(List.of())
+                .createdAt(LocalDateTime.now().minusDays(1))
+                .updatedAt(LocalDateTime.now().minusDays(1))
+                .build();
+    }
+}
@@ -0,0 +1,179 @@
+package com.localhost.pitchperfect.application.service;
+
+import com.localhost.pitchperfect.application.dto.MatchClockDto;
+import com.localhost.pitchperfect.application.dto.MatchFilter;
+import com.localhost.pitchperfect.application.dto.MatchSummaryDto;
+import com.localhost.pitchperfect.application.port.out.MatchPersistencePort;
+import com.localhost.pitchperfect.domain.model.Match;
+import com.localhost.pitchperfect.domain.model.MatchEvent;
+import com.localhost.pitchperfect.domain.model.MatchEventType;
+import com.localhost.pitchperfect.domain.model.MatchStatus;
+import com.localhost.pitchperfect.domain.model.Team;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MatchClockTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private MatchPersistencePort matchPersistencePort;
+
+    private MatchClock clock;
+    private List<UUID> kickoffs;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        // A small wheel, so deadlines more than one turn away are covered too
+        clock = new MatchClock(messagingTemplate, matchPersistencePort, 1000, 16, 60_000);
+        kickoffs = new ArrayList<>();
+        clock.onKickoff(kickoffs::add);
+        now = LocalDateTime.now();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        clock.shutdown();
+    }
+
+    @Test
+    void tick_shouldKickOffScheduledMatchesOnceTheirStartTimeIsReached() {
+        // Arrange
+        Match match = match(MatchStatus.SCHEDULED, now.plusSeconds(40), List.of());
+        clock.track(match);
+
+        // Act
+        clock.tick(now);
+        clock.tick(now.plusSeconds(20));
+        List<UUID> beforeStart = new ArrayList<>(kickoffs);
+        clock.tick(now.plusSeconds(41));
+        clock.tick(now.plusSeconds(50));
+
+        // Assert
+        assertThat(beforeStart).isEmpty();
+        assertThat(kickoffs).containsExactly(match.getId());
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    void start_shouldReadScheduledMatchesAsSummaries() {
+        // Arrange
+        UUID matchId = UUID.randomUUID();
+        when(matchPersistencePort.streamSummaries(any(MatchFilter.class))).thenReturn(Stream.of(
+                MatchSummaryDto.builder().id(matchId).status("SCHEDULED").startTime(now.plusSeconds(40)).build()));
+        when(matchPersistencePort.findByStatus("LIVE")).thenReturn(List.of());
+
+        // Act
+        clock.start();
+        clock.tick(now);
+        clock.tick(now.plusSeconds(41));
+
+        // Assert
+        assertThat(kickoffs).containsExactly(matchId);
+        ArgumentCaptor<MatchFilter> filter = ArgumentCaptor.forClass(MatchFilter.class);
+        verify(matchPersistencePort).streamSummaries(filter.capture());
+        assertThat(filter.getValue().getStatus()).isEqualTo("SCHEDULED");
+        verify(matchPersistencePort, never()).findByStatus("SCHEDULED");
+    }
+
+    @Test
+    void tick_shouldPublishStoppageTimeMinutesAndStopAtHalfTime() {
+        // Arrange
+        Match match = match(MatchStatus.LIVE, now.minusHours(1),
+                List.of(event(MatchEventType.MATCH_START, now.minusMinutes(47).minusSeconds(30))));
+        clock.track(match);
+
+        // Act
+        clock.tick(now);
+        clock.tick(now.plusSeconds(31));
+        match.addEvent(event(MatchEventType.HALF_TIME, now.plusSeconds(45)));
+        clock.track(match);
+        clock.tick(now.plusSeconds(50));
+        clock.tick(now.plusMinutes(5));
+
+        // Assert
+        ArgumentCaptor<MatchClockDto> tick = ArgumentCaptor.forClass(MatchClockDto.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/matches/" + match.getId()), tick.capture());
+        assertThat(tick.getValue().getPeriod()).isEqualTo("FIRST_HALF");
+        assertThat(tick.getValue().getMinute()).isEqualTo(45);
+        assertThat(tick.getValue().getAddedMinute()).isEqualTo(4);
+        assertThat(match.getEvents().get(1).getMatchMinute()).isEqualTo(45);
+        assertThat(match.getEvents().get(1).getAddedMinute()).isEqualTo(4);
+    }
+
+    @Test
+    void tick_shouldStopTrackingMatchesThatAreNoLongerLive() {
+        // Arrange
+        Match match = match(MatchStatus.LIVE, now.minusMinutes(10).minusSeconds(30), List.of());
+        clock.track(match);
+        clock.tick(now);
+
+        // Act
+        match.complete();
+        clock.track(match);
+        clock.tick(now.plusMinutes(3));
+
+        // Assert
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    void addEvent_shouldStampSecondHalfMinutesFromTheRestartTime() {
+        // Arrange
+        Match match = match(MatchStatus.LIVE, now.minusHours(1), List.of(
+                event(MatchEventType.MATCH_START, now.minusMinutes(62)),
+                event(MatchEventType.HALF_TIME, now.minusMinutes(15)),
+                event(MatchEventType.SECOND_HALF_START, now.minusMinutes(2).minusSeconds(30))));
+
+        // Act
+        MatchEvent corner = event(MatchEventType.CORNER, now);
+        match.addEvent(corner);
+
+        // Assert
+        assertThat(corner.getMatchMinute()).isEqualTo(48);
+        assertThat(corner.getAddedMinute()).isZero();
+        assertThat(match.getTimeline().minuteAt(now.minusMinutes(10))).isEqualTo(45);
+        assertThat(match.getTimeline().addedMinuteAt(now.minusMinutes(10))).isEqualTo(3);
+    }
+
+    private Match match(MatchStatus status, LocalDateTime startTime, List<MatchEvent> events) {
+        return Match.restore()
+                .id(UUID.randomUUID())
+                .homeTeam(new Team("Home United", "HOM", "England", null))
+                .awayTeam(new Team("Away City", "AWY", "England", null))
+                .venue("Stadium")
+                .startTime(startTime)
+                .status(status)
+                .events(events)
+                .lastEventSequence(events.size())
+                .createdAt(now.minusDays(1))
+                .updatedAt(now.minusDays(1))
+                .build();
+    }
+
+    private MatchEvent event(MatchEventType type, LocalDateTime timestamp) {
+        MatchEvent event = new MatchEvent(type, type.name(), null, null);
+        event.setTimestamp(timestamp);
+        return event;
+    }
+}
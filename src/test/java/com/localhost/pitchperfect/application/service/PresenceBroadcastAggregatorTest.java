@@ -0,0 +1,69 @@
+package com.localhost.pitchperfect.application.service;
+
+import com.localhost.pitchperfect.application.dto.PresenceDiffDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PresenceBroadcastAggregatorTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private PresenceBroadcastAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new PresenceBroadcastAggregator(messagingTemplate, 60_000, 3);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        aggregator.shutdown();
+    }
+
+    @Test
+    void flush_shouldPublishOneDiffPerDestinationWithLatestStatePerUser() {
+        // Arrange
+        aggregator.record("/topic/presence/global", "user-1", true);
+        aggregator.record("/topic/presence/global", "user-2", true);
+        aggregator.record("/topic/presence/global", "user-1", false);
+        aggregator.record("/topic/presence/room-1", "user-3", true);
+
+        // Act
+        aggregator.flush();
+        aggregator.flush();
+
+        // Assert
+        ArgumentCaptor<PresenceDiffDto> diff = ArgumentCaptor.forClass(PresenceDiffDto.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/presence/global"), diff.capture());
+        assertThat(diff.getValue().getJoined()).containsExactly("user-2");
+        assertThat(diff.getValue().getLeft()).containsExactly("user-1");
+        assertThat(diff.getValue().getJoinedCount()).isEqualTo(1);
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/presence/room-1"), any(PresenceDiffDto.class));
+    }
+
+    @Test
+    void record_shouldPublishEarlyWhenBatchIsFull() {
+        // Act
+        aggregator.record("/topic/presence/global", "user-1", true);
+        aggregator.record("/topic/presence/global", "user-2", true);
+        aggregator.record("/topic/presence/global", "user-3", true);
+
+        // Assert
+        ArgumentCaptor<PresenceDiffDto> diff = ArgumentCaptor.forClass(PresenceDiffDto.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/presence/global"), diff.capture());
+        assertThat(diff.getValue().getJoined()).containsExactly("user-1", "user-2", "user-3");
+    }
+}
@@ -0,0 +1,82 @@
+package com.localhost.pitchperfect.application.service;
+
+import com.localhost.pitchperfect.application.dto.ChatMessageDto;
+import com.localhost.pitchperfect.application.port.out.ChatPersistencePort;
+import com.localhost.pitchperfect.domain.event.UserProfileChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SenderProfileCacheTest {
+
+    @Mock
+    private ChatPersistencePort chatPersistencePort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SenderProfileCache senderProfileCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        senderProfileCache = new SenderProfileCache(chatPersistencePort, meterRegistry, 100, 300);
+    }
+
+    @Test
+    void get_shouldLoadProfileOnceAndRecordHitsAndMisses() {
+        // Arrange
+        when(chatPersistencePort.findSenderProfile("user-1"))
+                .thenReturn(Optional.of(new ChatMessageDto.SenderDto("user-1", "fan", "avatar.jpg")));
+
+        // Act
+        ChatMessageDto.SenderDto first = senderProfileCache.get("user-1");
+        ChatMessageDto.SenderDto second = senderProfileCache.get("user-1");
+
+        // Assert
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+        verify(chatPersistencePort, times(1)).findSenderProfile("user-1");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", SenderProfileCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", SenderProfileCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void onEvent_shouldReloadProfile() {
+        // Arrange
+        when(chatPersistencePort.findSenderProfile("user-1"))
+                .thenReturn(Optional.of(new ChatMessageDto.SenderDto("user-1", "fan", "avatar.jpg")))
+                .thenReturn(Optional.of(new ChatMessageDto.SenderDto("user-1", "superfan", "avatar.jpg")));
+        senderProfileCache.get("user-1");
+
+        // Act
+        senderProfileCache.onEvent(new UserProfileChangedEvent("user-1"));
+
+        // Assert
+        assertThat(senderProfileCache.get("user-1").getUsername()).isEqualTo("superfan");
+    }
+
+    @Test
+    void get_shouldNotCacheFallbackForUnknownUsers() {
+        // Arrange
+        when(chatPersistencePort.findSenderProfile("user-2"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new ChatMessageDto.SenderDto("user-2", "newfan", "avatar.jpg")));
+
+        // Act
+        ChatMessageDto.SenderDto unknown = senderProfileCache.get("user-2");
+        ChatMessageDto.SenderDto resolved = senderProfileCache.get("user-2");
+
+        // Assert
+        assertThat(unknown.getUsername()).isEqualTo("Unknown User");
+        assertThat(resolved.getUsername()).isEqualTo("newfan");
+    }
+}
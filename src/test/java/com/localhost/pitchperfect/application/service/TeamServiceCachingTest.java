@@ -0,0 +1,133 @@
+package com.localhost.pitchperfect.application.service;
+
+import com.localhost.pitchperfect.application.port.in.PlayerUseCase;
+import com.localhost.pitchperfect.application.port.in.TeamUseCase;
+import com.localhost.pitchperfect.application.port.out.PlayerPersistencePort;
+import com.localhost.pitchperfect.application.port.out.TeamPersistencePort;
+import com.localhost.pitchperfect.domain.model.Player;
+import com.localhost.pitchperfect.domain.model.Position;
+import com.localhost.pitchperfect.domain.model.Team;
+import com.localhost.pitchperfect.infrastructure.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(TeamServiceCachingTest.Config.class)
+public class TeamServiceCachingTest {
+
+    @Autowired
+    private TeamUseCase teamUseCase;
+
+    @Autowired
+    private PlayerUseCase playerUseCase;
+
+    @Autowired
+    private TeamPersistencePort teamPersistencePort;
+
+    @Autowired
+    private PlayerPersistencePort playerPersistencePort;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Team team;
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        reset(teamPersistencePort, playerPersistencePort);
+        CacheNames.ALL.forEach(name -> cacheManager.getCache(name).clear());
+        team = new Team("Home United", "HOM", "England", null);
+        player = new Player("Player One", LocalDate.of(1998, 4, 2), "England", Position.MIDFIELDER, "8");
+        team.addPlayer(player);
+        when(teamPersistencePort.findById(team.getId())).thenReturn(Optional.of(team));
+        when(teamPersistencePort.findAll()).thenReturn(List.of(team));
+        when(teamPersistencePort.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(playerPersistencePort.findById(player.getId())).thenReturn(Optional.of(player));
+        when(playerPersistencePort.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void reads_shouldBeServedFromTheCacheAfterTheFirstLoad() {
+        // Act
+        teamUseCase.getTeamById(team.getId());
+        teamUseCase.getTeamById(team.getId());
+        teamUseCase.getAllTeams();
+        teamUseCase.getAllTeams();
+        teamUseCase.getTeamPlayers(team.getId());
+        playerUseCase.getPlayerById(player.getId());
+        playerUseCase.getPlayerById(player.getId());
+
+        // Assert
+        verify(teamPersistencePort, times(2)).findById(team.getId());
+        verify(teamPersistencePort, times(1)).findAll();
+        verify(playerPersistencePort, times(1)).findById(player.getId());
+    }
+
+    @Test
+    void updateTeam_shouldEvictTheTeamAndTeamListings() {
+        // Arrange
+        teamUseCase.getTeamById(team.getId());
+        teamUseCase.getAllTeams();
+
+        // Act
+        teamUseCase.updateTeam(team.getId(), "Home City", "HOC", "England", null);
+        String name = teamUseCase.getTeamById(team.getId()).getName();
+        teamUseCase.getAllTeams();
+
+        // Assert
+        assertThat(name).isEqualTo("Home City");
+        verify(teamPersistencePort, times(2)).findAll();
+    }
+
+    @Test
+    void updatePlayer_shouldEvictTeamsEmbeddingTheSquad() {
+        // Arrange
+        teamUseCase.getTeamById(team.getId());
+
+        // Act
+        playerUseCase.updatePlayer(player.getId(), "Player Renamed", null, null, null, null);
+        String squadName = teamUseCase.getTeamById(team.getId()).getPlayers().get(0).getName();
+
+        // Assert
+        assertThat(squadName).isEqualTo("Player Renamed");
+    }
+
+    @Configuration
+    @EnableCaching
+    @Import({TeamService.class, PlayerService.class, MatchMapperImpl.class})
+    static class Config {
+
+        @Bean
+        TeamPersistencePort teamPersistencePort() {
+            return mock(TeamPersistencePort.class);
+        }
+
+        @Bean
+        PlayerPersistencePort playerPersistencePort() {
+            return mock(PlayerPersistencePort.class);
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new TwoTierCacheManager(CacheNames.ALL, 100, Duration.ofMinutes(1), null, null,
+                    new SimpleMeterRegistry());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.localhost.pitchperfect.domain.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class DomainEventPublisherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DomainEventPublisher publisher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        publisher.shutdown();
+    }
+
+    @Test
+    void publish_shouldDeliverEventsOnlyToSubscribersOfTheirType() throws InterruptedException {
+        // Arrange
+        publisher = publisher(1024, WaitStrategy.BLOCKING);
+        RecordingSubscriber<UserProfileChangedEvent> profileSubscriber =
+                new RecordingSubscriber<>("profiles", UserProfileChangedEvent.class);
+        RecordingSubscriber<DomainEvent> allSubscriber = new RecordingSubscriber<>("all", DomainEvent.class);
+        publisher.subscribe(profileSubscriber);
+        publisher.subscribe(allSubscriber);
+
+        // Act
+        publisher.publish(new UserProfileChangedEvent("u1"));
+        publisher.publish("chat.message.created", "hello");
+        publisher.publish(new UserProfileChangedEvent("u2"));
+        publisher.shutdown();
+
+        // Assert
+        assertThat(profileSubscriber.events).extracting(UserProfileChangedEvent::getUserId).containsExactly("u1", "u2");
+        assertThat(allSubscriber.events).extracting(DomainEvent::getType)
+                .containsExactly("user.profile.changed", "chat.message.created", "user.profile.changed");
+        assertThat(meterRegistry.get("domain.events.published").counter().count()).isEqualTo(3.0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    void publish_shouldWaitForSlowSubscriberInsteadOfOverwriting(WaitStrategy waitStrategy) throws InterruptedException {
+        // Arrange
+        publisher = publisher(4, waitStrategy);
+        RecordingSubscriber<PayloadEvent> subscriber = new RecordingSubscriber<>("slow", PayloadEvent.class);
+        subscriber.delayMillis = 1;
+        publisher.subscribe(subscriber);
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            publisher.publish("tick", i);
+        }
+        publisher.shutdown();
+
+        // Assert
+        assertThat(subscriber.events).extracting(PayloadEvent::getPayload)
+                .containsExactlyElementsOf(IntStream.range(0, 50).boxed().collect(Collectors.toList()));
+        assertThat(subscriber.largestBatch.get()).isLessThanOrEqualTo(4);
+        assertThat(meterRegistry.get("domain.events.lag").tag("subscriber", "slow").gauge().value()).isZero();
+    }
+
+    @Test
+    void publish_shouldKeepDeliveringAfterSubscriberFailure() throws InterruptedException {
+        // Arrange
+        publisher = publisher(1024, WaitStrategy.YIELDING);
+        RecordingSubscriber<PayloadEvent> failing = new RecordingSubscriber<>("failing", PayloadEvent.class) {
+            @Override
+            public void onEvent(PayloadEvent event) {
+                if ("boom".equals(event.getPayload())) {
+                    throw new IllegalStateException("boom");
+                }
+                super.onEvent(event);
+            }
+
+            @Override
+            public void onEvents(List<PayloadEvent> events) {
+                // Deliver one by one so the failing event forms its own batch
+                events.forEach(this::onEvent);
+            }
+        };
+        publisher.subscribe(failing);
+
+        // Act
+        publisher.publish("test", "boom");
+        awaitProcessed("failing");
+        publisher.publish("test", "after");
+        publisher.shutdown();
+
+        // Assert
+        assertThat(failing.events).extracting(PayloadEvent::getPayload).containsExactly("after");
+        assertThat(meterRegistry.get("domain.events.subscriber.failures").tag("subscriber", "failing")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private DomainEventPublisher publisher(int ringSize, WaitStrategy waitStrategy) {
+        return new DomainEventPublisher(mock(ObjectProvider.class), meterRegistry, ringSize, waitStrategy, 4, 5000);
+    }
+
+    private void awaitProcessed(String subscriber) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("domain.events.lag").tag("subscriber", subscriber).gauge().value() > 0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static class RecordingSubscriber<E extends DomainEvent> implements DomainEventSubscriber<E> {
+        private final String name;
+        private final Class<E> eventType;
+        private final List<E> events = new CopyOnWriteArrayList<>();
+        private final AtomicInteger largestBatch = new AtomicInteger();
+        private volatile long delayMillis;
+
+        private RecordingSubscriber(String name, Class<E> eventType) {
+            this.name = name;
+            this.eventType = eventType;
+        }
+
+        @Override
+        public Class<E> getEventType() {
+            return eventType;
+        }
+
+        @Override
+        public void onEvent(E event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onEvents(List<E> batch) {
+            largestBatch.accumulateAndGet(batch.size(), Math::max);
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            DomainEventSubscriber.super.onEvents(batch);
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
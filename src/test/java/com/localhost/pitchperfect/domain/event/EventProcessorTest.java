@@ -0,0 +1,35 @@
+package com.localhost.pitchperfect.domain.event;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventProcessorTest {
+
+    @Test
+    void run_shouldStopWhenInterruptedWhileRunning() throws InterruptedException {
+        // Arrange
+        EventRingBuffer ringBuffer = new EventRingBuffer(16, WaitStrategy.BUSY_SPIN);
+        EventProcessor<DomainEvent> processor = new EventProcessor<>(ringBuffer, new DomainEventSubscriber<>() {
+            @Override
+            public Class<DomainEvent> getEventType() {
+                return DomainEvent.class;
+            }
+
+            @Override
+            public void onEvent(DomainEvent event) {
+            }
+        }, 4);
+        Thread thread = new Thread(processor);
+        thread.setDaemon(true);
+        thread.start();
+
+        // Act
+        thread.interrupt();
+        thread.join(5000);
+
+        // Assert
+        assertThat(thread.isAlive()).isFalse();
+        assertThat(processor.isRunning()).isFalse();
+    }
+}
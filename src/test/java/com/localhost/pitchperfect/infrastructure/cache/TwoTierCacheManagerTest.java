@@ -0,0 +1,164 @@
+package com.localhost.pitchperfect.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.localhost.pitchperfect.application.dto.PlayerDto;
+import com.localhost.pitchperfect.application.dto.TeamDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TwoTierCacheManagerTest {
+
+    private static final String TEAMS = "teams";
+
+    private ConcurrentMapCacheManager sharedTier;
+    private InMemoryInvalidationBus bus;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        sharedTier = new ConcurrentMapCacheManager();
+        bus = new InMemoryInvalidationBus();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void get_shouldFillLocalTierFromSharedTierOnLocalMiss() {
+        // Arrange
+        TwoTierCacheManager manager = node();
+        UUID key = UUID.randomUUID();
+        sharedTier.getCache(TEAMS).put(key, "Home United");
+        Cache cache = manager.getCache(TEAMS);
+
+        // Act
+        Cache.ValueWrapper first = cache.get(key);
+        sharedTier.getCache(TEAMS).evict(key);
+        Cache.ValueWrapper second = cache.get(key);
+
+        // Assert
+        assertThat(first.get()).isEqualTo("Home United");
+        assertThat(second.get()).isEqualTo("Home United");
+        assertThat(meterRegistry.get("cache.remote.gets").tag("cache", TEAMS).tag("result", "hit").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", TEAMS).tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void getWithLoader_shouldLoadOnceAndWriteBothTiers() {
+        // Arrange
+        Cache cache = node().getCache(TEAMS);
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        String first = cache.get("all", () -> "loaded-" + loads.incrementAndGet());
+        String second = cache.get("all", () -> "loaded-" + loads.incrementAndGet());
+
+        // Assert
+        assertThat(first).isEqualTo("loaded-1");
+        assertThat(second).isEqualTo("loaded-1");
+        assertThat(sharedTier.getCache(TEAMS).get("all").get()).isEqualTo("loaded-1");
+    }
+
+    @Test
+    void evict_shouldDropTheEntryFromTheLocalTierOfEveryNode() {
+        // Arrange
+        Cache nodeA = node().getCache(TEAMS);
+        Cache nodeB = node().getCache(TEAMS);
+        UUID key = UUID.randomUUID();
+        nodeA.get(key, () -> "v1");
+        nodeB.get(key, () -> "v1");
+
+        // Act
+        nodeA.evict(key);
+        String reloaded = nodeB.get(key, () -> "v2");
+
+        // Assert
+        assertThat(reloaded).isEqualTo("v2");
+        assertThat(bus.published).extracting(CacheInvalidation::getKey).containsExactly(key.toString());
+    }
+
+    @Test
+    void clear_shouldClearTheLocalTierOfEveryNode() {
+        // Arrange
+        Cache nodeA = node().getCache(TEAMS);
+        Cache nodeB = node().getCache(TEAMS);
+        nodeB.put("all", "v1");
+
+        // Act
+        nodeA.clear();
+
+        // Assert
+        assertThat(nodeB.get("all")).isNull();
+        assertThat(bus.published).extracting(CacheInvalidation::getKey).containsExactly((String) null);
+    }
+
+    @Test
+    void cacheValueSerializer_shouldRoundTripListsOfDtos() {
+        // Arrange
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        GenericJackson2JsonRedisSerializer serializer = CacheConfig.cacheValueSerializer(objectMapper);
+        PlayerDto player = PlayerDto.builder()
+                .id(UUID.randomUUID())
+                .name("Player One")
+                .dateOfBirth(LocalDate.of(1998, 4, 2))
+                .position("MIDFIELDER")
+                .age(26)
+                .build();
+        List<TeamDto> teams = new ArrayList<>(List.of(TeamDto.builder()
+                .id(UUID.randomUUID())
+                .name("Home United")
+                .players(new ArrayList<>(List.of(player)))
+                .build()));
+
+        // Act
+        Object restored = serializer.deserialize(serializer.serialize(teams));
+
+        // Assert
+        assertThat(restored).isEqualTo(teams);
+    }
+
+    private TwoTierCacheManager node() {
+        TwoTierCacheManager manager = new TwoTierCacheManager(List.of(TEAMS), 100, Duration.ofMinutes(1),
+                sharedTier, bus, meterRegistry);
+        manager.afterPropertiesSet();
+        return manager;
+    }
+
+    /**
+     * Delivers every invalidation to all nodes in the test, like the Redis channel does.
+     */
+    private static final class InMemoryInvalidationBus implements CacheInvalidationBus {
+        private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+        private final List<CacheInvalidation> published = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void publish(CacheInvalidation invalidation) {
+            published.add(invalidation);
+            listeners.forEach(listener -> listener.accept(invalidation));
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidation> listener) {
+            listeners.add(listener);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.localhost.pitchperfect.infrastructure.metrics;
+
+import com.localhost.pitchperfect.application.port.in.PresenceUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PortMetricsInterceptorTest {
+
+    private MeterRegistry meterRegistry;
+    private StubPresenceService presenceService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+
+        ProxyFactory proxyFactory = new ProxyFactory(new StubPresenceService());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(new PortMethodPointcut(),
+                new PortMetricsInterceptor(beanFactory.getBeanProvider(MeterRegistry.class), false)));
+        presenceService = (StubPresenceService) proxyFactory.getProxy();
+    }
+
+    @Test
+    void invoke_shouldTimeSuccessfulPortCallsWithPortAndMethodTags() {
+        // Act
+        presenceService.userConnected("user-1");
+        presenceService.userConnected("user-2");
+
+        // Assert
+        Timer timer = meterRegistry.find(PortMetricsInterceptor.METRIC_NAME)
+                .tags("port", "PresenceUseCase", "direction", "in", "method", "userConnected",
+                        "class", "StubPresenceService", "outcome", "success", "exception", "none")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    void invoke_shouldRecordFailedCallsByExceptionTypeAndRethrow() {
+        // Act & Assert
+        assertThatThrownBy(() -> presenceService.userDisconnected("unknown"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        Timer timer = meterRegistry.find(PortMetricsInterceptor.METRIC_NAME)
+                .tags("method", "userDisconnected", "outcome", "error", "exception", "IllegalArgumentException")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void pointcut_shouldNotTimeMethodsOutsideThePort() {
+        // Act
+        presenceService.connectedUsers();
+
+        // Assert
+        assertThat(meterRegistry.find(PortMetricsInterceptor.METRIC_NAME).timers()).isEmpty();
+    }
+
+    public static class StubPresenceService implements PresenceUseCase {
+
+        @Override
+        public void userConnected(String userId) {
+        }
+
+        @Override
+        public void userDisconnected(String userId) {
+            throw new IllegalArgumentException("User not connected: " + userId);
+        }
+
+        @Override
+        public void userJoinedRoom(String userId, String roomId) {
+        }
+
+        @Override
+        public void userLeftRoom(String userId, String roomId) {
+        }
+
+        @Override
+        public String getRoomIdBySubscription(String userId, String subscriptionId) {
+            return null;
+        }
+
+        public int connectedUsers() {
+            return 0;
+        }
+    }
+}
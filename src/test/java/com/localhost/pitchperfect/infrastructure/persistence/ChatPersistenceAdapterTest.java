@@ -14,6 +14,7 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +26,9 @@ public class ChatPersistenceAdapterTest {
     @Mock
     private UserJpaRepository userRepository;
 
+    @Mock
+    private OutboxWriter outboxWriter;
+
     @InjectMocks
     private ChatPersistenceAdapter chatPersistenceAdapter;
 
@@ -72,6 +76,7 @@ public class ChatPersistenceAdapterTest {
         assertThat(result.getContent()).isEqualTo("Hello, world!");
         assertThat(result.getSender().getId()).isEqualTo(userId);
         verify(chatMessageRepository, times(1)).save(any(ChatMessageEntity.class));
+        verify(outboxWriter).append(eq("chat.message.created"), eq(roomId), any(ChatMessageDto.class));
     }
 
     @Test
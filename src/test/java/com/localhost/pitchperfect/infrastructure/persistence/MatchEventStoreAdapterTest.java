@@ -0,0 +1,155 @@
+package com.localhost.pitchperfect.infrastructure.persistence;
+
+import com.localhost.pitchperfect.domain.model.Match;
+import com.localhost.pitchperfect.domain.model.MatchDelta;
+import com.localhost.pitchperfect.domain.model.MatchEvent;
+import com.localhost.pitchperfect.domain.model.MatchEventType;
+import com.localhost.pitchperfect.domain.model.MatchStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({MatchEventStoreAdapter.class, MatchPersistenceAdapter.class, MatchPersistenceMapperImpl.class,
+        OutboxWriter.class, JacksonAutoConfiguration.class})
+public class MatchEventStoreAdapterTest {
+
+    @Autowired
+    private MatchEventStoreAdapter matchEventStoreAdapter;
+
+    @Autowired
+    private MatchPersistenceAdapter matchPersistenceAdapter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID matchId;
+
+    @BeforeEach
+    void setUp() {
+        TeamEntity home = entityManager.persist(team("Home United", "HOM"));
+        TeamEntity away = entityManager.persist(team("Away City", "AWY"));
+        matchId = UUID.randomUUID();
+        entityManager.persist(MatchEntity.builder()
+                .id(matchId)
+                .homeTeam(home)
+                .awayTeam(away)
+                .venue("Stadium")
+                .startTime(LocalDateTime.now())
+                .status(MatchStatus.LIVE.name())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    void saveDelta_shouldAppendEventsAndResumeFromSequence() {
+        // Arrange
+        Match match = matchPersistenceAdapter.findById(matchId).orElseThrow();
+        for (int i = 0; i < 5; i++) {
+            match.addEvent(new MatchEvent(MatchEventType.CORNER, "Corner " + i, null, null));
+        }
+
+        // Act
+        matchPersistenceAdapter.saveDelta(MatchDelta.of(match, match.getEvents()));
+        entityManager.flush();
+        entityManager.clear();
+        List<MatchEvent> resumed = matchEventStoreAdapter.readFrom(matchId, 3, 10);
+
+        // Assert
+        assertThat(resumed).extracting(MatchEvent::getSequence).containsExactly(3L, 4L, 5L);
+        assertThat(matchEventStoreAdapter.getLastSequence(matchId)).isEqualTo(5);
+        Match reloaded = matchPersistenceAdapter.findById(matchId).orElseThrow();
+        assertThat(reloaded.getLastEventSequence()).isEqualTo(5);
+        assertThat(reloaded.getEvents()).extracting(MatchEvent::getDescription)
+                .containsExactly("Corner 0", "Corner 1", "Corner 2", "Corner 3", "Corner 4");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE event_type = 'match.event.recorded' AND aggregate_id = ?",
+                Integer.class, matchId.toString())).isEqualTo(5);
+    }
+
+    @Test
+    void append_shouldRejectDuplicateSequence() {
+        // Arrange
+        MatchEvent first = event(1);
+        MatchEvent duplicate = event(1);
+        matchEventStoreAdapter.append(matchId, List.of(first));
+        entityManager.flush();
+
+        // Act & Assert
+        assertThatThrownBy(() -> {
+            matchEventStoreAdapter.append(matchId, List.of(duplicate));
+            entityManager.flush();
+        }).isInstanceOfAny(DataIntegrityViolationException.class, jakarta.persistence.PersistenceException.class);
+    }
+
+    @Test
+    void append_shouldRejectDuplicateIdempotencyKey() {
+        // Arrange
+        MatchEvent first = event(1);
+        first.setIdempotencyKey("goal-1");
+        MatchEvent retry = event(2);
+        retry.setIdempotencyKey("goal-1");
+        matchEventStoreAdapter.append(matchId, List.of(first));
+        entityManager.flush();
+
+        // Act & Assert
+        assertThatThrownBy(() -> {
+            matchEventStoreAdapter.append(matchId, List.of(retry));
+            entityManager.flush();
+        }).isInstanceOfAny(DataIntegrityViolationException.class, jakarta.persistence.PersistenceException.class);
+    }
+
+    @Test
+    void saveDelta_shouldRejectDeltaBasedOnAnOutdatedVersion() {
+        // Arrange
+        Match first = matchPersistenceAdapter.findById(matchId).orElseThrow();
+        Match second = matchPersistenceAdapter.findById(matchId).orElseThrow();
+        first.updateScore(1, 0);
+        second.updateScore(0, 1);
+        matchPersistenceAdapter.saveDelta(MatchDelta.of(first, List.of()));
+
+        // Act & Assert
+        assertThatThrownBy(() -> matchPersistenceAdapter.saveDelta(MatchDelta.of(second, List.of())))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        entityManager.clear();
+        Match stored = matchPersistenceAdapter.findById(matchId).orElseThrow();
+        assertThat(stored.getHomeScore()).isEqualTo(1);
+        assertThat(stored.getVersion()).isEqualTo(1);
+    }
+
+    private MatchEvent event(long sequence) {
+        MatchEvent event = new MatchEvent(MatchEventType.YELLOW_CARD, "Booking", null, null);
+        event.setSequence(sequence);
+        return event;
+    }
+
+    private TeamEntity team(String name, String shortName) {
+        return TeamEntity.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .shortName(shortName)
+                .country("England")
+                .build();
+    }
+}
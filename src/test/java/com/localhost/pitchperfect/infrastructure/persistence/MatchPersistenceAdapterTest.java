@@ -0,0 +1,191 @@
+package com.localhost.pitchperfect.infrastructure.persistence;
+
+import com.localhost.pitchperfect.application.dto.MatchFilter;
+import com.localhost.pitchperfect.application.dto.MatchSummaryDto;
+import com.localhost.pitchperfect.application.dto.ResourceVersion;
+import com.localhost.pitchperfect.domain.model.Match;
+import com.localhost.pitchperfect.domain.model.MatchStatus;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({MatchEventStoreAdapter.class, MatchPersistenceAdapter.class, MatchPersistenceMapperImpl.class,
+        OutboxWriter.class, JacksonAutoConfiguration.class})
+public class MatchPersistenceAdapterTest {
+
+    private static final LocalDateTime KICK_OFF = LocalDateTime.of(2024, 8, 17, 15, 0);
+
+    @Autowired
+    private MatchPersistenceAdapter matchPersistenceAdapter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private TeamEntity home;
+    private TeamEntity away;
+    private TeamEntity other;
+
+    @BeforeEach
+    void setUp() {
+        home = entityManager.persist(team("Home United", "HOM"));
+        away = entityManager.persist(team("Away City", "AWY"));
+        other = entityManager.persist(team("Other Rovers", "OTH"));
+        // Three matches share a kick-off time so the ID has to break the tie
+        for (int i = 0; i < 3; i++) {
+            match(home, away, KICK_OFF, MatchStatus.COMPLETED);
+        }
+        match(away, home, KICK_OFF.plusDays(7), MatchStatus.COMPLETED);
+        match(other, away, KICK_OFF.plusDays(14), MatchStatus.SCHEDULED);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findPage_shouldWalkAllMatchesByStartTimeAndIdWithoutGapsOrDuplicates() {
+        // Arrange
+        List<Match> walked = new ArrayList<>();
+        LocalDateTime afterStartTime = null;
+        UUID afterId = null;
+
+        // Act
+        List<Match> page;
+        do {
+            page = matchPersistenceAdapter.findPage(MatchFilter.all(), afterStartTime, afterId, 2);
+            walked.addAll(page);
+            if (!page.isEmpty()) {
+                afterStartTime = page.get(page.size() - 1).getStartTime();
+                afterId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == 2);
+
+        // Assert
+        assertThat(walked).hasSize(5);
+        assertThat(walked).extracting(Match::getId).doesNotHaveDuplicates();
+        assertThat(walked).extracting(Match::getStartTime).isSorted();
+        // The database orders UUIDs as unsigned bytes, which matches their string form
+        assertThat(walked.subList(0, 3)).extracting(match -> match.getId().toString()).isSorted();
+    }
+
+    @Test
+    void findPage_shouldApplyFilters() {
+        // Act
+        List<Match> byTeam = matchPersistenceAdapter.findPage(
+                MatchFilter.builder().teamId(other.getId()).build(), null, null, 10);
+        List<Match> byStatusAndTime = matchPersistenceAdapter.findPage(MatchFilter.builder()
+                .status(MatchStatus.COMPLETED.name())
+                .startTimeFrom(KICK_OFF.plusDays(1))
+                .build(), null, null, 10);
+
+        // Assert
+        assertThat(byTeam).hasSize(1);
+        assertThat(byTeam.get(0).getHomeTeam().getName()).isEqualTo("Other Rovers");
+        assertThat(byStatusAndTime).hasSize(1);
+        assertThat(byStatusAndTime.get(0).getStartTime()).isEqualTo(KICK_OFF.plusDays(7));
+    }
+
+    @Test
+    void streamAll_shouldReturnFilteredMatchesInOrder() {
+        // Act
+        List<Match> streamed;
+        try (Stream<Match> matches = matchPersistenceAdapter.streamAll(
+                MatchFilter.builder().teamId(away.getId()).build())) {
+            streamed = matches.toList();
+        }
+
+        // Assert
+        assertThat(streamed).hasSize(5);
+        assertThat(streamed).extracting(Match::getStartTime).isSorted();
+        assertThat(streamed.get(4).getAwayTeam().getName()).isEqualTo("Away City");
+    }
+
+    @Test
+    void findSummaryPage_shouldProjectTeamsScoreAndStatusWithoutManagedEntities() {
+        // Act
+        List<MatchSummaryDto> summaries = matchPersistenceAdapter.findSummaryPage(
+                MatchFilter.builder().status(MatchStatus.SCHEDULED.name()).build(), null, null, 10);
+
+        // Assert
+        assertThat(summaries).hasSize(1);
+        MatchSummaryDto summary = summaries.get(0);
+        assertThat(summary.getHomeTeamName()).isEqualTo("Other Rovers");
+        assertThat(summary.getAwayTeamShortName()).isEqualTo("AWY");
+        assertThat(summary.getStatus()).isEqualTo("SCHEDULED");
+        assertThat(summary.getStartTime()).isEqualTo(KICK_OFF.plusDays(14));
+        // Nothing was hydrated into the persistence context: no matches, teams, players or events
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void streamSummaries_shouldFollowTheSameOrderAsPages() {
+        // Act
+        List<MatchSummaryDto> streamed;
+        try (Stream<MatchSummaryDto> summaries = matchPersistenceAdapter.streamSummaries(MatchFilter.all())) {
+            streamed = summaries.toList();
+        }
+        List<MatchSummaryDto> paged = matchPersistenceAdapter.findSummaryPage(MatchFilter.all(), null, null, 10);
+
+        // Assert
+        assertThat(streamed).hasSize(5);
+        assertThat(streamed).extracting(MatchSummaryDto::getId)
+                .containsExactlyElementsOf(paged.stream().map(MatchSummaryDto::getId).toList());
+    }
+
+    @Test
+    void findVersion_shouldChangeWhenAFilteredMatchRecordsAnEvent() {
+        // Arrange
+        MatchFilter filter = MatchFilter.builder().status(MatchStatus.SCHEDULED.name()).build();
+        ResourceVersion before = matchPersistenceAdapter.findVersion(filter);
+        MatchEntity scheduled = entityManager.getEntityManager()
+                .createQuery("select m from MatchEntity m where m.status = 'SCHEDULED'", MatchEntity.class)
+                .getSingleResult();
+
+        // Act
+        scheduled.setLastEventSequence(scheduled.getLastEventSequence() + 1);
+        entityManager.flush();
+        ResourceVersion after = matchPersistenceAdapter.findVersion(filter);
+
+        // Assert
+        assertThat(before.getCount()).isEqualTo(1);
+        assertThat(after).isNotEqualTo(before);
+        assertThat(matchPersistenceAdapter.findVersion(scheduled.getId())).contains(after);
+        assertThat(matchPersistenceAdapter.findVersion(UUID.randomUUID())).isEmpty();
+    }
+
+    private void match(TeamEntity homeTeam, TeamEntity awayTeam, LocalDateTime startTime, MatchStatus status) {
+        entityManager.persist(MatchEntity.builder()
+                .id(UUID.randomUUID())
+                .homeTeam(homeTeam)
+                .awayTeam(awayTeam)
+                .venue("Stadium")
+                .startTime(startTime)
+                .status(status.name())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private TeamEntity team(String name, String shortName) {
+        return TeamEntity.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .shortName(shortName)
+                .country("England")
+                .build();
+    }
+}
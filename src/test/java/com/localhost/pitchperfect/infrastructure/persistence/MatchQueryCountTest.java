@@ -0,0 +1,248 @@
+package com.localhost.pitchperfect.infrastructure.persistence;
+
+import com.localhost.pitchperfect.application.dto.MatchFilter;
+import com.localhost.pitchperfect.domain.model.Match;
+import com.localhost.pitchperfect.domain.model.MatchEvent;
+import com.localhost.pitchperfect.domain.model.MatchStatus;
+import com.localhost.pitchperfect.domain.model.Team;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Asserts the number of SQL statements each read method issues. The fixture has more matches
+ * than one batch and full squads, so any per-row or per-player loading shows up as a failure.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({MatchEventStoreAdapter.class, MatchPersistenceAdapter.class, TeamPersistenceAdapter.class,
+        MatchPersistenceMapperImpl.class, OutboxWriter.class, JacksonAutoConfiguration.class})
+public class MatchQueryCountTest {
+
+    private static final int TEAMS = 6;
+    private static final int SQUAD_SIZE = 30;
+    private static final int MATCHES = 60;
+    private static final int EVENTS_PER_MATCH = 4;
+    private static final LocalDateTime KICK_OFF = LocalDateTime.of(2024, 8, 17, 15, 0);
+
+    @Autowired
+    private MatchPersistenceAdapter matchPersistenceAdapter;
+
+    @Autowired
+    private MatchEventStoreAdapter matchEventStoreAdapter;
+
+    @Autowired
+    private TeamPersistenceAdapter teamPersistenceAdapter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final List<TeamEntity> teams = new ArrayList<>();
+    private final List<UUID> matchIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int t = 0; t < TEAMS; t++) {
+            TeamEntity team = entityManager.persist(team(t));
+            for (int p = 0; p < SQUAD_SIZE; p++) {
+                team.getPlayers().add(entityManager.persist(player(team, p)));
+            }
+            teams.add(team);
+        }
+        for (int m = 0; m < MATCHES; m++) {
+            TeamEntity home = teams.get(m % TEAMS);
+            TeamEntity away = teams.get((m + 1) % TEAMS);
+            UUID matchId = match(home, away, KICK_OFF.plusDays(m));
+            for (int e = 0; e < EVENTS_PER_MATCH; e++) {
+                entityManager.persist(event(matchId, e + 1L, home.getPlayers().get(e), away.getPlayers().get(e)));
+            }
+            matchIds.add(matchId);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics().clear();
+    }
+
+    @Test
+    void findById_shouldLoadMatchTeamsSquadsAndEventsInFourQueries() {
+        // Act
+        Match match = countQueries(4, () -> matchPersistenceAdapter.findById(matchIds.get(0)).orElseThrow());
+
+        // Assert
+        assertFullyLoaded(List.of(match));
+    }
+
+    @Test
+    void findAll_shouldNotIssueQueriesPerMatch() {
+        // Act
+        List<Match> matches = countQueries(5, matchPersistenceAdapter::findAll);
+
+        // Assert
+        assertThat(matches).hasSize(MATCHES);
+        assertFullyLoaded(matches);
+    }
+
+    @Test
+    void findByStatus_shouldNotIssueQueriesPerMatch() {
+        // Act
+        List<Match> matches = countQueries(5, () -> matchPersistenceAdapter.findByStatus(MatchStatus.SCHEDULED.name()));
+
+        // Assert
+        assertThat(matches).hasSize(MATCHES);
+        assertFullyLoaded(matches);
+    }
+
+    @Test
+    void findByStartTimeBetween_shouldNotIssueQueriesPerMatch() {
+        // Act
+        List<Match> matches = countQueries(5, () -> matchPersistenceAdapter.findByStartTimeBetween(
+                KICK_OFF, KICK_OFF.plusDays(MATCHES)));
+
+        // Assert
+        assertThat(matches).hasSize(MATCHES);
+        assertFullyLoaded(matches);
+    }
+
+    @Test
+    void findByTeamId_shouldNotIssueQueriesPerMatch() {
+        // Act
+        List<Match> matches = countQueries(4, () -> matchPersistenceAdapter.findByTeamId(teams.get(0).getId()));
+
+        // Assert
+        assertThat(matches).hasSize(2 * MATCHES / TEAMS);
+        assertFullyLoaded(matches);
+    }
+
+    @Test
+    void findPage_shouldNotIssueQueriesPerMatch() {
+        // Act
+        List<Match> matches = countQueries(5, () -> matchPersistenceAdapter.findPage(MatchFilter.all(), null, null, 50));
+
+        // Assert
+        assertThat(matches).hasSize(50);
+        assertFullyLoaded(matches);
+    }
+
+    @Test
+    void streamAll_shouldNotIssueQueriesPerMatch() {
+        // Act
+        List<Match> matches = countQueries(5, () -> {
+            try (Stream<Match> stream = matchPersistenceAdapter.streamAll(MatchFilter.all())) {
+                return stream.toList();
+            }
+        });
+
+        // Assert
+        assertThat(matches).hasSize(MATCHES);
+        assertFullyLoaded(matches);
+    }
+
+    @Test
+    void readFrom_shouldLoadEventPlayersWithTheEvents() {
+        // Act
+        List<MatchEvent> events = countQueries(1, () -> matchEventStoreAdapter.readFrom(matchIds.get(0), 1, 100));
+
+        // Assert
+        assertThat(events).hasSize(EVENTS_PER_MATCH);
+        assertThat(events).allSatisfy(event -> assertThat(event.getSecondaryPlayer().getName()).isNotNull());
+    }
+
+    @Test
+    void findAllTeams_shouldLoadSquadsInOneBatch() {
+        // Act
+        List<Team> loaded = countQueries(2, teamPersistenceAdapter::findAll);
+
+        // Assert
+        assertThat(loaded).hasSize(TEAMS);
+        assertThat(loaded).allSatisfy(team -> assertThat(team.getPlayers()).hasSize(SQUAD_SIZE));
+    }
+
+    private <T> T countQueries(int maxQueries, Supplier<T> action) {
+        T result = action.get();
+        assertThat(statistics().getPrepareStatementCount())
+                .as("SQL statements issued")
+                .isLessThanOrEqualTo(maxQueries);
+        return result;
+    }
+
+    private void assertFullyLoaded(List<Match> matches) {
+        assertThat(matches).allSatisfy(match -> {
+            assertThat(match.getHomeTeam().getPlayers()).hasSize(SQUAD_SIZE);
+            assertThat(match.getAwayTeam().getPlayers()).hasSize(SQUAD_SIZE);
+            assertThat(match.getEvents()).hasSize(EVENTS_PER_MATCH);
+            assertThat(match.getEvents().get(0).getPrimaryPlayer().getName()).isNotNull();
+        });
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    private UUID match(TeamEntity homeTeam, TeamEntity awayTeam, LocalDateTime startTime) {
+        return entityManager.persist(MatchEntity.builder()
+                .id(UUID.randomUUID())
+                .homeTeam(homeTeam)
+                .awayTeam(awayTeam)
+                .venue("Stadium")
+                .startTime(startTime)
+                .status(MatchStatus.SCHEDULED.name())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build()).getId();
+    }
+
+    private MatchEventEntity event(UUID matchId, long sequence, PlayerEntity primary, PlayerEntity secondary) {
+        return MatchEventEntity.builder()
+                .id(UUID.randomUUID())
+                .matchId(matchId)
+                .sequence(sequence)
+                .type("GOAL")
+                .description("Goal")
+                .primaryPlayer(primary)
+                .secondaryPlayer(secondary)
+                .timestamp(LocalDateTime.now())
+                .matchMinute((int) sequence * 10)
+                .build();
+    }
+
+    private TeamEntity team(int index) {
+        return TeamEntity.builder()
+                .id(UUID.randomUUID())
+                .name("Team " + index)
+                .shortName("T" + index)
+                .country("England")
+                .players(new ArrayList<>())
+                .build();
+    }
+
+    private PlayerEntity player(TeamEntity team, int number) {
+        return PlayerEntity.builder()
+                .id(UUID.randomUUID())
+                .name(team.getName() + " Player " + number)
+                .dateOfBirth(LocalDate.of(1995, 1, 1))
+                .nationality("England")
+                .position("MIDFIELDER")
+                .jerseyNumber(String.valueOf(number + 1))
+                .team(team)
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.localhost.pitchperfect.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.localhost.pitchperfect.application.dto.ChatMessageDto;
+import com.localhost.pitchperfect.domain.event.DomainEvent;
+import com.localhost.pitchperfect.domain.event.DomainEventPublisher;
+import com.localhost.pitchperfect.domain.event.PayloadEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class OutboxRelayTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private DomainEventPublisher eventPublisher;
+    private OutboxWriter outboxWriter;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = mock(DomainEventPublisher.class);
+        outboxWriter = new OutboxWriter(jdbcTemplate, objectMapper);
+        relay = new OutboxRelay(jdbcTemplate, transactionManager, objectMapper, eventPublisher, 2, 60_000,
+                "FOR UPDATE");
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        relay.shutdown();
+        jdbcTemplate.update("DELETE FROM outbox_events");
+    }
+
+    @Test
+    void poll_shouldPublishInOrderAcrossBatchesAndDeleteDeliveredRows() {
+        // Arrange
+        List<ChatMessageDto> messages = IntStream.range(0, 5).mapToObj(i -> message("Message " + i)).toList();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                outboxWriter.appendAll("chat.message.created", messages, message -> "room-1", message -> message));
+
+        // Act
+        int delivered = relay.poll();
+
+        // Assert
+        assertThat(delivered).isEqualTo(5);
+        ArgumentCaptor<DomainEvent> captor = ArgumentCaptor.forClass(DomainEvent.class);
+        verify(eventPublisher, times(5)).publish(captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(event -> {
+            assertThat(event.getType()).isEqualTo("chat.message.created");
+            assertThat(((PayloadEvent) event).getAggregateId()).isEqualTo("room-1");
+        });
+        assertThat(captor.getAllValues()).extracting(event -> ((ChatMessageDto) ((PayloadEvent) event).getPayload()).getContent())
+                .containsExactly("Message 0", "Message 1", "Message 2", "Message 3", "Message 4");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class)).isZero();
+    }
+
+    @Test
+    void poll_shouldNotSeeEventsOfRolledBackTransaction() {
+        // Arrange
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxWriter.append("chat.message.created", "room-2", message("Never sent"));
+            status.setRollbackOnly();
+        });
+
+        // Act
+        int delivered = relay.poll();
+
+        // Assert
+        assertThat(delivered).isZero();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private ChatMessageDto message(String content) {
+        ChatMessageDto message = new ChatMessageDto();
+        message.setId(content);
+        message.setContent(content);
+        message.setTimestamp(Instant.now());
+        message.setSender(new ChatMessageDto.SenderDto("user-1", "fan", "avatar.jpg"));
+        return message;
+    }
+}
@@ -0,0 +1,92 @@
+package com.localhost.pitchperfect.infrastructure.persistence;
+
+import com.localhost.pitchperfect.application.dto.ResourceVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TeamPersistenceAdapter.class, MatchPersistenceMapperImpl.class})
+public class TeamPersistenceAdapterTest {
+
+    @Autowired
+    private TeamPersistenceAdapter teamPersistenceAdapter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private TeamEntity team;
+
+    @BeforeEach
+    void setUp() {
+        team = entityManager.persist(TeamEntity.builder()
+                .id(UUID.randomUUID())
+                .name("Home United")
+                .shortName("HOM")
+                .country("England")
+                .build());
+        player("Alex Keeper", "1");
+        entityManager.flush();
+    }
+
+    @Test
+    void findVersion_shouldCoverTheTeamAndItsSquad() {
+        // Arrange
+        ResourceVersion before = teamPersistenceAdapter.findVersion(team.getId()).orElseThrow();
+
+        // Act
+        player("Sam Striker", "9");
+        entityManager.flush();
+        ResourceVersion after = teamPersistenceAdapter.findVersion(team.getId()).orElseThrow();
+
+        // Assert
+        assertThat(before.getCount()).isEqualTo(2);
+        assertThat(before.getLastModified()).isNotNull();
+        assertThat(after.getCount()).isEqualTo(3);
+        assertThat(after.getLastModified()).isAfterOrEqualTo(before.getLastModified());
+    }
+
+    @Test
+    void findVersion_shouldTrackUpdatesAcrossAllTeams() {
+        // Arrange
+        ResourceVersion before = teamPersistenceAdapter.findVersion();
+
+        // Act
+        team.setCountry("Wales");
+        entityManager.flush();
+        ResourceVersion after = teamPersistenceAdapter.findVersion();
+
+        // Assert
+        assertThat(after.getCount()).isEqualTo(before.getCount());
+        assertThat(after.getLastModified()).isAfter(before.getLastModified());
+        assertThat(team.getCreatedAt()).isBefore(team.getUpdatedAt());
+    }
+
+    @Test
+    void findVersion_shouldBeEmptyForAnUnknownTeam() {
+        // Act & Assert
+        assertThat(teamPersistenceAdapter.findVersion(UUID.randomUUID())).isEmpty();
+    }
+
+    private void player(String name, String jerseyNumber) {
+        entityManager.persist(PlayerEntity.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .dateOfBirth(LocalDate.of(2000, 1, 1))
+                .nationality("English")
+                .position("FORWARD")
+                .jerseyNumber(jerseyNumber)
+                .team(team)
+                .build());
+    }
+}
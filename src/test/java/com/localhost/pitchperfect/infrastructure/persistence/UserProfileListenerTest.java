@@ -0,0 +1,84 @@
+package com.localhost.pitchperfect.infrastructure.persistence;
+
+import com.localhost.pitchperfect.domain.event.DomainEventPublisher;
+import com.localhost.pitchperfect.domain.event.UserProfileChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class UserProfileListenerTest {
+
+    @Autowired
+    private UserJpaRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private DomainEventPublisher eventPublisher;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        userRepository.save(new UserEntity("user-1", "fan", null, "fan@example.com"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void onProfileChanged_shouldPublishAfterCommit() {
+        // Arrange
+        clearInvocations(eventPublisher);
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            UserEntity user = userRepository.findById("user-1").orElseThrow();
+            user.setUsername("superfan");
+            userRepository.flush();
+            verify(eventPublisher, never()).publish(any(UserProfileChangedEvent.class));
+        });
+
+        // Assert
+        ArgumentCaptor<UserProfileChangedEvent> event = ArgumentCaptor.forClass(UserProfileChangedEvent.class);
+        verify(eventPublisher).publish(event.capture());
+        assertThat(event.getValue().getUserId()).isEqualTo("user-1");
+    }
+
+    @Test
+    void onProfileChanged_shouldNotPublishWhenTheChangeIsRolledBack() {
+        // Arrange
+        clearInvocations(eventPublisher);
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            UserEntity user = userRepository.findById("user-1").orElseThrow();
+            user.setAvatarUrl("new-avatar.jpg");
+            userRepository.flush();
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        verify(eventPublisher, never()).publish(any(UserProfileChangedEvent.class));
+    }
+}
@@ -0,0 +1,152 @@
+package com.localhost.pitchperfect.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.localhost.pitchperfect.application.dto.ChatMessageDto;
+import com.localhost.pitchperfect.infrastructure.persistence.WriteBehindChatPersistenceAdapter.DurabilityMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class WriteBehindChatPersistenceAdapterTest {
+
+    @Autowired
+    private ChatMessageJpaRepository chatMessageRepository;
+
+    @Autowired
+    private UserJpaRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        chatMessageRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM outbox_events");
+    }
+
+    @Test
+    void saveMessage_shouldReturnImmediatelyAndDrainOnShutdown() throws Exception {
+        // Arrange
+        WriteBehindChatPersistenceAdapter adapter = adapter(DurabilityMode.ASYNC, 60_000);
+
+        // Act
+        for (int i = 0; i < 450; i++) {
+            ChatMessageDto returned = adapter.saveMessage("room-1", message("Message " + i));
+            assertThat(returned.getContent()).isEqualTo("Message " + i);
+        }
+        adapter.shutdown();
+
+        // Assert
+        assertThat(adapter.getPendingCount()).isZero();
+        assertThat(chatMessageRepository.findByRoomIdOrderByTimestampAsc("room-1")).hasSize(450);
+        assertThat(outboxCount("room-1")).isEqualTo(450);
+    }
+
+    @Test
+    void saveMessage_shouldWaitForBatchCommitInGroupCommitMode() throws Exception {
+        // Arrange
+        WriteBehindChatPersistenceAdapter adapter = adapter(DurabilityMode.GROUP_COMMIT, 10);
+        ChatMessageDto message = message("Goal!");
+
+        // Act
+        adapter.saveMessage("room-2", message);
+
+        // Assert
+        assertThat(chatMessageRepository.findById(message.getId())).isPresent();
+        adapter.shutdown();
+    }
+
+    @Test
+    void saveMessage_shouldKeepValidRowsWhenBatchContainsDuplicate() throws Exception {
+        // Arrange
+        WriteBehindChatPersistenceAdapter adapter = adapter(DurabilityMode.ASYNC, 60_000);
+        ChatMessageDto message = message("Once");
+
+        // Act
+        adapter.saveMessage("room-3", message);
+        adapter.saveMessage("room-3", message);
+        adapter.saveMessage("room-3", message("Twice"));
+        adapter.shutdown();
+
+        // Assert
+        assertThat(chatMessageRepository.findByRoomIdOrderByTimestampAsc("room-3")).hasSize(2);
+        assertThat(outboxCount("room-3")).isEqualTo(2);
+    }
+
+    @Test
+    void saveMessage_shouldWriteEveryAcknowledgedMessageWhenShutdownRacesProducers() throws Exception {
+        // Arrange
+        WriteBehindChatPersistenceAdapter adapter = adapter(DurabilityMode.ASYNC, 5);
+        AtomicBoolean stopped = new AtomicBoolean();
+        AtomicInteger acknowledged = new AtomicInteger();
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        for (int p = 0; p < 4; p++) {
+            producers.execute(() -> {
+                // Keep saving until a little after shutdown, so some saves overlap it
+                int afterStop = 0;
+                while (afterStop < 5) {
+                    adapter.saveMessage("room-4", message("Chant"));
+                    acknowledged.incrementAndGet();
+                    if (stopped.get()) {
+                        afterStop++;
+                    }
+                }
+            });
+        }
+
+        // Act
+        while (acknowledged.get() < 200) {
+            Thread.sleep(1);
+        }
+        adapter.shutdown();
+        stopped.set(true);
+        producers.shutdown();
+        assertThat(producers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Assert
+        assertThat(chatMessageRepository.findByRoomIdOrderByTimestampAsc("room-4")).hasSize(acknowledged.get());
+    }
+
+    private WriteBehindChatPersistenceAdapter adapter(DurabilityMode mode, long flushIntervalMillis) {
+        OutboxWriter outboxWriter = new OutboxWriter(jdbcTemplate, new ObjectMapper().findAndRegisterModules());
+        ChatPersistenceAdapter delegate = new ChatPersistenceAdapter(chatMessageRepository, userRepository, outboxWriter);
+        return new WriteBehindChatPersistenceAdapter(delegate, jdbcTemplate, outboxWriter, transactionManager,
+                mode, 1000, 100, flushIntervalMillis, 5000);
+    }
+
+    private int outboxCount(String roomId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = ?",
+                Integer.class, roomId);
+    }
+
+    private ChatMessageDto message(String content) {
+        ChatMessageDto message = new ChatMessageDto();
+        message.setId(UUID.randomUUID().toString());
+        message.setContent(content);
+        message.setTimestamp(Instant.now());
+        message.setSender(new ChatMessageDto.SenderDto("user-1", "fan", "avatar.jpg"));
+        return message;
+    }
+}
@@ -0,0 +1,90 @@
+package com.localhost.pitchperfect.infrastructure.redis.adapter;
+
+import com.localhost.pitchperfect.infrastructure.persistence.UserJpaRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RedisPersistenceAdapterTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private RedisPresenceWriter presenceWriter;
+
+    @Mock
+    private UserJpaRepository userRepository;
+
+    @InjectMocks
+    private RedisPersistenceAdapter redisPersistenceAdapter;
+
+    @Test
+    void removeAllUserSubscriptions_shouldDeleteIndexWithoutScanningKeys() {
+        // Act
+        redisPersistenceAdapter.removeAllUserSubscriptions("user-1");
+
+        // Assert
+        verify(presenceWriter).deleteHash("user:subscriptions:user-1");
+        verify(redisTemplate, never()).keys(anyString());
+    }
+
+    @Test
+    void getRoomIdBySubscription_shouldServePendingSubscriptionWhileRedisIsDown() throws InterruptedException {
+        // Arrange
+        RedisPresenceWriter writer = new RedisPresenceWriter(redisTemplate, 60_000, 500, 1000, 0);
+        RedisPersistenceAdapter adapter = new RedisPersistenceAdapter(redisTemplate, writer, userRepository);
+        adapter.saveUserSubscription("user-1", "user-1:room-1", "room-1");
+        adapter.saveUserSubscription("user-1", "user-1:room-2", "room-2");
+        adapter.removeUserSubscription("user-1", "user-1:room-2");
+
+        // Act
+        String subscribed = adapter.getRoomIdBySubscription("user-1", "user-1:room-1");
+        String removed = adapter.getRoomIdBySubscription("user-1", "user-1:room-2");
+
+        // Assert
+        assertThat(subscribed).isEqualTo("room-1");
+        assertThat(removed).isNull();
+        verifyNoInteractions(redisTemplate);
+        writer.shutdown();
+    }
+
+    @Test
+    void getRoomIdBySubscription_shouldReadFromUserIndex() {
+        // Arrange
+        when(presenceWriter.isRedisAvailable()).thenReturn(true);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.get("user:subscriptions:user-1", "user-1:room-1")).thenReturn("room-1");
+
+        // Act
+        String roomId = redisPersistenceAdapter.getRoomIdBySubscription("user-1", "user-1:room-1");
+
+        // Assert
+        assertThat(roomId).isEqualTo("room-1");
+    }
+
+    @Test
+    void getUsernameById_shouldServePendingWriteWithoutRedisRoundTrip() {
+        // Arrange
+        when(presenceWriter.getPending("user:name:user-1")).thenReturn("fan");
+
+        // Act
+        String username = redisPersistenceAdapter.getUsernameById("user-1");
+
+        // Assert
+        assertThat(username).isEqualTo("fan");
+        verifyNoInteractions(redisTemplate, userRepository);
+    }
+}
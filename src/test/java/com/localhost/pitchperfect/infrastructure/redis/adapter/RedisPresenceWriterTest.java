@@ -0,0 +1,134 @@
+package com.localhost.pitchperfect.infrastructure.redis.adapter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RedisPresenceWriterTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisOperations<String, Object> operations;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private RedisPresenceWriter presenceWriter;
+
+    @BeforeEach
+    void setUp() {
+        presenceWriter = new RedisPresenceWriter(redisTemplate, 60_000, 500, 1000, 0);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        presenceWriter.shutdown();
+    }
+
+    @Test
+    void flush_shouldCoalesceWritesPerKeyIntoOnePipeline() {
+        // Arrange
+        runPipelinesAgainstOperations();
+        when(operations.opsForValue()).thenReturn(valueOperations);
+        presenceWriter.set("user:status:user-1", "ONLINE", 60);
+        presenceWriter.set("user:status:user-1", "JOINED", 60);
+        presenceWriter.set("user:status:user-2", "ONLINE", 60);
+        presenceWriter.submit(ops -> ops.delete("user:subscriptions:user-3"));
+
+        // Act
+        presenceWriter.flush();
+
+        // Assert
+        verify(redisTemplate, times(1)).executePipelined(anyPipeline());
+        verify(valueOperations).set("user:status:user-1", "JOINED", 60, TimeUnit.SECONDS);
+        verify(valueOperations).set("user:status:user-2", "ONLINE", 60, TimeUnit.SECONDS);
+        verify(valueOperations, never()).set("user:status:user-1", "ONLINE", 60, TimeUnit.SECONDS);
+        verify(operations).delete("user:subscriptions:user-3");
+        assertThat(presenceWriter.getPending("user:status:user-1")).isNull();
+    }
+
+    @Test
+    void flush_shouldKeepWritesLocallyWhileRedisIsUnavailable() {
+        // Arrange
+        when(redisTemplate.executePipelined(anyPipeline()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        presenceWriter.set("user:name:user-1", "fan", 60);
+
+        // Act
+        presenceWriter.flush();
+
+        // Assert
+        assertThat(presenceWriter.isRedisAvailable()).isFalse();
+        assertThat(presenceWriter.getPending("user:name:user-1")).isEqualTo("fan");
+
+        // Recovers on the next attempt
+        runPipelinesAgainstOperations();
+        when(operations.opsForValue()).thenReturn(valueOperations);
+        presenceWriter.flush();
+        assertThat(presenceWriter.isRedisAvailable()).isTrue();
+        verify(valueOperations).set("user:name:user-1", "fan", 60, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void getPendingHashField_shouldServeQueuedHashWritesUntilTheyAreFlushed() {
+        // Arrange
+        when(redisTemplate.executePipelined(anyPipeline()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        String key = "user:subscriptions:user-1";
+        presenceWriter.putHashField(key, "sub-1", "room-1", 60);
+        presenceWriter.putHashField(key, "sub-2", "room-2", 60);
+        presenceWriter.deleteHashField(key, "sub-2");
+
+        // Act
+        presenceWriter.flush();
+
+        // Assert
+        assertThat(presenceWriter.getPendingHashField(key, "sub-1").getValue()).isEqualTo("room-1");
+        assertThat(presenceWriter.getPendingHashField(key, "sub-2").getValue()).isNull();
+        assertThat(presenceWriter.getPendingHashField(key, "sub-3")).isNull();
+
+        // Untracked once written
+        runPipelinesAgainstOperations();
+        when(operations.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        presenceWriter.flush();
+        verify(hashOperations).put(key, "sub-1", "room-1");
+        verify(hashOperations).delete(key, "sub-2");
+        assertThat(presenceWriter.getPendingHashField(key, "sub-1")).isNull();
+    }
+
+    private void runPipelinesAgainstOperations() {
+        // Stubbed without calling the mock, which may still be set up to fail
+        doAnswer(invocation -> {
+            SessionCallback<Object> callback = invocation.getArgument(0);
+            callback.execute(operations);
+            return List.of();
+        }).when(redisTemplate).executePipelined(anyPipeline());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SessionCallback<Object> anyPipeline() {
+        return any(SessionCallback.class);
+    }
+}
@@ -0,0 +1,32 @@
+package com.localhost.pitchperfect.infrastructure.redis.config;
+
+import com.localhost.pitchperfect.application.dto.PresenceStatusDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class RedisConfigTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void redisTemplate_shouldRoundTripPresenceStatusWithTimestamp() {
+        // Arrange
+        RedisTemplate<String, Object> template = new RedisConfig().redisTemplate(mock(RedisConnectionFactory.class));
+        RedisSerializer<Object> serializer = (RedisSerializer<Object>) template.getValueSerializer();
+        PresenceStatusDto status = new PresenceStatusDto("user-1", "alice",
+                PresenceStatusDto.PresenceStatus.ONLINE, Instant.parse("2024-05-01T12:00:00Z"));
+
+        // Act
+        Object restored = serializer.deserialize(serializer.serialize(status));
+
+        // Assert
+        assertThat(restored).isEqualTo(status);
+        assertThat(template.getHashValueSerializer()).isSameAs(serializer);
+    }
+}
@@ -0,0 +1,132 @@
+package com.localhost.pitchperfect.infrastructure.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JwtTokenProviderTest {
+
+    private static final String SECRET = "pitchperfectsecretkey123456789012345678901234567890";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtTokenProvider = new JwtTokenProvider(meterRegistry, SECRET, 60_000, 100);
+    }
+
+    @Test
+    void authenticate_shouldReturnPrincipalAndAuthorities() {
+        // Arrange
+        String token = jwtTokenProvider.createToken(user("alice"));
+
+        // Act
+        Optional<Authentication> authentication = jwtTokenProvider.authenticate(token);
+
+        // Assert
+        assertThat(authentication).isPresent();
+        assertThat(authentication.get().getName()).isEqualTo("alice");
+        assertThat(authentication.get().getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+        assertThat(jwtTokenProvider.getUserId(token)).isEqualTo("alice");
+    }
+
+    @Test
+    void authenticate_shouldServeRepeatedTokensFromCache() {
+        // Arrange
+        String token = jwtTokenProvider.createToken(user("alice"));
+
+        // Act
+        Authentication first = jwtTokenProvider.authenticate(token).orElseThrow();
+        Authentication second = jwtTokenProvider.authenticate(token).orElseThrow();
+
+        // Assert
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getName()).isEqualTo(first.getName());
+        assertThat(cacheGets("hit")).isEqualTo(1.0);
+        assertThat(cacheGets("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    void authenticate_shouldCacheTokensWithoutExpiry() {
+        // Arrange
+        String token = Jwts.builder()
+                .setSubject("alice")
+                .claim("auth", "ROLE_USER")
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+
+        // Act
+        jwtTokenProvider.authenticate(token);
+        Optional<Authentication> authentication = jwtTokenProvider.authenticate(token);
+
+        // Assert
+        assertThat(authentication).isPresent();
+        assertThat(cacheGets("hit")).isEqualTo(1.0);
+        assertThat(cacheGets("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    void authenticate_shouldAcceptTokensWithoutAuthoritiesClaim() {
+        // Arrange
+        String token = Jwts.builder()
+                .setSubject("alice")
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+
+        // Act
+        Optional<Authentication> authentication = jwtTokenProvider.authenticate(token);
+
+        // Assert
+        assertThat(authentication).isPresent();
+        assertThat(authentication.get().getAuthorities()).isEmpty();
+        assertThat(jwtTokenProvider.validateToken(token)).isTrue();
+    }
+
+    @Test
+    void authenticate_shouldRejectTamperedToken() {
+        // Arrange
+        String token = jwtTokenProvider.createToken(user("alice"));
+        jwtTokenProvider.authenticate(token);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // Act & Assert
+        assertThat(jwtTokenProvider.authenticate(tampered)).isEmpty();
+        assertThat(jwtTokenProvider.validateToken(tampered)).isFalse();
+    }
+
+    @Test
+    void authenticate_shouldRejectExpiredToken() {
+        // Arrange
+        JwtTokenProvider expiringProvider = new JwtTokenProvider(meterRegistry, SECRET, -1_000, 100);
+        String token = expiringProvider.createToken(user("alice"));
+
+        // Act & Assert
+        assertThat(jwtTokenProvider.authenticate(token)).isEmpty();
+    }
+
+    private static Authentication user(String name) {
+        return new UsernamePasswordAuthenticationToken(name, "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", JwtTokenProvider.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -0,0 +1,89 @@
+package com.localhost.pitchperfect.infrastructure.web;
+
+import com.localhost.pitchperfect.application.dto.ResourceVersion;
+import com.localhost.pitchperfect.application.dto.TeamDto;
+import com.localhost.pitchperfect.application.port.in.TeamUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class TeamControllerTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 8, 17, 15, 0, 0, 123_456_000);
+
+    @Mock
+    private TeamUseCase teamUseCase;
+
+    private MockMvc mockMvc;
+
+    private final UUID teamId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new TeamController(teamUseCase)).build();
+    }
+
+    @Test
+    void getTeamById_shouldReturnETagOnFullResponse() throws Exception {
+        // Arrange
+        when(teamUseCase.getTeamVersion(teamId)).thenReturn(new ResourceVersion(12, UPDATED_AT));
+        when(teamUseCase.getTeamById(teamId)).thenReturn(TeamDto.builder().id(teamId).name("Home United").build());
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/teams/{id}", teamId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn();
+
+        // Assert
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).startsWith("W/\"c-");
+    }
+
+    @Test
+    void getTeamById_shouldAnswerNotModifiedWithoutLoadingTheTeam() throws Exception {
+        // Arrange
+        ResourceVersion version = new ResourceVersion(12, UPDATED_AT);
+        when(teamUseCase.getTeamVersion(teamId)).thenReturn(version);
+
+        // Act
+        mockMvc.perform(get("/api/teams/{id}", teamId)
+                        .header(HttpHeaders.IF_NONE_MATCH, ConditionalRequests.eTag(version, null)))
+                .andExpect(status().isNotModified());
+
+        // Assert
+        verify(teamUseCase, never()).getTeamById(teamId);
+    }
+
+    @Test
+    void getAllTeams_shouldReturnFullResponseOnceTheVersionChanges() throws Exception {
+        // Arrange
+        ResourceVersion stale = new ResourceVersion(12, UPDATED_AT);
+        when(teamUseCase.getTeamsVersion()).thenReturn(new ResourceVersion(12, UPDATED_AT.plusNanos(1_000)));
+        when(teamUseCase.getAllTeams()).thenReturn(List.of());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/teams")
+                        .header(HttpHeaders.IF_NONE_MATCH, ConditionalRequests.eTag(stale, null)))
+                .andExpect(status().isOk());
+        verify(teamUseCase).getAllTeams();
+    }
+}
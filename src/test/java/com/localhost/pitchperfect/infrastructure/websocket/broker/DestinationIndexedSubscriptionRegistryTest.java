@@ -0,0 +1,110 @@
+package com.localhost.pitchperfect.infrastructure.websocket.broker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MultiValueMap;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DestinationIndexedSubscriptionRegistryTest {
+
+    private DestinationIndexedSubscriptionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new DestinationIndexedSubscriptionRegistry();
+    }
+
+    @Test
+    void findSubscriptions_shouldReturnOnlySubscribersOfDestination() {
+        // Arrange
+        for (int i = 0; i < 10_000; i++) {
+            registry.registerSubscription(subscribe("session-" + i, "sub-1", "/topic/matches/m1"));
+            registry.registerSubscription(subscribe("session-" + i, "sub-2", "/topic/matches/m2"));
+        }
+        registry.registerSubscription(subscribe("session-0", "sub-3", "/topic/matches/m1"));
+
+        // Act
+        MultiValueMap<String, String> subscriptions = registry.findSubscriptions(message("/topic/matches/m1"));
+
+        // Assert
+        assertThat(subscriptions).hasSize(10_000);
+        assertThat(subscriptions.get("session-0")).containsExactly("sub-1", "sub-3");
+        assertThat(subscriptions.get("session-1")).containsExactly("sub-1");
+    }
+
+    @Test
+    void findSubscriptions_shouldMatchPatternSubscriptions() {
+        // Arrange
+        registry.registerSubscription(subscribe("session-1", "sub-1", "/topic/matches/m1"));
+        registry.registerSubscription(subscribe("session-2", "sub-1", "/topic/matches/*"));
+
+        // Act
+        MultiValueMap<String, String> subscriptions = registry.findSubscriptions(message("/topic/matches/m1"));
+
+        // Assert
+        assertThat(subscriptions.keySet()).containsExactlyInAnyOrder("session-1", "session-2");
+    }
+
+    @Test
+    void unregister_shouldRemoveSubscriptionsAndEmptyDestinations() {
+        // Arrange
+        registry.registerSubscription(subscribe("session-1", "sub-1", "/topic/matches/m1"));
+        registry.registerSubscription(subscribe("session-1", "sub-2", "/topic/chat/room-1"));
+        registry.registerSubscription(subscribe("session-2", "sub-1", "/topic/matches/m1"));
+
+        // Act
+        registry.unregisterSubscription(unsubscribe("session-2", "sub-1"));
+        registry.unregisterAllSubscriptions("session-1");
+
+        // Assert
+        assertThat(registry.findSubscriptions(message("/topic/matches/m1"))).isEmpty();
+        assertThat(registry.findSubscriptions(message("/topic/chat/room-1"))).isEmpty();
+        assertThat(registry.getSessionCount("/topic/matches/m1")).isZero();
+    }
+
+    @Test
+    void findSubscriptions_shouldReportFanOutToListener() {
+        // Arrange
+        Map<String, Integer> fanOut = new HashMap<>();
+        registry = new DestinationIndexedSubscriptionRegistry(fanOut::put);
+        registry.registerSubscription(subscribe("session-1", "sub-1", "/topic/matches/m1"));
+        registry.registerSubscription(subscribe("session-2", "sub-1", "/topic/matches/m1"));
+
+        // Act
+        registry.findSubscriptions(message("/topic/matches/m1"));
+        registry.registerSubscription(subscribe("session-3", "sub-1", "/topic/chat/*"));
+        registry.findSubscriptions(message("/topic/chat/room-1"));
+
+        // Assert
+        assertThat(fanOut).containsEntry("/topic/matches/m1", 2).containsEntry("/topic/chat/room-1", 1);
+    }
+
+    private Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> unsubscribe(String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> message(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,147 @@
+package com.localhost.pitchperfect.infrastructure.websocket.channel;
+
+import com.localhost.pitchperfect.infrastructure.config.ThreadMode;
+import com.localhost.pitchperfect.infrastructure.config.VirtualThreads;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class SessionOrderedTaskExecutorTest {
+
+    private static final int SESSIONS = 8;
+    private static final int MESSAGES_PER_SESSION = 500;
+
+    private SessionOrderedTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        // Not created when a test is skipped before its Arrange step
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void execute_shouldHandleEachSessionsMessagesOneAtATimeInArrivalOrder() throws InterruptedException {
+        // Arrange
+        executor = executor(ThreadMode.PLATFORM, 4);
+
+        // Act & Assert
+        assertSessionOrder();
+    }
+
+    @Test
+    void execute_shouldKeepSessionOrderOnVirtualThreads() throws InterruptedException {
+        // Arrange
+        assumeTrue(VirtualThreads.isSupported(), "Virtual threads need Java 21");
+        executor = executor(ThreadMode.VIRTUAL, 1);
+
+        // Act & Assert
+        assertThat(executor.isVirtual()).isTrue();
+        assertSessionOrder();
+    }
+
+    @Test
+    void execute_shouldNotHoldUpOtherSessionsWhileOneIsBlocked() throws InterruptedException {
+        // Arrange
+        executor = executor(ThreadMode.PLATFORM, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherHandled = new CountDownLatch(3);
+
+        // Act
+        executor.execute(task("slow", () -> await(release)));
+        for (int i = 0; i < 3; i++) {
+            executor.execute(task("fast", otherHandled::countDown));
+        }
+
+        // Assert
+        assertThat(otherHandled.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+
+    private void assertSessionOrder() throws InterruptedException {
+        Map<String, List<Integer>> handled = new ConcurrentHashMap<>();
+        Map<String, AtomicInteger> running = new ConcurrentHashMap<>();
+        AtomicInteger overlaps = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(SESSIONS * MESSAGES_PER_SESSION);
+
+        for (int i = 0; i < MESSAGES_PER_SESSION; i++) {
+            for (int s = 0; s < SESSIONS; s++) {
+                String sessionId = "session-" + s;
+                int sequence = i;
+                executor.execute(task(sessionId, () -> {
+                    if (running.computeIfAbsent(sessionId, id -> new AtomicInteger()).incrementAndGet() > 1) {
+                        overlaps.incrementAndGet();
+                    }
+                    handled.computeIfAbsent(sessionId, id -> new CopyOnWriteArrayList<>()).add(sequence);
+                    running.get(sessionId).decrementAndGet();
+                    done.countDown();
+                }));
+            }
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < MESSAGES_PER_SESSION; i++) {
+            expected.add(i);
+        }
+        assertThat(overlaps.get()).isZero();
+        assertThat(handled).hasSize(SESSIONS);
+        assertThat(handled.values()).allSatisfy(sequences -> assertThat(sequences).isEqualTo(expected));
+    }
+
+    private SessionOrderedTaskExecutor executor(ThreadMode threadMode, int poolSize) {
+        SessionOrderedTaskExecutor taskExecutor = new SessionOrderedTaskExecutor(threadMode, "test-virtual-");
+        taskExecutor.setCorePoolSize(poolSize);
+        taskExecutor.setMaxPoolSize(poolSize);
+        taskExecutor.initialize();
+        return taskExecutor;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static MessageHandlingRunnable task(String sessionId, Runnable handler) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        return new MessageHandlingRunnable() {
+            @Override
+            public Message<?> getMessage() {
+                return message;
+            }
+
+            @Override
+            public MessageHandler getMessageHandler() {
+                return handledMessage -> { };
+            }
+
+            @Override
+            public void run() {
+                handler.run();
+            }
+        };
+    }
+}
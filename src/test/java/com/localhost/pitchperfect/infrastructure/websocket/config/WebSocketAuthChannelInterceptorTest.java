@@ -0,0 +1,85 @@
+package com.localhost.pitchperfect.infrastructure.websocket.config;
+
+import com.localhost.pitchperfect.infrastructure.security.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WebSocketAuthChannelInterceptorTest {
+
+    private static final String SECRET = "pitchperfectsecretkey123456789012345678901234567890";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private WebSocketAuthChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(new SimpleMeterRegistry(), SECRET, 60_000, 100);
+        interceptor = new WebSocketAuthChannelInterceptor(jwtTokenProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void preSend_shouldAttachUserToConnectWithValidToken() {
+        // Arrange
+        String token = jwtTokenProvider.createToken(new UsernamePasswordAuthenticationToken(
+                "alice", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        Message<byte[]> connect = connect("Bearer " + token);
+
+        // Act
+        Message<?> result = interceptor.preSend(connect, null);
+
+        // Assert
+        assertThat(result).isSameAs(connect);
+        assertThat(StompHeaderAccessor.wrap(result).getUser()).isNotNull();
+        assertThat(StompHeaderAccessor.wrap(result).getUser().getName()).isEqualTo("alice");
+    }
+
+    @Test
+    void preSend_shouldRejectConnectWithoutToken() {
+        // Arrange
+        Message<byte[]> connect = connect(null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> interceptor.preSend(connect, null))
+                .isInstanceOf(MessagingException.class);
+    }
+
+    @Test
+    void preSend_shouldRejectConnectWithInvalidToken() {
+        // Arrange
+        Message<byte[]> connect = connect("Bearer not-a-jwt");
+
+        // Act & Assert
+        assertThatThrownBy(() -> interceptor.preSend(connect, null))
+                .isInstanceOf(MessagingException.class);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private static Message<byte[]> connect(String authorization) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        if (authorization != null) {
+            accessor.setNativeHeader("Authorization", authorization);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,75 @@
+package com.localhost.pitchperfect.infrastructure.websocket.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WebSocketMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private WebSocketMetrics webSocketMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        webSocketMetrics = new WebSocketMetrics(meterRegistry, new StaticListableBeanFactory(), false);
+    }
+
+    @Test
+    void destinationTypes_shouldGroupDestinationsWithoutTheirIds() {
+        // Act & Assert
+        assertThat(DestinationTypes.of("/topic/matches/6f1c")).isEqualTo("match");
+        assertThat(DestinationTypes.of("/topic/matches/6f1c/score")).isEqualTo("match-score");
+        assertThat(DestinationTypes.of("/app/chat/room-1")).isEqualTo("chat");
+        assertThat(DestinationTypes.of("/topic/presence/room-1")).isEqualTo("presence");
+        assertThat(DestinationTypes.of("/user/queue/errors")).isEqualTo("user");
+        assertThat(DestinationTypes.of(null)).isEqualTo("none");
+    }
+
+    @Test
+    void recordFanOut_shouldRecordSessionsByDestinationType() {
+        // Act
+        webSocketMetrics.recordFanOut("/topic/matches/m1", 120);
+        webSocketMetrics.recordFanOut("/topic/matches/m2", 30);
+        webSocketMetrics.recordFanOut("/topic/chat/room-1", 5);
+
+        // Assert
+        DistributionSummary matches = meterRegistry.get("websocket.broadcast.fanout").tag("type", "match").summary();
+        assertThat(matches.count()).isEqualTo(2);
+        assertThat(matches.totalAmount()).isEqualTo(150);
+        assertThat(meterRegistry.get("websocket.broadcast.fanout").tag("type", "chat").summary().max()).isEqualTo(5);
+    }
+
+    @Test
+    void handlingTimer_shouldTimeHandledMessagesByChannelAndDestinationType() {
+        // Arrange
+        ExecutorChannelInterceptor interceptor = webSocketMetrics.handlingTimer("outbound");
+        Message<?> message = message("/topic/presence/room-1");
+
+        // Act
+        interceptor.beforeHandle(message, null, null);
+        interceptor.afterMessageHandled(message, null, null, null);
+
+        // Assert
+        Timer timer = meterRegistry.get("websocket.channel.handling")
+                .tags("channel", "outbound", "type", "presence")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    private Message<?> message(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
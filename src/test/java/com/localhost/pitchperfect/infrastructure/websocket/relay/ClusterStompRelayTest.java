@@ -0,0 +1,130 @@
+package com.localhost.pitchperfect.infrastructure.websocket.relay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ClusterStompRelayTest {
+
+    @Mock
+    private MessageChannel brokerChannelA;
+
+    @Mock
+    private MessageChannel brokerChannelB;
+
+    private InMemoryClusterRelayTransport transport;
+    private ClusterStompRelay nodeA;
+    private ClusterStompRelay nodeB;
+
+    @BeforeEach
+    void setUp() {
+        transport = new InMemoryClusterRelayTransport();
+        nodeA = relay(brokerChannelA);
+        nodeB = relay(brokerChannelB);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        nodeA.shutdown();
+        nodeB.shutdown();
+    }
+
+    @Test
+    void preSend_shouldRedispatchTopicMessagesOnOtherNodesOnly() {
+        // Arrange
+        Message<byte[]> goal = message("/topic/matches/m1", "{\"type\":\"GOAL\"}");
+
+        // Act
+        nodeA.preSend(goal, brokerChannelA);
+        nodeA.flush();
+
+        // Assert
+        verify(brokerChannelA, never()).send(any());
+        ArgumentCaptor<Message<?>> relayed = ArgumentCaptor.forClass(Message.class);
+        verify(brokerChannelB).send(relayed.capture());
+        assertThat(SimpMessageHeaderAccessor.getDestination(relayed.getValue().getHeaders()))
+                .isEqualTo("/topic/matches/m1");
+        assertThat(new String((byte[]) relayed.getValue().getPayload(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"type\":\"GOAL\"}");
+
+        // A re-dispatched message is not relayed back
+        nodeB.preSend(relayed.getValue(), brokerChannelB);
+        nodeB.flush();
+        verify(brokerChannelA, never()).send(any());
+    }
+
+    @Test
+    void receive_shouldDropDuplicateFrames() throws Exception {
+        // Arrange
+        String batch = new ObjectMapper().writeValueAsString(List.of(
+                new RelayFrame("id-1", "other-node", "/topic/matches/m1", null, new byte[]{1})));
+
+        // Act
+        nodeB.receive(batch);
+        nodeB.receive(batch);
+
+        // Assert
+        verify(brokerChannelB, times(1)).send(any());
+    }
+
+    @Test
+    void preSend_shouldKeepQueueDestinationsLocal() {
+        // Act
+        nodeA.preSend(message("/queue/errors", "{}"), brokerChannelA);
+        nodeA.flush();
+
+        // Assert
+        verifyNoInteractions(brokerChannelB);
+    }
+
+    @Test
+    void flush_shouldKeepPublishingAfterAFailedBatch() throws InterruptedException {
+        // Arrange
+        ClusterRelayTransport failingOnce = mock(ClusterRelayTransport.class);
+        doThrow(new IllegalStateException("Connection reset"))
+                .doNothing()
+                .when(failingOnce).publish(any());
+        ClusterStompRelay relay = new ClusterStompRelay(failingOnce, brokerChannelA, new ObjectMapper(),
+                List.of("/topic"), 1, 1000, 60_000, 60, 10_000);
+        relay.preSend(message("/topic/matches/m1", "{}"), brokerChannelA);
+        relay.preSend(message("/topic/matches/m2", "{}"), brokerChannelA);
+
+        // Act
+        relay.flush();
+        relay.shutdown();
+
+        // Assert
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(failingOnce, times(2)).publish(published.capture());
+        assertThat(published.getAllValues().get(1)).contains("/topic/matches/m2");
+    }
+
+    private ClusterStompRelay relay(MessageChannel brokerChannel) {
+        return new ClusterStompRelay(transport, brokerChannel, new ObjectMapper(), List.of("/topic"),
+                256, 1000, 60_000, 60, 10_000);
+    }
+
+    private Message<byte[]> message(String destination, String payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,214 @@
+package com.localhost.pitchperfect.infrastructure.websocket.session;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class BackpressureWebSocketSessionTest {
+
+    private static final String SCORE_TOPIC = "/topic/matches/m1/score";
+
+    private SimpleMeterRegistry meterRegistry;
+    private BackpressureSessionManager manager;
+    private WebSocketSession delegate;
+    private List<String> delivered;
+    private CountDownLatch firstSendStarted;
+    private CountDownLatch releaseClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        delivered = new CopyOnWriteArrayList<>();
+        firstSendStarted = new CountDownLatch(1);
+        releaseClient = new CountDownLatch(1);
+
+        // A client that stalls on the first frame until the test releases it
+        delegate = mock(WebSocketSession.class);
+        when(delegate.getId()).thenReturn("s1");
+        doAnswer(invocation -> {
+            firstSendStarted.countDown();
+            releaseClient.await(5, TimeUnit.SECONDS);
+            delivered.add(((WebSocketMessage<?>) invocation.getArgument(0)).getPayload().toString());
+            return null;
+        }).when(delegate).sendMessage(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseClient.countDown();
+        manager.shutdown();
+    }
+
+    @Test
+    void sendMessage_shouldDropOldestMessagesWhenQueueIsFull() throws Exception {
+        // Arrange
+        BackpressureWebSocketSession session = session(OverflowPolicy.DROP_OLDEST, 2);
+        stallOn(session, frame("/topic/chat", "0"));
+
+        // Act
+        session.sendMessage(frame("/topic/chat", "1"));
+        session.sendMessage(frame("/topic/chat", "2"));
+        session.sendMessage(frame("/topic/chat", "3"));
+
+        // Assert
+        assertThat(session.getQueueDepth()).isEqualTo(2);
+        releaseClient.countDown();
+        awaitDelivered(3);
+        assertThat(delivered).extracting(BackpressureWebSocketSessionTest::body).containsExactly("0", "2", "3");
+        assertThat(dropped("oldest")).isEqualTo(1.0);
+    }
+
+    @Test
+    void sendMessage_shouldDropOldestMessagesWhenQueuedBytesExceedTheLimit() throws Exception {
+        // Arrange
+        String large = "x".repeat(400);
+        int frameBytes = frame("/topic/chat", large).getPayloadLength();
+        BackpressureWebSocketSession session = session(OverflowPolicy.DROP_OLDEST, 100, frameBytes * 2);
+        stallOn(session, frame("/topic/chat", "0"));
+
+        // Act
+        session.sendMessage(frame("/topic/chat", large));
+        session.sendMessage(frame("/topic/chat", large));
+        session.sendMessage(frame("/topic/chat", large + "!"));
+
+        // Assert
+        assertThat(session.getQueueDepth()).isEqualTo(1);
+        releaseClient.countDown();
+        awaitDelivered(2);
+        assertThat(delivered).extracting(BackpressureWebSocketSessionTest::body).containsExactly("0", large + "!");
+        assertThat(dropped("oldest")).isEqualTo(2.0);
+    }
+
+    @Test
+    void sendMessage_shouldKeepOnlyLatestFrameForConflatedDestination() throws Exception {
+        // Arrange
+        BackpressureWebSocketSession session = session(OverflowPolicy.DROP_OLDEST, 100);
+        stallOn(session, frame("/topic/chat", "0"));
+
+        // Act
+        session.sendMessage(frame(SCORE_TOPIC, "1-0"));
+        session.sendMessage(frame("/topic/chat", "hello"));
+        session.sendMessage(frame(SCORE_TOPIC, "2-0"));
+        session.sendMessage(frame(SCORE_TOPIC, "2-1"));
+
+        // Assert
+        assertThat(session.getQueueDepth()).isEqualTo(2);
+        releaseClient.countDown();
+        awaitDelivered(3);
+        assertThat(delivered).extracting(BackpressureWebSocketSessionTest::body).containsExactly("0", "2-1", "hello");
+        assertThat(dropped("conflated")).isEqualTo(2.0);
+    }
+
+    @Test
+    void sendMessage_shouldNeverDropNonMessageFrames() throws Exception {
+        // Arrange
+        BackpressureWebSocketSession session = session(OverflowPolicy.DROP_OLDEST, 2);
+        stallOn(session, frame("/topic/chat", "0"));
+
+        // Act
+        session.sendMessage(new TextMessage("RECEIPT\nreceipt-id:r1\n\n\u0000"));
+        session.sendMessage(frame("/topic/chat", "1"));
+        session.sendMessage(frame("/topic/chat", "2"));
+
+        // Assert
+        releaseClient.countDown();
+        awaitDelivered(3);
+        assertThat(delivered.get(1)).startsWith("RECEIPT");
+        assertThat(body(delivered.get(2))).isEqualTo("2");
+    }
+
+    @Test
+    void sendMessage_shouldDisconnectWhenPolicyIsDisconnect() throws Exception {
+        // Arrange
+        BackpressureWebSocketSession session = session(OverflowPolicy.DISCONNECT, 1);
+        stallOn(session, frame("/topic/chat", "0"));
+
+        // Act
+        session.sendMessage(frame("/topic/chat", "1"));
+        session.sendMessage(frame("/topic/chat", "2"));
+        session.sendMessage(frame("/topic/chat", "3"));
+
+        // Assert
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(session.getQueueDepth()).isZero();
+        assertThat(dropped("disconnect")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("websocket.session.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    void closeStuckSessions_shouldCloseASessionWhoseSendRunsPastTheTimeLimit() throws Exception {
+        // Arrange
+        manager = new BackpressureSessionManager(meterRegistry, OverflowPolicy.DROP_OLDEST, 100, 1_000_000, 64, 50,
+                List.of("/topic/matches/*/score"), 2, 10);
+        WebSocketHandler handler = mock(WebSocketHandler.class);
+        manager.decorate(handler).afterConnectionEstablished(delegate);
+        ArgumentCaptor<WebSocketSession> decorated = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(handler).afterConnectionEstablished(decorated.capture());
+        BackpressureWebSocketSession session = (BackpressureWebSocketSession) decorated.getValue();
+        // Closing the connection fails the blocked send
+        doAnswer(invocation -> {
+            releaseClient.countDown();
+            return null;
+        }).when(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+
+        // Act
+        stallOn(session, frame("/topic/chat", "0"));
+        session.sendMessage(frame("/topic/chat", "1"));
+
+        // Assert
+        verify(delegate, timeout(5000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(dropped("disconnect")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("websocket.session.queue.depth").gauge().value()).isZero();
+    }
+
+    private BackpressureWebSocketSession session(OverflowPolicy policy, int maxQueuedFrames) {
+        return session(policy, maxQueuedFrames, 1_000_000);
+    }
+
+    private BackpressureWebSocketSession session(OverflowPolicy policy, int maxQueuedFrames, int maxQueuedBytes) {
+        manager = new BackpressureSessionManager(meterRegistry, policy, maxQueuedFrames, maxQueuedBytes, 64, 10_000,
+                List.of("/topic/matches/*/score"), 2, 1000);
+        return new BackpressureWebSocketSession(delegate, manager);
+    }
+
+    private void stallOn(BackpressureWebSocketSession session, TextMessage first) throws Exception {
+        session.sendMessage(first);
+        assertThat(firstSendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void awaitDelivered(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (delivered.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(delivered).hasSize(count);
+    }
+
+    private double dropped(String reason) {
+        return meterRegistry.get("websocket.session.frames.dropped").tag("reason", reason).counter().count();
+    }
+
+    private static TextMessage frame(String destination, String body) {
+        return new TextMessage("MESSAGE\nsubscription:sub-0\ndestination:" + destination + "\n\n" + body + "\u0000");
+    }
+
+    private static String body(String frame) {
+        return frame.substring(frame.indexOf("\n\n") + 2, frame.length() - 1);
+    }
+}